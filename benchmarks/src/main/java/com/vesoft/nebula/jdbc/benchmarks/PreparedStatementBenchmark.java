@@ -0,0 +1,77 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.benchmarks;
+
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * placeholder replacement of prepared statements, by number and type of the parameters
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PreparedStatementBenchmark {
+    @Param({"1", "8", "32"})
+    private int placeholders;
+
+    @Param({"long", "string", "datetime", "list"})
+    private String type;
+
+    private String   gql;
+    private Object[] parameters;
+
+    @Setup
+    public void setup() {
+        StringBuilder template = new StringBuilder("match (v:Person) where ");
+        parameters = new Object[placeholders];
+        for (int i = 0; i < placeholders; i++) {
+            if (i > 0) {
+                template.append(" and ");
+            }
+            template.append("v.p").append(i).append(" = ?");
+            parameters[i] = parameter(i);
+        }
+        gql = template.append(" return v").toString();
+    }
+
+    private Object parameter(int i) {
+        switch (type) {
+            case "long":
+                return 1_000_000L + i;
+            case "string":
+                return "name-" + i;
+            case "datetime":
+                return LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i);
+            case "list":
+                return Arrays.asList(i, i + 1, i + 2);
+            default:
+                throw new IllegalArgumentException(type);
+        }
+    }
+
+    @Benchmark
+    public String render() throws SQLException {
+        return NebulaPreparedStatementImpl.render(gql, parameters);
+    }
+}
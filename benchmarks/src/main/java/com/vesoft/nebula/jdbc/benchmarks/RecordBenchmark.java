@@ -0,0 +1,64 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.benchmarks;
+
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * lookup of a column by name in a wide record
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordBenchmark {
+    @Param({"8", "64", "256"})
+    private int columns;
+
+    private NebulaRecord record;
+    private String       first;
+    private String       middle;
+    private String       last;
+
+    @Setup
+    public void setup() {
+        record = Rows.scalars(1, columns).getRecords().get(0);
+        // fresh strings, so lookups cannot rely on identity
+        first = new String("c0");
+        middle = new String("c" + columns / 2);
+        last = new String("c" + (columns - 1));
+    }
+
+    @Benchmark
+    public ValueWrapper getFirst() {
+        return record.get(first);
+    }
+
+    @Benchmark
+    public ValueWrapper getMiddle() {
+        return record.get(middle);
+    }
+
+    @Benchmark
+    public ValueWrapper getLast() {
+        return record.get(last);
+    }
+}
@@ -0,0 +1,119 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.benchmarks;
+
+import com.vesoft.nebula.jdbc.NebulaResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * iteration of a result set and its getters by index and by label, each invocation reads all rows
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultSetBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"4", "32"})
+    private int columns;
+
+    private Rows     data;
+    private String[] labels;
+
+    @Setup
+    public void setup() {
+        data = Rows.scalars(rows, columns);
+        labels = data.getColumnNames().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void next(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getRow());
+            }
+        }
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    blackhole.consume(read(resultSet, column));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void getByLabel(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                for (int column = 0; column < columns; column++) {
+                    blackhole.consume(read(resultSet, labels[column], column));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void getObject(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    blackhole.consume(resultSet.getObject(column));
+                }
+            }
+        }
+    }
+
+    /**
+     * read the column with the typed getter of its value, columns cycle through long, double, string and bool
+     */
+    private static Object read(NebulaResultSet resultSet, int column) throws SQLException {
+        switch ((column - 1) % 4) {
+            case 0:
+                return resultSet.getLong(column);
+            case 1:
+                return resultSet.getDouble(column);
+            case 2:
+                return resultSet.getString(column);
+            default:
+                return resultSet.getBoolean(column);
+        }
+    }
+
+    private static Object read(NebulaResultSet resultSet, String label, int column) throws SQLException {
+        switch (column % 4) {
+            case 0:
+                return resultSet.getLong(label);
+            case 1:
+                return resultSet.getDouble(label);
+            case 2:
+                return resultSet.getString(label);
+            default:
+                return resultSet.getBoolean(label);
+        }
+    }
+}
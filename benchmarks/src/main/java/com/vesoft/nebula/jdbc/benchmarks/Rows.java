@@ -0,0 +1,97 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.benchmarks;
+
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.driver.graph.decode.ColumnType;
+import com.vesoft.nebula.jdbc.NebulaResultSet;
+import com.vesoft.nebula.jdbc.values.ListRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * in-memory rows for the result set benchmarks, no graphd is involved
+ */
+final class Rows {
+    private final List<String>       columnNames;
+    private final List<NebulaRecord> records;
+
+    private Rows(List<String> columnNames, List<NebulaRecord> records) {
+        this.columnNames = columnNames;
+        this.records = records;
+    }
+
+    /**
+     * rows whose columns cycle through long, double, string and bool values
+     */
+    static Rows scalars(int rowCount, int columnCount) {
+        List<String>       columnNames = columnNames(columnCount);
+        List<NebulaRecord> records     = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            List<ValueWrapper> values = new ArrayList<>(columnCount);
+            for (int column = 0; column < columnCount; column++) {
+                switch (column % 4) {
+                    case 0:
+                        values.add(new ValueWrapper((long) row * column, ColumnType.COLUMN_TYPE_INT64));
+                        break;
+                    case 1:
+                        values.add(new ValueWrapper(row * 0.5, ColumnType.COLUMN_TYPE_FLOAT64));
+                        break;
+                    case 2:
+                        values.add(new ValueWrapper("value-" + row, ColumnType.COLUMN_TYPE_STRING));
+                        break;
+                    default:
+                        values.add(new ValueWrapper(row % 2 == 0, ColumnType.COLUMN_TYPE_BOOL));
+                }
+            }
+            records.add(new NebulaRecord(columnNames, values));
+        }
+        return new Rows(columnNames, records);
+    }
+
+    /**
+     * rows of a local datetime, a date and a local time column
+     */
+    static Rows temporals(int rowCount) {
+        List<String>       columnNames = columnNames(3);
+        List<NebulaRecord> records     = new ArrayList<>(rowCount);
+        LocalDateTime      start       = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int row = 0; row < rowCount; row++) {
+            LocalDateTime      datetime = start.plusSeconds(row * 37L);
+            List<ValueWrapper> values   = new ArrayList<>(3);
+            values.add(new ValueWrapper(datetime, ColumnType.COLUMN_TYPE_LOCALDATETIME));
+            values.add(new ValueWrapper(datetime.toLocalDate(), ColumnType.COLUMN_TYPE_DATE));
+            values.add(new ValueWrapper(datetime.toLocalTime(), ColumnType.COLUMN_TYPE_LOCALTIME));
+            records.add(new NebulaRecord(columnNames, values));
+        }
+        return new Rows(columnNames, records);
+    }
+
+    private static List<String> columnNames(int columnCount) {
+        List<String> columnNames = new ArrayList<>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            columnNames.add("c" + column);
+        }
+        return columnNames;
+    }
+
+    List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    List<NebulaRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * @return a fresh result set over the rows, the records are shared
+     */
+    NebulaResultSet resultSet() {
+        return new NebulaResultSet(new ListRecordCursor(columnNames, records), null);
+    }
+}
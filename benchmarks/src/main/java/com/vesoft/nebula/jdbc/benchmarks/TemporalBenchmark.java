@@ -0,0 +1,83 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.benchmarks;
+
+import com.vesoft.nebula.jdbc.NebulaResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * conversions of nebula temporal values to java.sql types, each invocation reads all rows
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TemporalBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    private Rows     data;
+    private Calendar calendar;
+
+    @Setup
+    public void setup() {
+        data = Rows.temporals(rows);
+        calendar = Calendar.getInstance(TimeZone.getTimeZone("Asia/Shanghai"));
+    }
+
+    @Benchmark
+    public void getTimestamp(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getTimestamp(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getTimestampWithCalendar(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getTimestamp(1, calendar));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getDate(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getDate(2));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getTime(Blackhole blackhole) throws SQLException {
+        try (NebulaResultSet resultSet = data.resultSet()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getTime(3));
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.benchmarks;
+
+import com.vesoft.nebula.jdbc.UrlParser;
+import java.net.URISyntaxException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * parsing of jdbc urls, which runs for every new connection
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UrlParserBenchmark {
+    @Param({"jdbc:nebula://127.0.0.1:9669",
+            "jdbc:nebula://192.168.8.6:3820,192.168.8.7:3820,192.168.8.8:3820/movie?user=root&password=nebula"
+                    + "&maxClientSize=16&requestTimeout=30000"})
+    private String url;
+
+    @Benchmark
+    public Properties parse() throws URISyntaxException {
+        return UrlParser.parse(url, new Properties());
+    }
+}
@@ -0,0 +1,176 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.loader;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaDriver;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.bulk.FieldType;
+import com.vesoft.nebula.jdbc.bulk.FileLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Command line entry of {@link FileLoader}, loads the files in the given order, such as the node files before the
+ * edge files.
+ *
+ * <pre>
+ * java -jar nebula-jdbc-loader.jar --url jdbc:nebula://127.0.0.1:9669 --user root --password nebula
+ *      --parallelism 8 --checkpoint-dir checkpoints
+ *      --load users.csv "unwind ? as r insert or replace (v:User{id:r.id, name:r.name})"
+ *          --columns id:integer,name:string
+ *      --load follow.jsonl "unwind ? as r match (a:User{id:r.src}), (b:User{id:r.dst}) insert (a)-[:Follow]->(b)"
+ * </pre>
+ * Files ending with .jsonl or .json are read as JSON Lines, others as CSV. Options after a --load apply to that file.
+ */
+public class NebulaLoader {
+    private static final String USAGE = "usage: NebulaLoader --url <url> [--user <user>] [--password <password>] "
+            + "[--parallelism <n>] [--batch-size <rows>] [--max-request-bytes <bytes>] [--checkpoint-dir <dir>] "
+            + "--load <file> <gql template> [--delimiter <c>] [--no-header] [--columns <name:type,..>] "
+            + "[--load ..]";
+
+    private final Properties properties      = new Properties();
+    private       String     url;
+    private       int        parallelism     = 4;
+    private       int        batchSize       = 10000;
+    private       int        maxRequestBytes = 4 * 1024 * 1024;
+    private       Path       checkpointDir;
+
+    private final List<Job> jobs = new ArrayList<>();
+
+    public static void main(String[] args) {
+        NebulaLoader loader = new NebulaLoader();
+        try {
+            loader.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        try {
+            loader.run();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    void parse(String[] args) {
+        Job job = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--url":
+                    url = value(args, ++i, arg);
+                    break;
+                case "--user":
+                    properties.setProperty("user", value(args, ++i, arg));
+                    break;
+                case "--password":
+                    properties.setProperty("password", value(args, ++i, arg));
+                    break;
+                case "--parallelism":
+                    parallelism = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--batch-size":
+                    batchSize = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--max-request-bytes":
+                    maxRequestBytes = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--checkpoint-dir":
+                    checkpointDir = Paths.get(value(args, ++i, arg));
+                    break;
+                case "--load":
+                    job = new Job(Paths.get(value(args, ++i, arg)), value(args, ++i, arg));
+                    jobs.add(job);
+                    break;
+                case "--delimiter":
+                    jobOf(job, arg).delimiter = value(args, ++i, arg).charAt(0);
+                    break;
+                case "--no-header":
+                    jobOf(job, arg).header = false;
+                    break;
+                case "--columns":
+                    jobOf(job, arg).columns = value(args, ++i, arg).split(",");
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown option " + arg);
+            }
+        }
+        if (url == null || jobs.isEmpty()) {
+            throw new IllegalArgumentException("--url and at least one --load are required");
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("missing value of " + option);
+        }
+        return args[index];
+    }
+
+    private static Job jobOf(Job job, String option) {
+        if (job == null) {
+            throw new IllegalArgumentException(option + " should follow a --load");
+        }
+        return job;
+    }
+
+    void run() throws SQLException {
+        properties.setProperty(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), String.valueOf(parallelism));
+        try (NebulaConnection connection = new NebulaDriver().connect(url, properties)
+                                                             .unwrap(NebulaConnection.class)) {
+            for (Job job : jobs) {
+                long start  = System.nanoTime();
+                long rows   = job.builder(this).build(connection).load();
+                long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+                System.out.printf("loaded %d rows of %s in %d ms, %d rows/s%n", rows, job.file, millis,
+                                  rows * 1000 / millis);
+            }
+        }
+    }
+
+    private static class Job {
+        private final Path     file;
+        private final String   gqlTemplate;
+        private       char     delimiter = ',';
+        private       boolean  header    = true;
+        private       String[] columns;
+
+        Job(Path file, String gqlTemplate) {
+            this.file = file;
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        FileLoader.Builder builder(NebulaLoader loader) {
+            String             name    = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            FileLoader.Builder builder = name.endsWith(".jsonl") || name.endsWith(".json")
+                                         ? FileLoader.jsonLines(file, gqlTemplate)
+                                         : FileLoader.csv(file, gqlTemplate).delimiter(delimiter).header(header);
+            if (columns != null) {
+                for (String column : columns) {
+                    String[]  nameAndType = column.split(":", 2);
+                    FieldType type        = nameAndType.length == 1
+                                     ? FieldType.STRING
+                                     : FieldType.valueOf(nameAndType[1].trim().toUpperCase(Locale.ROOT));
+                    builder.column(nameAndType[0].trim(), type);
+                }
+            }
+            if (loader.checkpointDir != null) {
+                builder.checkpoint(loader.checkpointDir.resolve(file.getFileName() + ".checkpoint"));
+            }
+            return builder.parallelism(loader.parallelism)
+                          .batchSize(loader.batchSize)
+                          .maxRequestBytes(loader.maxRequestBytes);
+        }
+    }
+}
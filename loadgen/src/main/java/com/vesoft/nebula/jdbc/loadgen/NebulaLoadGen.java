@@ -0,0 +1,442 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.loadgen;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaDriver;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Load generator which drives graphd through the JDBC driver, with the same code path as applications.
+ *
+ * <pre>
+ * java -jar nebula-jdbc-loadgen.jar --url jdbc:nebula://127.0.0.1:9669/social --user root --password nebula
+ *      --mode open --rate 5000 --concurrency 64 --sessions 16 --duration 120 --warmup 10
+ *      --mix point-read=80,k-hop=15,insert=5 --ids 1000000 --batch-size 100
+ *      --point-read "match (v:User{id:?}) return v.name"
+ * </pre>
+ * In closed loop mode every worker starts its next operation when the previous one returned, paced to the rate if
+ * one is given. In open loop mode operations start at the rate no matter how many are still running, as arriving
+ * users would. In both modes latency is measured from the intended start of an operation, so a stalled graphd shows
+ * up in the percentiles instead of slowing down the load. Throughput and latency percentiles of each operation type
+ * are printed every report interval and at the end.
+ */
+public class NebulaLoadGen {
+    private static final String USAGE = "usage: NebulaLoadGen --url <url> [--user <user>] [--password <password>] "
+            + "[--property <key=value>].. [--mode closed|open] [--rate <ops/s>] [--concurrency <n>] "
+            + "[--virtual-threads] [--sessions <n>] [--duration <s>] [--warmup <s>] [--report-interval <s>] "
+            + "[--mix <operation=weight,..>] [--ids <n>] [--insert-start <id>] [--batch-size <rows>] "
+            + "[--max-outstanding <n>] [--point-read <gql>] [--k-hop <gql>] [--insert <gql>]";
+
+    private final Properties properties      = new Properties();
+    private       String     url;
+    private       boolean    openLoop        = false;
+    private       long       rate            = 0;
+    private       int        concurrency     = 8;
+    private       boolean    virtualThreads  = false;
+    private       int        sessions        = 0;
+    private       long       durationSeconds = 60;
+    private       long       warmupSeconds   = 5;
+    private       long       reportSeconds   = 10;
+    private       long       ids             = 1_000_000;
+    private       long       insertStart     = 0;
+    private       int        batchSize       = 100;
+    private       int        maxOutstanding  = 10000;
+
+    private final Map<Operation, String>  templates = new EnumMap<>(Operation.class);
+    private final Map<Operation, Integer> weights   = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, OperationStats> stats       = new EnumMap<>(Operation.class);
+    private       Operation[]                    mix;
+    private       int[]                          cumulative;
+    private final AtomicLong                     insertIds   = new AtomicLong();
+    private final AtomicInteger                  outstanding = new AtomicInteger();
+    private final LongAdder                      skipped     = new LongAdder();
+    private final AtomicBoolean                  firstError  = new AtomicBoolean(true);
+    private volatile boolean                     stopped     = false;
+    private       NebulaConnection               connection;
+
+    public static void main(String[] args) {
+        NebulaLoadGen loadGen = new NebulaLoadGen();
+        try {
+            loadGen.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        try {
+            loadGen.run();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--url":
+                    url = value(args, ++i, arg);
+                    break;
+                case "--user":
+                    properties.setProperty("user", value(args, ++i, arg));
+                    break;
+                case "--password":
+                    properties.setProperty("password", value(args, ++i, arg));
+                    break;
+                case "--property":
+                    String[] keyValue = value(args, ++i, arg).split("=", 2);
+                    if (keyValue.length != 2) {
+                        throw new IllegalArgumentException("--property should be key=value: " + args[i]);
+                    }
+                    properties.setProperty(keyValue[0].trim(), keyValue[1].trim());
+                    break;
+                case "--mode":
+                    String mode = value(args, ++i, arg);
+                    if (!mode.equals("open") && !mode.equals("closed")) {
+                        throw new IllegalArgumentException("--mode should be open or closed: " + mode);
+                    }
+                    openLoop = mode.equals("open");
+                    break;
+                case "--rate":
+                    rate = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--concurrency":
+                    concurrency = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--virtual-threads":
+                    virtualThreads = true;
+                    break;
+                case "--sessions":
+                    sessions = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--duration":
+                    durationSeconds = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--warmup":
+                    warmupSeconds = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--report-interval":
+                    reportSeconds = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--mix":
+                    parseMix(value(args, ++i, arg));
+                    break;
+                case "--ids":
+                    ids = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--insert-start":
+                    insertStart = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--batch-size":
+                    batchSize = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--max-outstanding":
+                    maxOutstanding = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--point-read":
+                case "--k-hop":
+                case "--insert":
+                    templates.put(Operation.of(arg.substring(2)), value(args, ++i, arg));
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown option " + arg);
+            }
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("--url is required");
+        }
+        if (openLoop && rate <= 0) {
+            throw new IllegalArgumentException("--mode open needs a positive --rate");
+        }
+        if (concurrency < 1 || durationSeconds < 1 || warmupSeconds < 0 || reportSeconds < 1 || ids < 1
+            || batchSize < 1 || maxOutstanding < 1 || rate < 0) {
+            throw new IllegalArgumentException("numeric options should be positive");
+        }
+        if (virtualThreads && !hasVirtualThreads()) {
+            throw new IllegalArgumentException("--virtual-threads needs java 21 or later");
+        }
+        if (weights.isEmpty()) {
+            weights.put(Operation.POINT_READ, 1);
+        }
+        buildMix();
+    }
+
+    private void parseMix(String value) {
+        for (String entry : value.split(",")) {
+            String[] nameAndWeight = entry.split("=", 2);
+            int      weight        = nameAndWeight.length == 1 ? 1 : Integer.parseInt(nameAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("weight should not be negative: " + entry);
+            }
+            weights.put(Operation.of(nameAndWeight[0].trim()), weight);
+        }
+    }
+
+    private void buildMix() {
+        weights.values().removeIf(weight -> weight == 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix should give at least one operation a positive weight");
+        }
+        mix = new Operation[weights.size()];
+        cumulative = new int[weights.size()];
+        int i   = 0;
+        int sum = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            sum += entry.getValue();
+            mix[i] = entry.getKey();
+            cumulative[i++] = sum;
+            templates.putIfAbsent(entry.getKey(), entry.getKey().getDefaultGql());
+            stats.put(entry.getKey(), new OperationStats(entry.getKey()));
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("missing value of " + option);
+        }
+        return args[index];
+    }
+
+    void run() throws SQLException, InterruptedException {
+        properties.setProperty(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(),
+                               String.valueOf(sessions > 0 ? sessions : concurrency));
+        insertIds.set(insertStart > 0 ? insertStart : ids + 1);
+        connection = new NebulaDriver().connect(url, properties).unwrap(NebulaConnection.class);
+        ExecutorService executor = newExecutor();
+        try {
+            System.out.printf("%s loop, %s, concurrency %d, %d sessions, warmup %d s, duration %d s%n",
+                              openLoop ? "open" : "closed", rate > 0 ? rate + " ops/s" : "unpaced", concurrency,
+                              connection.getSessionCount(), warmupSeconds, durationSeconds);
+            long    start      = System.nanoTime();
+            long    measured   = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long    end        = measured + TimeUnit.SECONDS.toNanos(durationSeconds);
+            Thread  dispatcher = null;
+            if (openLoop) {
+                dispatcher = new Thread(() -> dispatch(executor, start), "nebula-loadgen-dispatcher");
+                dispatcher.setDaemon(true);
+                dispatcher.start();
+            } else {
+                for (int i = 0; i < concurrency; i++) {
+                    executor.execute(() -> work(start));
+                }
+            }
+            report(start, measured, end);
+            stopped = true;
+            if (dispatcher != null) {
+                dispatcher.join();
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(connection.getQueryTimeout() + 10_000L, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+            summarize(System.nanoTime() - measured);
+        } finally {
+            executor.shutdownNow();
+            connection.close();
+        }
+    }
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return a virtual thread per task executor if asked for, looked up by reflection to run on java 8
+     */
+    private ExecutorService newExecutor() {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("cannot create virtual threads", e);
+            }
+        }
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "nebula-loadgen-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * closed loop worker, paced to its share of the rate if one is given.
+     */
+    private void work(long start) {
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0;
+        long next     = start;
+        while (!stopped) {
+            if (interval > 0) {
+                parkUntil(next);
+            } else {
+                next = System.nanoTime();
+            }
+            execute(pick(), next);
+            next += interval;
+        }
+    }
+
+    /**
+     * open loop dispatcher, starts operations at the rate until max-outstanding of them are running.
+     */
+    private void dispatch(ExecutorService executor, long start) {
+        long interval = Math.max(1, TimeUnit.SECONDS.toNanos(1) / rate);
+        long next     = start;
+        while (!stopped) {
+            parkUntil(next);
+            if (outstanding.get() >= maxOutstanding) {
+                skipped.increment();
+            } else {
+                long      intendedStart = next;
+                Operation operation     = pick();
+                outstanding.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        execute(operation, intendedStart);
+                    } finally {
+                        outstanding.decrementAndGet();
+                    }
+                });
+            }
+            next += interval;
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long wait;
+        while ((wait = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private Operation pick() {
+        if (mix.length == 1) {
+            return mix[0];
+        }
+        int dice = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < mix.length; i++) {
+            if (dice < cumulative[i]) {
+                return mix[i];
+            }
+        }
+        return mix[mix.length - 1];
+    }
+
+    private void execute(Operation operation, long intendedStart) {
+        OperationStats operationStats = stats.get(operation);
+        try {
+            int rows = operation.execute(connection, templates.get(operation),
+                                         operation == Operation.INSERT
+                                         ? insertIds::getAndIncrement
+                                         : () -> 1 + ThreadLocalRandom.current().nextLong(ids),
+                                         batchSize);
+            operationStats.record(System.nanoTime() - intendedStart, rows);
+        } catch (SQLException | RuntimeException e) {
+            operationStats.recordError(System.nanoTime() - intendedStart);
+            if (!stopped && firstError.getAndSet(false)) {
+                System.err.printf("%s failed, further errors are only counted: %s%n", operation.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * print the interval reports until the end, the values of the warmup are dropped.
+     */
+    private void report(long start, long measured, long end) {
+        boolean warm       = measured == start;
+        long    lastReport = start;
+        while (true) {
+            long now  = System.nanoTime();
+            long next = Math.min(end, lastReport + TimeUnit.SECONDS.toNanos(reportSeconds));
+            if (!warm) {
+                next = Math.min(next, measured);
+            }
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            if (!warm && now >= measured) {
+                for (OperationStats operationStats : stats.values()) {
+                    operationStats.reset();
+                }
+                skipped.reset();
+                warm = true;
+                lastReport = now;
+                System.out.println("warmup done");
+                continue;
+            }
+            printInterval(TimeUnit.NANOSECONDS.toSeconds(now - measured), now - lastReport);
+            lastReport = now;
+            if (now >= end) {
+                return;
+            }
+        }
+    }
+
+    private void printInterval(long elapsedSeconds, long intervalNanos) {
+        StringBuilder line    = new StringBuilder(String.format("[%5ds]", elapsedSeconds));
+        double        seconds = intervalNanos / 1e9;
+        for (OperationStats operationStats : stats.values()) {
+            Histogram interval = operationStats.sample();
+            line.append(String.format(" %s %.0f ops/s, %d errors, p99 %.3f ms;",
+                                      operationStats.getOperation().getName(),
+                                      interval.getTotalCount() / seconds,
+                                      operationStats.sampleErrors(),
+                                      interval.getValueAtPercentile(99) / 1000.0));
+        }
+        if (outstanding.get() > 0 && openLoop) {
+            line.append(" outstanding ").append(outstanding.get());
+        }
+        System.out.println(line);
+    }
+
+    private void summarize(long measuredNanos) {
+        double seconds = measuredNanos / 1e9;
+        System.out.printf("%n%-12s %12s %10s %12s %12s %10s %10s %10s %10s %10s%n", "operation", "count", "errors",
+                          "ops/s", "rows/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long count  = 0;
+        long errors = 0;
+        for (OperationStats operationStats : stats.values()) {
+            operationStats.sample();
+            Histogram total = operationStats.getTotal();
+            count += total.getTotalCount();
+            errors += operationStats.getErrors();
+            System.out.printf("%-12s %12d %10d %12.1f %12.1f%s%n", operationStats.getOperation().getName(),
+                              total.getTotalCount(), operationStats.getErrors(), total.getTotalCount() / seconds,
+                              operationStats.getRows() / seconds, OperationStats.percentiles(total));
+        }
+        System.out.printf("%-12s %12d %10d %12.1f%n", "total", count, errors, count / seconds);
+        if (skipped.sum() > 0) {
+            System.out.printf("%d operations were not started because %d were outstanding, the target rate was "
+                              + "not reached%n", skipped.sum(), maxOutstanding);
+        }
+    }
+}
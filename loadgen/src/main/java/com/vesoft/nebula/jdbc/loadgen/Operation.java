@@ -0,0 +1,114 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.loadgen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.LongSupplier;
+
+/**
+ * operation types of a workload, all of them go through prepared statements of the JDBC driver
+ */
+enum Operation {
+    /**
+     * read one element by id, the ? of the gql is the id
+     */
+    POINT_READ("point-read", "match (v:User{id:?}) return v") {
+        @Override
+        int execute(Connection connection, String gql, LongSupplier ids, int batchSize) throws SQLException {
+            return query(connection, gql, ids.getAsLong());
+        }
+    },
+    /**
+     * traverse the neighbourhood of one element, the ? of the gql is the id of the start element
+     */
+    K_HOP("k-hop", "match (v:User{id:?})-[e]->{1,2}(n) return count(n)") {
+        @Override
+        int execute(Connection connection, String gql, LongSupplier ids, int batchSize) throws SQLException {
+            return query(connection, gql, ids.getAsLong());
+        }
+    },
+    /**
+     * insert batchSize new elements in one executeBatch, the first ? of the gql is the id, the others get strings
+     */
+    INSERT("insert", "insert (v:User{id:?, name:?})") {
+        @Override
+        int execute(Connection connection, String gql, LongSupplier ids, int batchSize) throws SQLException {
+            int placeholders = placeholders(gql);
+            try (PreparedStatement statement = connection.prepareStatement(gql)) {
+                for (int row = 0; row < batchSize; row++) {
+                    long id = ids.getAsLong();
+                    statement.setLong(1, id);
+                    for (int i = 2; i <= placeholders; i++) {
+                        statement.setString(i, "value-" + id);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return batchSize;
+        }
+    };
+
+    private final String name;
+    private final String defaultGql;
+
+    Operation(String name, String defaultGql) {
+        this.name = name;
+        this.defaultGql = defaultGql;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getDefaultGql() {
+        return defaultGql;
+    }
+
+    /**
+     * execute one operation and read its whole result.
+     *
+     * @param ids       supplies the ids, read ids are random, insert ids are new
+     * @param batchSize rows of one insert
+     * @return number of rows read or written
+     */
+    abstract int execute(Connection connection, String gql, LongSupplier ids, int batchSize) throws SQLException;
+
+    static Operation of(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("unknown operation " + name);
+    }
+
+    private static int query(Connection connection, String gql, long id) throws SQLException {
+        int rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(gql)) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static int placeholders(String gql) {
+        int count = 0;
+        for (int i = 0; i < gql.length(); i++) {
+            if (gql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
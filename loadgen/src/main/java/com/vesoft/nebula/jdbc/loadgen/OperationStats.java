@@ -0,0 +1,104 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.loadgen;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * latency histogram and counters of one operation type, recorded by the workers and read by the reporter
+ */
+class OperationStats {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Operation operation;
+    private final Recorder  recorder = new Recorder(3);
+    private final Histogram total    = new Histogram(3);
+    private       Histogram interval;
+    private final LongAdder errors   = new LongAdder();
+    private final LongAdder rows     = new LongAdder();
+    private       long      intervalErrors;
+    private       long      errorBase;
+    private       long      rowBase;
+
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @param latencyNanos latency from the intended start of the operation, including the time it waited to start
+     */
+    void record(long latencyNanos, int rows) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        this.rows.add(rows);
+    }
+
+    void recordError(long latencyNanos) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        errors.increment();
+    }
+
+    /**
+     * take the values recorded since the last call into the total, only called by the reporter thread.
+     *
+     * @return the histogram of the interval, reused by the next call
+     */
+    Histogram sample() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return interval;
+    }
+
+    /**
+     * @return errors since the last call, only called by the reporter thread
+     */
+    long sampleErrors() {
+        long all   = errors.sum();
+        long delta = all - intervalErrors;
+        intervalErrors = all;
+        return delta;
+    }
+
+    /**
+     * drop the values recorded so far, such as the ones of the warmup. Only called by the reporter thread.
+     */
+    void reset() {
+        sample();
+        total.reset();
+        intervalErrors = errors.sum();
+        errorBase = intervalErrors;
+        rowBase = rows.sum();
+    }
+
+    Histogram getTotal() {
+        return total;
+    }
+
+    long getErrors() {
+        return errors.sum() - errorBase;
+    }
+
+    long getRows() {
+        return rows.sum() - rowBase;
+    }
+
+    /**
+     * @return p50, p90, p99 and p99.9 of the histogram in milliseconds, formatted for the report
+     */
+    static String percentiles(Histogram histogram) {
+        StringBuilder line = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(" %10.3f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        return line.append(String.format(" %10.3f", histogram.getMaxValue() / 1000.0)).toString();
+    }
+}
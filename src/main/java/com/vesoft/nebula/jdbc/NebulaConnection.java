@@ -6,11 +6,20 @@
 package com.vesoft.nebula.jdbc;
 
 import com.vesoft.nebula.driver.graph.data.ResultSet;
-import com.vesoft.nebula.driver.graph.net.NebulaClient;
+import com.vesoft.nebula.jdbc.cache.NebulaResultCache;
+import com.vesoft.nebula.jdbc.cache.WriteGenerations;
+import com.vesoft.nebula.jdbc.jfr.JfrEvents;
+import com.vesoft.nebula.jdbc.metrics.NebulaMetrics;
+import com.vesoft.nebula.jdbc.statement.GqlClassifier;
+import com.vesoft.nebula.jdbc.statement.NebulaPipeline;
 import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
 import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.transport.GraphTransport;
+import com.vesoft.nebula.jdbc.transport.NebulaClientTransport;
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
 import org.slf4j.LoggerFactory;
 import java.sql.Array;
+import java.sql.BatchUpdateException;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Clob;
@@ -25,55 +34,104 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class NebulaConnection implements Connection {
     private final org.slf4j.Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private Properties properties;
 
-    private NebulaClient client;
-    private boolean      closed = false;
+    private final NebulaSessionPool sessionPool;
+    private final NebulaMetrics     metrics;
+    private final boolean           estimateResultBytes;
+    private volatile String         sessionKey;
+    private volatile boolean        closed = false;
+    private ExecutorService         executor;
+    private volatile SingleFlight      singleFlight;
+    private volatile NebulaResultCache resultCache;
+    private volatile WriteGenerations  writeGenerations;
+
+    private final    TransactionBuffer transactionBuffer;
+    private volatile boolean           autoCommit = true;
 
     public NebulaConnection(String url, Properties props) throws SQLException {
+        this(url, props, null);
+    }
+
+    /**
+     * @param transport opens the graphd sessions, null for the transport named by
+     *                  {@link NebulaPropertyKey#TRANSPORT} or the nebula java driver
+     */
+    public NebulaConnection(String url, Properties props, GraphTransport transport) throws SQLException {
+        this(url, props, transport, NebulaMetrics.driver());
+    }
+
+    /**
+     * @param metrics metrics of the DataSource of this connection, or the driver metrics
+     */
+    NebulaConnection(String url, Properties props, GraphTransport transport, NebulaMetrics metrics)
+            throws SQLException {
         try {
             this.properties = UrlParser.parse(url, props);
         } catch (Exception e) {
             throw new SQLException(e);
         }
+        this.metrics = metrics;
+        this.estimateResultBytes = NebulaPropertyKey.ESTIMATERESULTBYTES.getBoolean(properties, false);
+        this.sessionPool = new NebulaSessionPool(properties, transport == null ? transportOf(properties) : transport,
+                                                 metrics);
+        this.sessionKey = sessionKeyOf(properties);
+        if (NebulaPropertyKey.COALESCEREADS.getBoolean(properties, false)) {
+            this.singleFlight = new SingleFlight();
+        }
+        this.transactionBuffer = new TransactionBuffer(
+                properties.getProperty(NebulaPropertyKey.TRANSACTIONSEPARATOR.getKeyName()),
+                NebulaPropertyKey.TRANSACTIONMAXREQUESTBYTES.getInt(properties, 4 * 1024 * 1024));
+        WriteGenerations generations = new WriteGenerations();
+        this.resultCache = NebulaResultCache.fromProperties(properties, generations);
+        if (resultCache != null) {
+            this.writeGenerations = generations;
+        }
+    }
 
-        NebulaClient.Builder builder = NebulaClient.builder(properties.getProperty(NebulaPropertyKey.ADDRESS.getKeyName()),
-                                                            properties.getProperty(NebulaPropertyKey.USER.getKeyName()),
-                                                            properties.getProperty(NebulaPropertyKey.PASSWORD.getKeyName()));
-        builder.withConnectTimeoutMills((int) properties.getOrDefault(NebulaPropertyKey.CONNECTTIMEOUT.getKeyName(), 3000));
-        builder.withRequestTimeoutMills((int) properties.getOrDefault(NebulaPropertyKey.REQUESTTIMEOUT.getKeyName(), 5000));
+    /**
+     * @return prefix of the result cache and single-flight keys, reads are only shared with the same session state
+     */
+    private static String sessionKeyOf(Properties properties) {
+        return String.format("user=%s;graph=%s;schema=%s;timezone=%s\n",
+                             properties.getProperty(NebulaPropertyKey.USER.getKeyName()),
+                             properties.getProperty(NebulaPropertyKey.DBNAME.getKeyName()),
+                             properties.getProperty(NebulaPropertyKey.SCHEMA.getKeyName()),
+                             properties.getProperty(NebulaPropertyKey.TIMEZONE.getKeyName()));
+    }
+
+    /**
+     * @return instance of the transport class named by {@link NebulaPropertyKey#TRANSPORT}, or the nebula java
+     *         driver transport if it is absent
+     */
+    static GraphTransport transportOf(Properties properties) throws SQLException {
+        String className = properties.getProperty(NebulaPropertyKey.TRANSPORT.getKeyName());
+        if (className == null || className.trim().isEmpty()) {
+            return new NebulaClientTransport();
+        }
         try {
-            client = builder.build();
-            if (properties.containsKey(NebulaPropertyKey.SCHEMA.getKeyName())) {
-                ResultSet res = client.execute(String.format("SESSION SET SCHEMA \"%s\"", properties.getProperty(NebulaPropertyKey.SCHEMA.getKeyName())));
-                if (!res.isSucceeded()) {
-                    throw new RuntimeException("SESSION SET SCHEMA failed: " + res.getErrorMessage());
-                }
-            }
-            if (properties.containsKey(NebulaPropertyKey.DBNAME.getKeyName())) {
-                ResultSet res = client.execute("SESSION SET GRAPH " + properties.getProperty(NebulaPropertyKey.DBNAME.getKeyName()));
-                if (!res.isSucceeded()) {
-                    throw new RuntimeException("SESSION SET GRAPH failed: " + res.getErrorMessage());
-                }
-            }
-            if (properties.containsKey(NebulaPropertyKey.TIMEZONE.getKeyName())) {
-                ResultSet res = client.execute(String.format("SESSION SET TIME ZONE \"%s\"", properties.getProperty(NebulaPropertyKey.TIMEZONE.getKeyName())));
-                if (!res.isSucceeded()) {
-                    throw new RuntimeException("SESSION SET TIME ZONE failed: " + res.getErrorMessage());
-                }
+            Object transport = Class.forName(className.trim()).getDeclaredConstructor().newInstance();
+            if (!(transport instanceof GraphTransport)) {
+                throw new SQLException(String.format("transport %s does not implement %s", className,
+                                                     GraphTransport.class.getName()));
             }
-        } catch (Exception e) {
-            if (client != null) {
-                client.close();
-            }
-            throw new SQLException(e);
+            return (GraphTransport) transport;
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("cannot create transport " + className, e);
         }
     }
 
@@ -95,15 +153,313 @@ public class NebulaConnection implements Connection {
         return new NebulaPreparedStatementImpl(this, gql);
     }
 
+    /**
+     * execute the gql on any free session of this connection.
+     *
+     * @throws SQLException if the gql is a write while auto-commit is off, see {@link #checkUnbuffered(String)}
+     */
     public ResultSet execute(String gql) throws SQLException {
+        checkUnbuffered(gql);
+        return send(gql);
+    }
+
+    private ResultSet send(String gql) throws SQLException {
+        if (GqlClassifier.isSessionSet(gql)) {
+            return executeSessionSet(gql);
+        }
+        try {
+            return recorded(gql, null, () -> sessionPool.execute(gql));
+        } finally {
+            afterExecute(gql);
+        }
+    }
+
+    /**
+     * execute the gql on the session of given slot, requests on the same slot are executed in order.
+     *
+     * @param sessionSlot slot got from {@link #nextSessionSlot()}
+     * @param gql         the gql to execute
+     */
+    public ResultSet execute(int sessionSlot, String gql) throws SQLException {
+        return execute(sessionSlot, gql, null);
+    }
+
+    /**
+     * execute the gql on the session of given slot, requests on the same slot are executed in order.
+     *
+     * @param sessionSlot slot got from {@link #nextSessionSlot()}
+     * @param gql         the gql to execute
+     * @param fingerprint fingerprint of the gql from {@link NebulaMetrics#fingerprintOf(String)}, computed here if
+     *                    null
+     * @throws SQLException if the gql is a write while auto-commit is off, see {@link #checkUnbuffered(String)}
+     */
+    public ResultSet execute(int sessionSlot, String gql, String fingerprint) throws SQLException {
+        checkUnbuffered(gql);
+        if (GqlClassifier.isSessionSet(gql)) {
+            return executeSessionSet(gql);
+        }
+        try {
+            return recorded(gql, fingerprint, () -> sessionPool.execute(sessionSlot, gql));
+        } finally {
+            afterExecute(gql);
+        }
+    }
+
+    /**
+     * send a SESSION SET to all sessions of this connection, so statements on every slot see the same graph, schema
+     * and time zone, and key the reads cached or coalesced from now on by the new state.
+     */
+    private ResultSet executeSessionSet(String gql) throws SQLException {
+        ResultSet                 result  = recorded(gql, null, () -> sessionPool.executeOnAll(gql));
+        Map.Entry<String, String> setting = GqlClassifier.sessionSetting(gql);
+        if (result.isSucceeded() && setting != null) {
+            NebulaPropertyKey key = setting.getKey().equals("GRAPH") ? NebulaPropertyKey.DBNAME
+                    : setting.getKey().equals("SCHEMA") ? NebulaPropertyKey.SCHEMA : NebulaPropertyKey.TIMEZONE;
+            properties.setProperty(key.getKeyName(), setting.getValue());
+            sessionKey = sessionKeyOf(properties);
+        }
+        return result;
+    }
+
+    /**
+     * run the session call and record its latency, result or failure and statement statistics.
+     *
+     * @param fingerprint fingerprint of the gql from {@link NebulaMetrics#fingerprintOf(String)}, computed if null
+     */
+    private ResultSet recorded(String gql, String fingerprint, SessionCall call) throws SQLException {
         checkClosed();
+        long start = System.nanoTime();
         try {
-            return client.execute(gql);
+            ResultSet result = call.execute();
+            long      nanos  = System.nanoTime() - start;
+            metrics.recordExecute(nanos, result);
+            metrics.recordStatement(fingerprint != null ? fingerprint : metrics.fingerprintOf(gql), nanos,
+                                    !result.isSucceeded());
+            return result;
         } catch (Exception e) {
+            long nanos = System.nanoTime() - start;
+            metrics.recordFailure(nanos, e);
+            metrics.recordStatement(fingerprint != null ? fingerprint : metrics.fingerprintOf(gql), nanos, true);
             throw new SQLException(e);
         }
     }
 
+    /**
+     * a request on the sessions of this connection
+     */
+    private interface SessionCall {
+        ResultSet execute() throws Exception;
+    }
+
+    /**
+     * invalidate the cached reads which a write may have changed, also when the write failed half way.
+     */
+    private void afterExecute(String gql) {
+        WriteGenerations generations = writeGenerations;
+        if (generations != null && generations.isTracking() && !GqlClassifier.isRead(gql)) {
+            generations.invalidate(graphOf(gql), GqlClassifier.labels(gql));
+        }
+    }
+
+
+    /**
+     * execute a read gql and decode its result. Reads with the same text, user, graph, schema and time zone
+     * are served from the result cache when it is enabled, and share one request while they are in flight at
+     * the same time when {@link NebulaPropertyKey#COALESCEREADS} is on.
+     *
+     * @param sessionSlot slot got from {@link #nextSessionSlot()}
+     * @param gql         the read gql
+     * @return the decoded result, shared between callers, and whether it was served without a request of this caller
+     */
+    public Read executeRead(int sessionSlot, String gql) throws SQLException {
+        return executeRead(sessionSlot, gql, null);
+    }
+
+    /**
+     * execute a read gql and decode its result, like {@link #executeRead(int, String)}.
+     *
+     * @param fingerprint fingerprint of the gql from {@link NebulaMetrics#fingerprintOf(String)}, computed if null
+     */
+    public Read executeRead(int sessionSlot, String gql, String fingerprint) throws SQLException {
+        String            key   = sessionKey + gql;
+        NebulaResultCache cache = resultCache;
+        if (cache != null) {
+            NebulaResultTable cached = cache.get(key);
+            if (cached != null) {
+                return new Read(cached, true);
+            }
+        }
+        boolean[] loaded = {false};
+        SingleFlight.Loader loader = () -> {
+            loaded[0] = true;
+            WriteGenerations.Stamp stamp = cache == null ? null : cache.stamp(graphOf(gql), GqlClassifier.labels(gql));
+            NebulaResultTable      table = decode(sessionSlot, gql, fingerprint);
+            if (cache != null) {
+                cache.put(key, table, stamp);
+            }
+            return table;
+        };
+        SingleFlight      flight = singleFlight;
+        NebulaResultTable table  = flight == null ? loader.load() : flight.execute(key, loader);
+        return new Read(table, !loaded[0]);
+    }
+
+    /**
+     * result of {@link #executeRead(int, String)}
+     */
+    public static class Read {
+        private final NebulaResultTable table;
+        private final boolean           shared;
+
+        Read(NebulaResultTable table, boolean shared) {
+            this.table = table;
+            this.shared = shared;
+        }
+
+        public NebulaResultTable getTable() {
+            return table;
+        }
+
+        /**
+         * @return true if the result came from the result cache or from the identical read of another caller
+         */
+        public boolean isShared() {
+            return shared;
+        }
+    }
+
+    private NebulaResultTable decode(int sessionSlot, String gql, String fingerprint) throws SQLException {
+        ResultSet result = execute(sessionSlot, gql, fingerprint);
+        NebulaStatementImpl.checkSucceeded(gql, result);
+        return NebulaResultTable.decode(result);
+    }
+
+    /**
+     * @return true if identical concurrent reads are coalesced
+     */
+    public boolean isCoalescingReads() {
+        return singleFlight != null;
+    }
+
+    /**
+     * @return true if read results are cached
+     */
+    public boolean isCachingReads() {
+        return resultCache != null;
+    }
+
+    /**
+     * @return true if the bytes of every row read from the driver are estimated even while no flight recording runs
+     */
+    public boolean isEstimatingResultBytes() {
+        return estimateResultBytes;
+    }
+
+    /**
+     * share the result cache of the DataSource.
+     */
+    void setResultCache(NebulaResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * share the write generations of the DataSource, so writes through any of its connections invalidate the
+     * caches of the DataSource.
+     */
+    void setWriteGenerations(WriteGenerations writeGenerations) {
+        this.writeGenerations = writeGenerations;
+    }
+
+    /**
+     * @return graph the gql runs on, from its USE clause or the connection's graph
+     */
+    public String graphOf(String gql) {
+        String graph = GqlClassifier.usedGraph(gql);
+        return graph != null ? graph : properties.getProperty(NebulaPropertyKey.DBNAME.getKeyName());
+    }
+
+    /**
+     * share the single-flight layer of the DataSource, so reads are coalesced across its connections.
+     */
+    void setSingleFlight(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * execute the gql asynchronously on any free session of this connection. At most {@link #getSessionCount()}
+     * requests are in flight at the same time, the others wait in submission order. A request whose future is
+     * cancelled or completed before its turn comes is skipped without taking a session.
+     *
+     * @param gql the gql to execute
+     * @return future of the driver result, failed if the gql is a write while auto-commit is off
+     */
+    public CompletableFuture<ResultSet> executeAsync(String gql) {
+        CompletableFuture<ResultSet> future = new CompletableFuture<>();
+        try {
+            checkClosed();
+            checkUnbuffered(gql);
+            getExecutor().execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(execute(gql));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (SQLException | RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * create a pipeline to submit independent gql back to back without waiting for the previous response.
+     *
+     * @return a new pipeline on this connection
+     */
+    public NebulaPipeline pipeline() throws SQLException {
+        checkClosed();
+        return new NebulaPipeline(new NebulaStatementImpl(this));
+    }
+
+    private synchronized ExecutorService getExecutor() throws SQLException {
+        checkClosed();
+        if (executor == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(sessionPool.size(), r -> {
+                Thread thread = new Thread(r, "nebula-jdbc-executor-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * assign a session slot for a statement, slots are assigned in round-robin order.
+     *
+     * @return the session slot
+     */
+    public int nextSessionSlot() {
+        return sessionPool.nextSlot();
+    }
+
+    /**
+     * @return metrics this connection records into, the ones of its DataSource or the driver metrics
+     */
+    public NebulaMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return number of graphd sessions held by this connection, configured by {@link NebulaPropertyKey#MAXCLIENTSIZE}
+     */
+    public int getSessionCount() {
+        return sessionPool.size();
+    }
+
     @Override
     public CallableStatement prepareCall(String sql) throws SQLException {
         return null;
@@ -116,31 +472,141 @@ public class NebulaConnection implements Connection {
 
     @Override
     public void setAutoCommit(boolean autoCommit) throws SQLException {
-
+        checkClosed();
+        if (autoCommit && !this.autoCommit) {
+            commit();
+        }
+        this.autoCommit = autoCommit;
     }
 
     @Override
     public boolean getAutoCommit() throws SQLException {
-        return false;
+        return autoCommit;
+    }
+
+    /**
+     * buffer the write until commit if auto-commit is off, SESSION SET is applied at once.
+     *
+     * @return true if the write was buffered and must not be executed now
+     */
+    public boolean bufferWrite(String gql) throws SQLException {
+        if (!isBuffered(gql)) {
+            return false;
+        }
+        checkClosed();
+        transactionBuffer.add(gql);
+        return true;
+    }
+
+    /**
+     * check that the gql may skip the transaction buffer: the statements of this connection buffer writes while
+     * auto-commit is off, a write sent straight to graphd could not be discarded by {@link #rollback()}.
+     *
+     * @throws SQLException if the gql is a write while auto-commit is off
+     */
+    public void checkUnbuffered(String gql) throws SQLException {
+        if (isBuffered(gql)) {
+            throw new SQLException("auto-commit is off, writes are only accepted through statements, which buffer "
+                                   + "them until commit: " + gql);
+        }
+    }
+
+    private boolean isBuffered(String gql) {
+        return !autoCommit && !GqlClassifier.isRead(gql) && !GqlClassifier.isSessionSet(gql);
     }
 
+    /**
+     * send the buffered writes in order, grouped into multi-statement requests if
+     * {@link NebulaPropertyKey#TRANSACTIONSEPARATOR} is set. graphd does not apply them atomically, if a request
+     * fails the writes of the previous requests stay applied, while the writes of the failed request and the
+     * remaining ones stay buffered to be committed again or discarded by {@link #rollback()}.
+     */
     @Override
     public void commit() throws SQLException {
+        checkClosed();
+        List<TransactionBuffer.Request> requests = transactionBuffer.requests();
+        int applied = 0;
+        for (TransactionBuffer.Request request : requests) {
+            try {
+                NebulaStatementImpl.checkSucceeded(request.gql, send(request.gql));
+            } catch (SQLException e) {
+                throw new SQLException(String.format("commit failed after %d buffered writes were applied, %d "
+                                                     + "writes are still buffered: %s", applied,
+                                                     transactionBuffer.size(), e.getMessage()),
+                                       e.getSQLState(), e.getErrorCode(), e);
+            }
+            transactionBuffer.remove(request.statements);
+            applied += request.statements;
+        }
+    }
 
+    /**
+     * execute the writes in order, grouped into multi-statement requests like on commit if
+     * {@link NebulaPropertyKey#TRANSACTIONSEPARATOR} is set. With auto-commit off the writes are buffered instead.
+     *
+     * @param sessionSlot slot got from {@link #nextSessionSlot()}
+     * @return update count of each write, {@link Statement#SUCCESS_NO_INFO} for a write sent together with others,
+     *         0 for a buffered write
+     * @throws BatchUpdateException if a request failed, its update counts are the ones of the writes before it
+     */
+    public int[] executeWrites(int sessionSlot, List<String> writes) throws SQLException {
+        checkClosed();
+        int[] counts = new int[writes.size()];
+        if (!autoCommit) {
+            for (String gql : writes) {
+                transactionBuffer.add(gql);
+            }
+            return counts;
+        }
+        int sent = 0;
+        for (TransactionBuffer.Request request : transactionBuffer.group(writes)) {
+            Object event    = JfrEvents.beginStatement();
+            long   affected = 0;
+            String error    = null;
+            try {
+                ResultSet result = execute(sessionSlot, request.gql);
+                NebulaStatementImpl.checkSucceeded(request.gql, result);
+                affected = result.getExtraInfo().getAffectedNodes() + result.getExtraInfo().getAffectedEdges();
+            } catch (SQLException e) {
+                error = String.valueOf(e.getMessage());
+                throw new BatchUpdateException(e.getMessage(), e.getSQLState(), e.getErrorCode(),
+                                               Arrays.copyOf(counts, sent), e);
+            } finally {
+                JfrEvents.commitStatement(event, request.gql, graphOf(request.gql), sessionSlot, false, affected,
+                                          error);
+            }
+            if (request.statements == 1) {
+                counts[sent] = (int) affected;
+            } else {
+                Arrays.fill(counts, sent, sent + request.statements, Statement.SUCCESS_NO_INFO);
+            }
+            sent += request.statements;
+        }
+        return counts;
     }
 
+    /**
+     * discard the buffered writes.
+     */
     @Override
     public void rollback() throws SQLException {
-
+        checkClosed();
+        transactionBuffer.clear();
     }
 
     @Override
     public void close() throws SQLException {
-        if (closed) {
-            return;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            transactionBuffer.clear();
+            if (executor != null) {
+                executor.shutdown();
+            }
         }
-        closed = true;
-        client.close();
+        sessionPool.close();
         logger.info("JDBCConnection closed.");
     }
 
@@ -301,7 +767,7 @@ public class NebulaConnection implements Connection {
 
     @Override
     public boolean isValid(int timeout) throws SQLException {
-        return client.ping();
+        return !closed && sessionPool.ping();
     }
 
     @Override
@@ -360,15 +826,24 @@ public class NebulaConnection implements Connection {
 
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
-        return null;
+        if (iface.isAssignableFrom(getClass())) {
+            return iface.cast(this);
+        } else if (iface.isInstance(metrics)) {
+            return iface.cast(metrics);
+        } else if (iface.isInstance(metrics.getStatementStatistics())) {
+            return iface.cast(metrics.getStatementStatistics());
+        } else {
+            throw new SQLException("This object does not implement the given interface");
+        }
     }
 
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
-        return false;
+        return iface.isAssignableFrom(getClass()) || iface.isInstance(metrics)
+               || iface.isInstance(metrics.getStatementStatistics());
     }
 
     public long getQueryTimeout() {
-        return client.getRequestTimeoutMills();
+        return sessionPool.getRequestTimeoutMills();
     }
 }
@@ -0,0 +1,361 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import com.vesoft.nebula.driver.graph.data.Edge;
+import com.vesoft.nebula.driver.graph.data.Node;
+import com.vesoft.nebula.jdbc.bulk.BulkMutation;
+import com.vesoft.nebula.jdbc.bulk.ResultSetCopy;
+import com.vesoft.nebula.jdbc.bulk.WriteBehindBuffer;
+import com.vesoft.nebula.jdbc.cache.NebulaEntityCache;
+import com.vesoft.nebula.jdbc.cache.NebulaResultCache;
+import com.vesoft.nebula.jdbc.cache.WriteGenerations;
+import com.vesoft.nebula.jdbc.graph.KHopTraversal;
+import com.vesoft.nebula.jdbc.metrics.NebulaMetrics;
+import com.vesoft.nebula.jdbc.metrics.StatementStatistics;
+import com.vesoft.nebula.jdbc.parallel.BatchedLookup;
+import com.vesoft.nebula.jdbc.parallel.GatherMode;
+import com.vesoft.nebula.jdbc.parallel.PartitionedScan;
+import com.vesoft.nebula.jdbc.parallel.ScatterGather;
+import com.vesoft.nebula.jdbc.transport.GraphTransport;
+import org.slf4j.LoggerFactory;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * DataSource of nebula connections.
+ *
+ * <p>Besides creating connections, the DataSource keeps one shared {@link NebulaConnection} whose sessions
+ * (configured by {@link NebulaPropertyKey#MAXCLIENTSIZE}) serve the concurrent helpers such as
+ * {@link #scatterGather(List, GatherMode, long, TimeUnit)}.
+ */
+public class NebulaDataSource implements DataSource, AutoCloseable {
+    private final org.slf4j.Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final AtomicInteger dataSourceIndex = new AtomicInteger();
+
+    private final String         url;
+    private final Properties     properties;
+    private final GraphTransport transport;
+
+    private final SingleFlight      singleFlight;
+    private final WriteGenerations  writeGenerations = new WriteGenerations();
+    private final NebulaResultCache resultCache;
+    private final NebulaEntityCache entityCache;
+    private final NebulaMetrics     metrics;
+
+    private final List<WriteBehindBuffer> writeBehindBuffers = new ArrayList<>();
+
+    private NebulaConnection sharedConnection;
+    private PrintWriter      logWriter;
+    private int              loginTimeout = 0;
+    private boolean          closed       = false;
+
+    public NebulaDataSource(String url, Properties properties) {
+        this(url, properties, null);
+    }
+
+    /**
+     * @param transport opens the graphd sessions of all connections, null for the transport named by
+     *                  {@link NebulaPropertyKey#TRANSPORT} or the nebula java driver
+     */
+    public NebulaDataSource(String url, Properties properties, GraphTransport transport) {
+        this.url = url;
+        this.transport = transport;
+        this.properties = new Properties();
+        if (properties != null) {
+            this.properties.putAll(properties);
+        }
+        this.singleFlight = NebulaPropertyKey.COALESCEREADS.getBoolean(this.properties, false) ? new SingleFlight() : null;
+        this.resultCache = NebulaResultCache.fromProperties(this.properties, writeGenerations);
+        this.entityCache = NebulaEntityCache.fromProperties(this.properties, writeGenerations);
+        String metricsName = this.properties.getProperty(NebulaPropertyKey.METRICSNAME.getKeyName(),
+                                                         "datasource-" + dataSourceIndex.incrementAndGet());
+        this.metrics = new NebulaMetrics(NebulaMetrics.driver()).registerDataSource(metricsName);
+        StatementStatistics statementStatistics = StatementStatistics.fromProperties(this.properties);
+        if (statementStatistics != null) {
+            metrics.enableStatementStatistics(statementStatistics);
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return metrics of the connections of this DataSource, registered as MBean
+     *         {@code com.vesoft.nebula.jdbc:type=DataSource,name=<metricsName>}
+     */
+    public NebulaMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkClosed();
+        return attach(new NebulaConnection(url, properties, transport, metrics));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkClosed();
+        Properties props = new Properties();
+        props.putAll(properties);
+        props.setProperty(NebulaPropertyKey.USER.getKeyName(), username);
+        props.setProperty(NebulaPropertyKey.PASSWORD.getKeyName(), password);
+        return attach(new NebulaConnection(url, props, transport, metrics));
+    }
+
+    /**
+     * share the DataSource level state with the connection
+     */
+    private NebulaConnection attach(NebulaConnection connection) {
+        if (singleFlight != null) {
+            connection.setSingleFlight(singleFlight);
+        }
+        connection.setResultCache(resultCache);
+        connection.setWriteGenerations(writeGenerations);
+        return connection;
+    }
+
+    /**
+     * the connection shared by the helpers of this DataSource, it is created on first use and closed with the
+     * DataSource. It is thread-safe and can also be used directly, but must not be closed by the caller.
+     */
+    public synchronized NebulaConnection getSharedConnection() throws SQLException {
+        checkClosed();
+        if (sharedConnection == null || sharedConnection.isClosed()) {
+            sharedConnection = attach(new NebulaConnection(url, properties, transport, metrics));
+        }
+        return sharedConnection;
+    }
+
+    /**
+     * execute the gql concurrently over the pooled sessions and merge their results into one ResultSet.
+     *
+     * @param gqls    the gql to execute, all of them must return the same columns
+     * @param mode    how to merge the results: concat, ordered merge or top-k
+     * @param timeout overall deadline for all gql
+     * @param unit    unit of timeout
+     * @return the merged ResultSet
+     */
+    public ResultSet scatterGather(List<String> gqls, GatherMode mode, long timeout, TimeUnit unit)
+            throws SQLException {
+        return new ScatterGather(getSharedConnection()).execute(gqls, mode, timeout, unit);
+    }
+
+    /**
+     * render the gql template with every parameter set, execute them concurrently over the pooled sessions and
+     * merge their results into one ResultSet.
+     *
+     * @param gqlTemplate   gql with ? placeholders
+     * @param parameterSets one parameter array per gql
+     * @param mode          how to merge the results: concat, ordered merge or top-k
+     * @param timeout       overall deadline for all gql
+     * @param unit          unit of timeout
+     * @return the merged ResultSet
+     */
+    public ResultSet scatterGather(String gqlTemplate, List<Object[]> parameterSets, GatherMode mode,
+                                   long timeout, TimeUnit unit) throws SQLException {
+        return new ScatterGather(getSharedConnection()).execute(gqlTemplate, parameterSets, mode, timeout, unit);
+    }
+
+    /**
+     * execute the partitions of the scan in parallel over the pooled sessions and stream the merged records with
+     * bounded buffering.
+     *
+     * @param scan the partitioned scan
+     * @return ResultSet over the records of all partitions
+     */
+    public ResultSet partitionedScan(PartitionedScan scan) throws SQLException {
+        return scan.execute(getSharedConnection());
+    }
+
+    /**
+     * execute the chunks of the lookup in parallel over the pooled sessions and stream their rows.
+     *
+     * @param lookup the batched lookup
+     * @return ResultSet over the rows of all chunks
+     */
+    public ResultSet batchedLookup(BatchedLookup lookup) throws SQLException {
+        return lookup.execute(getSharedConnection());
+    }
+
+    /**
+     * traverse from the start ids, expanding a whole frontier per hop over the pooled sessions.
+     *
+     * @param traversal the k-hop traversal
+     * @param startIds  ids of the start vertices
+     * @return the edges found and the visited vertices
+     */
+    public KHopTraversal.Result traverse(KHopTraversal traversal, Collection<Long> startIds) throws SQLException {
+        return traversal.execute(getSharedConnection(), startIds);
+    }
+
+    /**
+     * create a write-behind buffer which sends its batches over the pooled sessions, it is flushed and closed with
+     * this DataSource.
+     *
+     * @param builder configuration of the buffer
+     * @return the started buffer
+     */
+    public synchronized WriteBehindBuffer writeBehind(WriteBehindBuffer.Builder builder) throws SQLException {
+        WriteBehindBuffer buffer = builder.build(getSharedConnection());
+        writeBehindBuffers.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * create a bulk mutation whose chunks run over the pooled sessions.
+     *
+     * @param builder template and configuration of the mutation
+     */
+    public BulkMutation bulkMutation(BulkMutation.Builder builder) throws SQLException {
+        return builder.build(getSharedConnection());
+    }
+
+    /**
+     * copy the rows of a ResultSet of another driver over the pooled sessions.
+     *
+     * @param source  rows to copy, not closed by the copy
+     * @param builder mapping of the rows and configuration of the copy
+     * @return number of copied rows
+     */
+    public long copyFrom(ResultSet source, ResultSetCopy.Builder builder) throws SQLException {
+        return builder.build(getSharedConnection()).copyFrom(source);
+    }
+
+    /**
+     * look up nodes by their id property through the entity cache, all misses are fetched by one query.
+     *
+     * @param label label of the nodes
+     * @param ids   values of the id property
+     * @return the found nodes by id, absent ids are missing in the map
+     */
+    public Map<Object, Node> getNodes(String label, Collection<?> ids) throws SQLException {
+        return getNodes(label, "id", ids);
+    }
+
+    /**
+     * look up nodes by a key property through the entity cache, all misses are fetched by one query.
+     *
+     * @param label       label of the nodes
+     * @param keyProperty property the ids are matched against
+     * @param ids         values of the key property
+     * @return the found nodes by id, absent ids are missing in the map
+     */
+    public Map<Object, Node> getNodes(String label, String keyProperty, Collection<?> ids) throws SQLException {
+        return entityCache.getNodes(getSharedConnection(), label, keyProperty, ids);
+    }
+
+    /**
+     * look up edges by a key property through the entity cache, all misses are fetched by one query.
+     *
+     * @param label       label of the edges
+     * @param keyProperty property the ids are matched against
+     * @param ids         values of the key property
+     * @return the found edges by id, absent ids are missing in the map
+     */
+    public Map<Object, Edge> getEdges(String label, String keyProperty, Collection<?> ids) throws SQLException {
+        return entityCache.getEdges(getSharedConnection(), label, keyProperty, ids);
+    }
+
+    /**
+     * @return the entity cache behind {@link #getNodes(String, Collection)}
+     */
+    public NebulaEntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * @return the result cache shared by the connections of this DataSource, null if it is not enabled
+     */
+    public NebulaResultCache getResultCache() {
+        return resultCache;
+    }
+
+    private synchronized void checkClosed() throws SQLException {
+        if (closed) {
+            throw new SQLException("DataSource already closed.");
+        }
+    }
+
+    @Override
+    public synchronized void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (WriteBehindBuffer buffer : writeBehindBuffers) {
+            try {
+                buffer.close();
+            } catch (SQLException e) {
+                logger.error("failed to close write-behind buffer", e);
+            }
+        }
+        if (sharedConnection != null) {
+            sharedConnection.close();
+        }
+        metrics.unregister();
+        logger.info("NebulaDataSource closed.");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return loginTimeout;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isAssignableFrom(getClass())) {
+            return iface.cast(this);
+        } else if (iface.isInstance(metrics)) {
+            return iface.cast(metrics);
+        } else if (iface.isInstance(metrics.getStatementStatistics())) {
+            return iface.cast(metrics.getStatementStatistics());
+        } else {
+            throw new SQLException("This object does not implement the given interface");
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isAssignableFrom(getClass()) || iface.isInstance(metrics)
+               || iface.isInstance(metrics.getStatementStatistics());
+    }
+}
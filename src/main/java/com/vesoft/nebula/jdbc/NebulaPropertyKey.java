@@ -5,6 +5,8 @@
 
 package com.vesoft.nebula.jdbc;
 
+import java.util.Properties;
+
 public enum NebulaPropertyKey {
     USER("user", false),
     PASSWORD("password", false),
@@ -22,6 +24,20 @@ public enum NebulaPropertyKey {
     CONNECTTIMEOUT("connectTimeout", false),
     REQUESTTIMEOUT("requestTimeout", false),
     MAXWAITTIME("maxWaitTime", false),
+
+    COALESCEREADS("coalesceReads", false),
+    RESULTCACHEMAXENTRIES("resultCacheMaxEntries", false),
+    RESULTCACHEMAXBYTES("resultCacheMaxBytes", false),
+    RESULTCACHETTL("resultCacheTtl", false),
+    ENTITYCACHEMAXENTRIES("entityCacheMaxEntries", false),
+    ENTITYCACHETTL("entityCacheTtl", false),
+    TRANSACTIONSEPARATOR("transactionSeparator", false),
+    TRANSACTIONMAXREQUESTBYTES("transactionMaxRequestBytes", false),
+    TRANSPORT("transport", false),
+    METRICSNAME("metricsName", false),
+    STATEMENTSTATSMAXENTRIES("statementStatsMaxEntries", false),
+    STATEMENTSTATSRESETINTERVAL("statementStatsResetInterval", false),
+    ESTIMATERESULTBYTES("estimateResultBytes", false),
     ;
 
     private String  keyName;
@@ -35,4 +51,75 @@ public enum NebulaPropertyKey {
     public String getKeyName() {
         return this.keyName;
     }
+
+    /**
+     * read the int value of this key, the value may be set as Integer by api or as String by url.
+     *
+     * @param properties   connection properties
+     * @param defaultValue value to return if the key is absent
+     * @return int value of this key
+     */
+    public int getInt(Properties properties, int defaultValue) {
+        Object value = properties.get(keyName);
+        if (value == null) {
+            value = properties.getProperty(keyName);
+        }
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("invalid value %s for property %s", value, keyName));
+        }
+    }
+
+    /**
+     * read the long value of this key, the value may be set as Number by api or as String by url.
+     *
+     * @param properties   connection properties
+     * @param defaultValue value to return if the key is absent
+     * @return long value of this key
+     */
+    public long getLong(Properties properties, long defaultValue) {
+        Object value = properties.get(keyName);
+        if (value == null) {
+            value = properties.getProperty(keyName);
+        }
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("invalid value %s for property %s", value, keyName));
+        }
+    }
+
+    /**
+     * read the boolean value of this key, the value may be set as Boolean by api or as String by url.
+     *
+     * @param properties   connection properties
+     * @param defaultValue value to return if the key is absent
+     * @return boolean value of this key
+     */
+    public boolean getBoolean(Properties properties, boolean defaultValue) {
+        Object value = properties.get(keyName);
+        if (value == null) {
+            value = properties.getProperty(keyName);
+        }
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return Boolean.parseBoolean(value.toString().trim());
+    }
 }
@@ -7,15 +7,23 @@ package com.vesoft.nebula.jdbc;
 
 import com.vesoft.nebula.driver.graph.data.ResultSet;
 import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.jfr.JfrEvents;
+import com.vesoft.nebula.jdbc.metrics.NebulaMetrics;
 import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.values.DriverRecordCursor;
+import com.vesoft.nebula.jdbc.values.EmbeddingVectors;
 import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.FloatBuffer;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.Ref;
@@ -33,6 +41,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -41,7 +50,8 @@ public class NebulaResultSet implements java.sql.ResultSet {
 
     static final int                 SUPPORTED_FETCH_DIRECTION = java.sql.ResultSet.FETCH_FORWARD;
     static final int                 SUPPORTED_HOLDABILITY     = java.sql.ResultSet.CLOSE_CURSORS_AT_COMMIT;
-    private      ResultSet           resultSet;
+    private      NebulaRecordCursor  cursor;
+    private      List<String>        columnNames;
     private      NebulaStatementImpl statement;
 
     private NebulaRecord currentRecord;
@@ -54,10 +64,88 @@ public class NebulaResultSet implements java.sql.ResultSet {
     private final AtomicBoolean            last        = new AtomicBoolean(false);
     private final AtomicBoolean            afterLast   = new AtomicBoolean(false);
 
+    private final NebulaMetrics     metrics;
+    private final long              createdNanos = System.nanoTime();
+    private       long              bytesRead;
+    private       boolean           recorded     = false;
+    private final String            gql;
+    private final String            fingerprint;
+    private final Object            jfrEvent;
+    /**
+     * the decoded table this result reads, its bytes are estimated once instead of per row
+     */
+    private final NebulaResultTable table;
+    /**
+     * estimate the bytes of every row read, only for results not backed by a table while a flight recording runs
+     * or {@link NebulaPropertyKey#ESTIMATERESULTBYTES} is on
+     */
+    private final boolean           estimateRows;
 
     public NebulaResultSet(ResultSet resultSet, NebulaStatementImpl statement) {
-        this.resultSet = resultSet;
+        this(new DriverRecordCursor(resultSet), statement, null);
+    }
+
+    public NebulaResultSet(NebulaRecordCursor cursor, NebulaStatementImpl statement) {
+        this(cursor, statement, null);
+    }
+
+    /**
+     * @param gql the gql this result belongs to, for its statement statistics and flight recorder event, may be null
+     */
+    public NebulaResultSet(ResultSet resultSet, NebulaStatementImpl statement, String gql) {
+        this(new DriverRecordCursor(resultSet), statement, gql);
+    }
+
+    /**
+     * @param gql the gql this result belongs to, for its statement statistics and flight recorder event, may be null
+     */
+    public NebulaResultSet(NebulaRecordCursor cursor, NebulaStatementImpl statement, String gql) {
+        this(cursor, statement, gql, null);
+    }
+
+    /**
+     * @param gql         the gql this result belongs to, for its statement statistics and flight recorder event, may
+     *                    be null
+     * @param fingerprint fingerprint of the gql computed for its execution, null to compute it when the read is
+     *                    recorded
+     */
+    public NebulaResultSet(NebulaRecordCursor cursor, NebulaStatementImpl statement, String gql, String fingerprint) {
+        this(cursor, null, statement, gql, fingerprint);
+    }
+
+    /**
+     * @param table       the decoded table to read with a new cursor
+     * @param gql         the gql this result belongs to, for its statement statistics and flight recorder event, may
+     *                    be null
+     * @param fingerprint fingerprint of the gql computed for its execution, null to compute it when the read is
+     *                    recorded
+     */
+    public NebulaResultSet(NebulaResultTable table, NebulaStatementImpl statement, String gql, String fingerprint) {
+        this(table.cursor(), table, statement, gql, fingerprint);
+    }
+
+    private NebulaResultSet(NebulaRecordCursor cursor, NebulaResultTable table, NebulaStatementImpl statement,
+                            String gql, String fingerprint) {
+        this.cursor = cursor;
+        this.columnNames = cursor.getColumnNames();
         this.statement = statement;
+        NebulaConnection connection = connectionOf(statement);
+        this.metrics = connection == null ? null : connection.getMetrics();
+        this.gql = gql;
+        this.fingerprint = fingerprint;
+        this.jfrEvent = JfrEvents.beginResultRead();
+        this.table = table;
+        this.estimateRows = table == null
+                            && (jfrEvent != null || connection != null && connection.isEstimatingResultBytes());
+    }
+
+    private static NebulaConnection connectionOf(NebulaStatementImpl statement) {
+        try {
+            Connection connection = statement == null ? null : statement.getConnection();
+            return connection instanceof NebulaConnection ? (NebulaConnection) connection : null;
+        } catch (SQLException e) {
+            return null;
+        }
     }
 
     @Override
@@ -68,20 +156,83 @@ public class NebulaResultSet implements java.sql.ResultSet {
             first.compareAndSet(true, false);
         }
         assertIsOpen();
-        if (this.resultSet.hasNext()) {
-            ResultSet.Record rowRecord = resultSet.next();
-            this.currentRecord = new NebulaRecord(resultSet.getColumnNames(), rowRecord.values());
+        if (this.cursor.hasNext()) {
+            this.currentRecord = cursor.next();
             rowNumber++;
+            if (estimateRows) {
+                bytesRead += NebulaResultTable.estimatedBytes(currentRecord);
+            }
+            if (rowNumber == 1) {
+                if (metrics != null) {
+                    metrics.recordFirstRow(System.nanoTime() - createdNanos);
+                }
+                JfrEvents.firstRow(jfrEvent);
+            }
             return true;
         }
         this.currentRecord = null;
         afterLast.compareAndSet(false, true);
+        if (!recorded) {
+            recorded = true;
+            estimateTableBytes();
+            if (metrics != null) {
+                metrics.recordDrain(System.nanoTime() - createdNanos, rowNumber, bytesRead);
+                recordStatementRead();
+            }
+            commitJfrEvent(true);
+        }
         return false;
     }
 
     @Override
     public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
         closed = true;
+        if (!recorded) {
+            recorded = true;
+            estimateTableBytes();
+            if (metrics != null) {
+                metrics.recordPartialRead(rowNumber, bytesRead);
+                recordStatementRead();
+            }
+            commitJfrEvent(false);
+        }
+        cursor.close();
+    }
+
+    /**
+     * take the bytes read from the cached estimation of the table, in proportion to the rows read
+     */
+    private void estimateTableBytes() {
+        if (table != null && table.size() > 0) {
+            bytesRead = rowNumber == table.size() ? table.estimatedBytes()
+                                                  : table.estimatedBytes() * rowNumber / table.size();
+        }
+    }
+
+    private void recordStatementRead() {
+        if (gql != null) {
+            metrics.recordStatementRead(fingerprint != null ? fingerprint : metrics.fingerprintOf(gql), rowNumber,
+                                        bytesRead);
+        }
+    }
+
+    private void commitJfrEvent(boolean drained) {
+        if (jfrEvent == null) {
+            return;
+        }
+        String graph = null;
+        if (gql != null && statement != null) {
+            try {
+                Connection connection = statement.getConnection();
+                graph = connection instanceof NebulaConnection ? ((NebulaConnection) connection).graphOf(gql) : null;
+            } catch (SQLException ignored) {
+                // the event goes without its graph
+            }
+        }
+        JfrEvents.commitResultRead(jfrEvent, gql, graph, rowNumber, bytesRead, drained);
     }
 
     @Override
@@ -280,7 +431,7 @@ public class NebulaResultSet implements java.sql.ResultSet {
     @Override
     public int findColumn(String columnLabel) throws SQLException {
         assertIsOpen();
-        int index = resultSet.getColumnNames().indexOf(columnLabel);
+        int index = columnNames.indexOf(columnLabel);
         if (index == -1) {
             throw new SQLException("No such column is present");
         }
@@ -309,7 +460,7 @@ public class NebulaResultSet implements java.sql.ResultSet {
 
     @Override
     public boolean isLast() throws SQLException {
-        return !resultSet.hasNext();
+        return !cursor.hasNext();
     }
 
 
@@ -491,12 +642,72 @@ public class NebulaResultSet implements java.sql.ResultSet {
 
     @Override
     public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
-        throw new SQLFeatureNotSupportedException("not supported.");
+        return convert(getValueByColumnIndex(columnIndex), type);
     }
 
     @Override
     public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
-        throw new SQLFeatureNotSupportedException("not supported.");
+        return convert(getValueByColumnName(columnLabel), type);
+    }
+
+    /**
+     * besides the value's own class, embedding vectors can be read as float[].
+     */
+    private static <T> T convert(ValueWrapper value, Class<T> type) throws SQLException {
+        if (value.isNull()) {
+            return null;
+        }
+        if (type == float[].class) {
+            return type.cast(EmbeddingVectors.toFloatArray(EmbeddingVectors.asEmbeddingVector(value)));
+        }
+        Object object = value.getValue();
+        if (!type.isInstance(object)) {
+            throw new SQLException(String.format("can not convert %s to %s", value.getDataTypeString(),
+                                                 type.getName()));
+        }
+        return type.cast(object);
+    }
+
+    /**
+     * copy the embedding vector of the column into the target array, so reading many vectors needs no allocation
+     * per row.
+     *
+     * @param columnIndex the first column is 1
+     * @param target      array to copy the vector into
+     * @param offset      position in target of the first value
+     * @return the dimension of the vector, -1 if the value is null
+     */
+    public int getVector(int columnIndex, float[] target, int offset) throws SQLException {
+        ValueWrapper value = getValueByColumnIndex(columnIndex);
+        return value.isNull() ? -1 : EmbeddingVectors.copyTo(EmbeddingVectors.asEmbeddingVector(value), target, offset);
+    }
+
+    /**
+     * @see #getVector(int, float[], int)
+     */
+    public int getVector(String columnLabel, float[] target, int offset) throws SQLException {
+        ValueWrapper value = getValueByColumnName(columnLabel);
+        return value.isNull() ? -1 : EmbeddingVectors.copyTo(EmbeddingVectors.asEmbeddingVector(value), target, offset);
+    }
+
+    /**
+     * copy the embedding vector of the column into the target buffer at its position.
+     *
+     * @param columnIndex the first column is 1
+     * @param target      buffer to copy the vector into, for example a direct buffer shared with native code
+     * @return the dimension of the vector, -1 if the value is null
+     */
+    public int getVector(int columnIndex, FloatBuffer target) throws SQLException {
+        ValueWrapper value = getValueByColumnIndex(columnIndex);
+        return value.isNull() ? -1 : EmbeddingVectors.copyTo(EmbeddingVectors.asEmbeddingVector(value), target);
+    }
+
+    /**
+     * @see #getVector(int, FloatBuffer)
+     */
+    public int getVector(String columnLabel, FloatBuffer target) throws SQLException {
+        ValueWrapper value = getValueByColumnName(columnLabel);
+        return value.isNull() ? -1 : EmbeddingVectors.copyTo(EmbeddingVectors.asEmbeddingVector(value), target);
     }
 
     @Override
@@ -0,0 +1,219 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.jfr.JfrEvents;
+import com.vesoft.nebula.jdbc.metrics.NebulaMetrics;
+import com.vesoft.nebula.jdbc.transport.GraphSession;
+import com.vesoft.nebula.jdbc.transport.GraphTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of graphd sessions shared by one {@link NebulaConnection}.
+ *
+ * <p>Every session lives in a slot guarded by its own lock, so one session never serves two requests at the same
+ * time. A statement is pinned to one slot for its whole life to keep its requests in order, requests without a slot
+ * go to the first free session.
+ */
+class NebulaSessionPool {
+    private static final Logger logger = LoggerFactory.getLogger(NebulaSessionPool.class);
+
+    private final GraphSession[]  clients;
+    private final ReentrantLock[] locks;
+    private final AtomicInteger   nextSlot = new AtomicInteger();
+    private final NebulaMetrics   metrics;
+
+    NebulaSessionPool(Properties properties, GraphTransport transport, NebulaMetrics metrics) throws SQLException {
+        int size = Math.max(1, NebulaPropertyKey.MAXCLIENTSIZE.getInt(properties, 1));
+        this.clients = new GraphSession[size];
+        this.locks = new ReentrantLock[size];
+        this.metrics = metrics;
+        try {
+            for (int i = 0; i < size; i++) {
+                clients[i] = openSession(properties, transport);
+                locks[i] = new ReentrantLock();
+                metrics.sessionOpened();
+            }
+        } catch (Exception e) {
+            closeSessions();
+            throw new SQLException(e);
+        }
+    }
+
+    private static GraphSession openSession(Properties properties, GraphTransport transport) throws Exception {
+        GraphSession client = transport.openSession(properties);
+        try {
+            if (properties.getProperty(NebulaPropertyKey.SCHEMA.getKeyName()) != null) {
+                ResultSet res = client.execute(String.format("SESSION SET SCHEMA \"%s\"", properties.getProperty(NebulaPropertyKey.SCHEMA.getKeyName())));
+                if (!res.isSucceeded()) {
+                    throw new RuntimeException("SESSION SET SCHEMA failed: " + res.getErrorMessage());
+                }
+            }
+            if (properties.getProperty(NebulaPropertyKey.DBNAME.getKeyName()) != null) {
+                ResultSet res = client.execute("SESSION SET GRAPH " + properties.getProperty(NebulaPropertyKey.DBNAME.getKeyName()));
+                if (!res.isSucceeded()) {
+                    throw new RuntimeException("SESSION SET GRAPH failed: " + res.getErrorMessage());
+                }
+            }
+            if (properties.getProperty(NebulaPropertyKey.TIMEZONE.getKeyName()) != null) {
+                ResultSet res = client.execute(String.format("SESSION SET TIME ZONE \"%s\"", properties.getProperty(NebulaPropertyKey.TIMEZONE.getKeyName())));
+                if (!res.isSucceeded()) {
+                    throw new RuntimeException("SESSION SET TIME ZONE failed: " + res.getErrorMessage());
+                }
+            }
+        } catch (Exception e) {
+            client.close();
+            throw e;
+        }
+        return client;
+    }
+
+    /**
+     * @return number of sessions in this pool
+     */
+    int size() {
+        return clients.length;
+    }
+
+    /**
+     * pick a slot in round-robin order, used to pin a statement to one session.
+     *
+     * @return slot index in [0, size())
+     */
+    int nextSlot() {
+        return (nextSlot.getAndIncrement() & Integer.MAX_VALUE) % clients.length;
+    }
+
+    /**
+     * execute the gql on the session of given slot, waits if the session is busy.
+     */
+    ResultSet execute(int slot, String gql) throws Exception {
+        ReentrantLock lock  = locks[slot];
+        Object        event = JfrEvents.beginBorrow();
+        long          start = System.nanoTime();
+        lock.lock();
+        metrics.sessionAcquired(System.nanoTime() - start);
+        JfrEvents.acquiredBorrow(event);
+        try {
+            return clients[slot].execute(gql);
+        } finally {
+            metrics.sessionReleased();
+            lock.unlock();
+            JfrEvents.commitBorrow(event, slot);
+        }
+    }
+
+    /**
+     * execute the gql on the first free session, starting from the next round-robin slot.
+     * If all sessions are busy, waits on the starting one.
+     */
+    ResultSet execute(String gql) throws Exception {
+        int start = nextSlot();
+        for (int i = 0; i < clients.length; i++) {
+            int           slot = (start + i) % clients.length;
+            ReentrantLock lock = locks[slot];
+            if (lock.tryLock()) {
+                metrics.sessionAcquired(0);
+                Object event = JfrEvents.beginBorrow();
+                JfrEvents.acquiredBorrow(event);
+                try {
+                    return clients[slot].execute(gql);
+                } finally {
+                    metrics.sessionReleased();
+                    lock.unlock();
+                    JfrEvents.commitBorrow(event, slot);
+                }
+            }
+        }
+        return execute(start, gql);
+    }
+
+    /**
+     * execute the gql on every session, holding the locks of all slots, so no request runs in between with some
+     * sessions changed and others not. Used for SESSION SET, which changes the state of one session only. Stops
+     * at the first failed session, the sessions before it keep the new state.
+     *
+     * @return the failed result, or the result of the last session
+     */
+    ResultSet executeOnAll(String gql) throws Exception {
+        long start = System.nanoTime();
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            ResultSet result = null;
+            for (int i = 0; i < clients.length; i++) {
+                metrics.sessionAcquired(i == 0 ? System.nanoTime() - start : 0);
+                try {
+                    result = clients[i].execute(gql);
+                } finally {
+                    metrics.sessionReleased();
+                }
+                if (!result.isSucceeded()) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    boolean ping() {
+        int slot = nextSlot();
+        locks[slot].lock();
+        try {
+            return clients[slot].ping();
+        } finally {
+            locks[slot].unlock();
+        }
+    }
+
+    long getRequestTimeoutMills() {
+        return clients[0].getRequestTimeoutMills();
+    }
+
+    /**
+     * close all sessions, each session is closed after its in-flight request returns.
+     */
+    void close() {
+        for (int i = 0; i < clients.length; i++) {
+            locks[i].lock();
+            try {
+                clients[i].close();
+            } catch (Exception e) {
+                logger.warn("close nebula session failed.", e);
+            } finally {
+                metrics.sessionClosed();
+                locks[i].unlock();
+            }
+        }
+    }
+
+    private void closeSessions() {
+        for (int i = 0; i < clients.length; i++) {
+            if (clients[i] == null) {
+                continue;
+            }
+            try {
+                clients[i].close();
+            } catch (Exception e) {
+                logger.warn("close nebula session failed.", e);
+            }
+            if (locks[i] != null) {
+                metrics.sessionClosed();
+            }
+        }
+    }
+}
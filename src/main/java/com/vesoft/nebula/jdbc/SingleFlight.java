@@ -0,0 +1,63 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces identical concurrent reads: the first caller of a key executes the request, callers arriving while
+ * it is in flight wait for and share its decoded result. Nothing is kept after the request completes.
+ */
+class SingleFlight {
+
+    interface Loader {
+        NebulaResultTable load() throws SQLException;
+    }
+
+    private final ConcurrentMap<String, CompletableFuture<NebulaResultTable>> inFlight = new ConcurrentHashMap<>();
+
+    NebulaResultTable execute(String key, Loader loader) throws SQLException {
+        CompletableFuture<NebulaResultTable> future   = new CompletableFuture<>();
+        CompletableFuture<NebulaResultTable> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            NebulaResultTable table = loader.load();
+            future.complete(table);
+            return table;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * @return number of distinct requests in flight
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static NebulaResultTable await(CompletableFuture<NebulaResultTable> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes of a connection with auto-commit off, queued on the client until commit or rollback.
+ */
+class TransactionBuffer {
+    private final String separator;
+    private final int    maxRequestBytes;
+
+    private final List<String> writes = new ArrayList<>();
+
+    /**
+     * @param separator       statement separator of a multi-statement request, empty if graphd should receive the
+     *                        writes one by one
+     * @param maxRequestBytes max size of a multi-statement request in bytes
+     */
+    TransactionBuffer(String separator, int maxRequestBytes) {
+        this.separator = separator == null ? "" : separator;
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    synchronized void add(String gql) {
+        writes.add(gql);
+    }
+
+    synchronized int size() {
+        return writes.size();
+    }
+
+    synchronized void clear() {
+        writes.clear();
+    }
+
+    /**
+     * group the buffered writes into requests, the writes stay buffered until they are removed once sent.
+     *
+     * @return the requests to send in order, each one holds at least one write
+     */
+    synchronized List<Request> requests() {
+        return group(writes);
+    }
+
+    /**
+     * remove the oldest writes, after the request holding them succeeded.
+     */
+    synchronized void remove(int statements) {
+        writes.subList(0, statements).clear();
+    }
+
+    /**
+     * group the writes into multi-statement requests, one request per write if there is no separator.
+     *
+     * @return the requests to send in order, each one holds at least one write
+     */
+    List<Request> group(List<String> gqls) {
+        List<Request> requests = new ArrayList<>();
+        if (separator.isEmpty()) {
+            for (String gql : gqls) {
+                requests.add(new Request(gql, 1));
+            }
+        } else {
+            StringBuilder request        = new StringBuilder();
+            int           bytes          = 0;
+            int           statements     = 0;
+            int           separatorBytes = separator.getBytes(StandardCharsets.UTF_8).length;
+            for (String gql : gqls) {
+                int gqlBytes = gql.getBytes(StandardCharsets.UTF_8).length;
+                if (statements > 0 && bytes + separatorBytes + gqlBytes > maxRequestBytes) {
+                    requests.add(new Request(request.toString(), statements));
+                    request.setLength(0);
+                    bytes = 0;
+                    statements = 0;
+                }
+                if (statements > 0) {
+                    request.append(separator);
+                    bytes += separatorBytes;
+                }
+                request.append(gql);
+                bytes += gqlBytes;
+                statements++;
+            }
+            if (statements > 0) {
+                requests.add(new Request(request.toString(), statements));
+            }
+        }
+        return requests;
+    }
+
+    static class Request {
+        final String gql;
+        final int    statements;
+
+        Request(String gql, int statements) {
+            this.gql = gql;
+            this.statements = statements;
+        }
+    }
+}
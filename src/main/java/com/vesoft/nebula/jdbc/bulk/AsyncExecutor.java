@@ -0,0 +1,43 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.metrics.NebulaMetrics;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * sends gql without waiting for the response, {@link #of(NebulaConnection)} is the implementation used outside of
+ * tests
+ */
+interface AsyncExecutor {
+    CompletableFuture<ResultSet> executeAsync(String gql);
+
+    /**
+     * @return metrics which batches and retries are recorded into, the driver metrics by default
+     */
+    default NebulaMetrics getMetrics() {
+        return NebulaMetrics.driver();
+    }
+
+    /**
+     * @return executor over the sessions of the connection, recording into the metrics of the connection
+     */
+    static AsyncExecutor of(NebulaConnection connection) {
+        return new AsyncExecutor() {
+            @Override
+            public CompletableFuture<ResultSet> executeAsync(String gql) {
+                return connection.executeAsync(gql);
+            }
+
+            @Override
+            public NebulaMetrics getMetrics() {
+                return connection.getMetrics();
+            }
+        };
+    }
+}
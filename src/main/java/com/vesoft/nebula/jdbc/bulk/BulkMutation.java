@@ -0,0 +1,336 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Deletes or updates many elements by id in bounded chunks, so no single request runs into the request timeout.
+ *
+ * <p>The single ? placeholder of the gql template is replaced by the list of ids of a chunk, for example
+ * <pre>
+ *     BulkMutation delete = BulkMutation.builder("unwind ? as id match (v:User{id:id}) detach delete v")
+ *                                       .chunkSize(1000)
+ *                                       .concurrency(8)
+ *                                       .rateLimit(20000)
+ *                                       .build(connection);
+ *     BulkMutation.Result result = delete.execute(ids.iterator());
+ *     for (BulkMutation.FailedChunk chunk : result.getFailedChunks()) {
+ *         delete.execute(chunk.getIds().iterator());
+ *     }
+ * </pre>
+ * Chunks run in parallel over the sessions of the connection and are retried with exponential backoff, a chunk
+ * which still fails is reported with its ids while the other chunks go on.
+ */
+public class BulkMutation {
+    private final String        prefix;
+    private final String        suffix;
+    private final int           envelopeBytes;
+    private final int           chunkSize;
+    private final int           maxRequestBytes;
+    private final int           concurrency;
+    private final double        rowsPerSecond;
+    private final Progress      progress;
+    private final Retry         retry;
+    private final AsyncExecutor executor;
+
+    private BulkMutation(Builder builder, AsyncExecutor executor) {
+        String[] template = Requests.splitTemplate(builder.gqlTemplate);
+        this.prefix = template[0] + '[';
+        this.suffix = ']' + template[1];
+        this.envelopeBytes = Requests.utf8Length(prefix) + Requests.utf8Length(suffix);
+        this.chunkSize = builder.chunkSize;
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.concurrency = builder.concurrency;
+        this.rowsPerSecond = builder.rowsPerSecond;
+        this.progress = builder.progress;
+        this.retry = new Retry(builder.maxRetries, builder.initialBackoffMillis, builder.maxBackoffMillis);
+        this.executor = executor;
+    }
+
+    public static Builder builder(String gqlTemplate) {
+        return new Builder(gqlTemplate);
+    }
+
+    /**
+     * mutate the elements of the ids in the first column of the rows, such as the result of a selecting query or a
+     * {@link com.vesoft.nebula.jdbc.parallel.PartitionedScan}.
+     */
+    public Result execute(ResultSet ids) throws SQLException {
+        return execute(new IdCursor() {
+            @Override
+            public boolean next() throws SQLException {
+                return ids.next();
+            }
+
+            @Override
+            public Object id() throws SQLException {
+                return ids.getObject(1);
+            }
+        });
+    }
+
+    /**
+     * mutate the elements of the ids, blocks until all chunks completed.
+     *
+     * @return mutated rows and failed chunks
+     */
+    public Result execute(Iterator<?> ids) throws SQLException {
+        return execute(new IdCursor() {
+            private Object id;
+
+            @Override
+            public boolean next() {
+                if (!ids.hasNext()) {
+                    return false;
+                }
+                id = ids.next();
+                return true;
+            }
+
+            @Override
+            public Object id() {
+                return id;
+            }
+        });
+    }
+
+    private Result execute(IdCursor ids) throws SQLException {
+        Result          result        = new Result();
+        ParallelBatches chunks        = new ParallelBatches("nebula-jdbc-bulk-mutation", concurrency, concurrency,
+                                                            retry, executor);
+        long            nextSendNanos = System.nanoTime();
+        try {
+            StringBuilder chunk    = new StringBuilder(prefix);
+            List<Object>  chunkIds = new ArrayList<>();
+            int           bytes    = envelopeBytes;
+            while (ids.next()) {
+                Object id      = ids.id();
+                String literal = NebulaPreparedStatementImpl.literal(id);
+                // the literal and its separator
+                int idBytes = Requests.utf8Length(literal) + 1;
+                if (envelopeBytes + idBytes > maxRequestBytes) {
+                    throw new SQLException(String.format("id %s does not fit into maxRequestBytes %d", literal,
+                                                         maxRequestBytes));
+                }
+                if (chunkIds.size() >= chunkSize || (!chunkIds.isEmpty() && bytes + idBytes > maxRequestBytes)) {
+                    nextSendNanos = throttle(nextSendNanos, chunkIds.size());
+                    submit(chunks, chunk, chunkIds, result);
+                    chunkIds = new ArrayList<>();
+                    bytes = envelopeBytes;
+                }
+                if (!chunkIds.isEmpty()) {
+                    chunk.append(',');
+                }
+                chunk.append(literal);
+                chunkIds.add(id);
+                bytes += idBytes;
+            }
+            if (!chunkIds.isEmpty()) {
+                throttle(nextSendNanos, chunkIds.size());
+                submit(chunks, chunk, chunkIds, result);
+            }
+        } catch (SQLException e) {
+            chunks.await();
+            throw e;
+        }
+        chunks.await();
+        return result;
+    }
+
+    /**
+     * wait until the rate limit admits the chunk.
+     *
+     * @return earliest time of the next chunk
+     */
+    private long throttle(long sendNanos, int rows) {
+        if (rowsPerSecond <= 0) {
+            return sendNanos;
+        }
+        long now = System.nanoTime();
+        if (sendNanos - now > 0) {
+            LockSupport.parkNanos(sendNanos - now);
+        } else {
+            // no credit for idle time, a stalled source must not cause a burst
+            sendNanos = now;
+        }
+        return sendNanos + (long) (rows * TimeUnit.SECONDS.toNanos(1) / rowsPerSecond);
+    }
+
+    private void submit(ParallelBatches chunks, StringBuilder chunk, List<Object> chunkIds, Result result) {
+        int rows = chunkIds.size();
+        chunks.submit(chunk.append(suffix).toString(), rows, sequence -> {
+            result.mutatedRows.addAndGet(rows);
+            report(result);
+        }, error -> {
+            result.failed(new FailedChunk(chunkIds, error));
+            report(result);
+        });
+        chunk.setLength(0);
+        chunk.append(prefix);
+    }
+
+    private void report(Result result) {
+        if (progress != null) {
+            progress.update(result.getMutatedRows(), result.getFailedRows());
+        }
+    }
+
+    private interface IdCursor {
+        boolean next() throws SQLException;
+
+        Object id() throws SQLException;
+    }
+
+    /**
+     * listener of the progress of a bulk mutation, called by the workers after every chunk
+     */
+    public interface Progress {
+        void update(long mutatedRows, long failedRows);
+    }
+
+    /**
+     * outcome of {@link #execute(Iterator)}
+     */
+    public static class Result {
+        private final AtomicLong        mutatedRows  = new AtomicLong();
+        private final AtomicLong        failedRows   = new AtomicLong();
+        private final List<FailedChunk> failedChunks = new ArrayList<>();
+
+        private synchronized void failed(FailedChunk chunk) {
+            failedChunks.add(chunk);
+            failedRows.addAndGet(chunk.getIds().size());
+        }
+
+        /**
+         * @return number of ids of the successful chunks
+         */
+        public long getMutatedRows() {
+            return mutatedRows.get();
+        }
+
+        public long getFailedRows() {
+            return failedRows.get();
+        }
+
+        public synchronized List<FailedChunk> getFailedChunks() {
+            return Collections.unmodifiableList(new ArrayList<>(failedChunks));
+        }
+    }
+
+    /**
+     * chunk which failed after all retries, its ids can be executed again
+     */
+    public static class FailedChunk {
+        private final List<Object> ids;
+        private final SQLException error;
+
+        FailedChunk(List<Object> ids, SQLException error) {
+            this.ids = Collections.unmodifiableList(ids);
+            this.error = error;
+        }
+
+        public List<Object> getIds() {
+            return ids;
+        }
+
+        public SQLException getError() {
+            return error;
+        }
+    }
+
+    public static class Builder {
+        private final String   gqlTemplate;
+        private       int      chunkSize            = 1000;
+        private       int      maxRequestBytes      = 4 * 1024 * 1024;
+        private       int      concurrency          = 4;
+        private       double   rowsPerSecond        = 0;
+        private       Progress progress;
+        private       int      maxRetries           = 3;
+        private       long     initialBackoffMillis = 100;
+        private       long     maxBackoffMillis     = 5000;
+
+        private Builder(String gqlTemplate) {
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        /**
+         * @param chunkSize max number of ids in one request
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param maxRequestBytes max size of one request in bytes
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param concurrency number of chunks in flight, should not exceed the sessions of the connection
+         */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param rowsPerSecond max number of ids sent per second, 0 for no limit
+         */
+        public Builder rateLimit(double rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+            return this;
+        }
+
+        public Builder progress(Progress progress) {
+            this.progress = progress;
+            return this;
+        }
+
+        /**
+         * @param maxRetries           retries of a failed chunk before it is reported
+         * @param initialBackoffMillis backoff before the first retry, doubled for every further retry
+         * @param maxBackoffMillis     max backoff between retries
+         */
+        public Builder retry(int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+            this.maxRetries = maxRetries;
+            this.initialBackoffMillis = initialBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
+        public BulkMutation build(NebulaConnection connection) {
+            return build(AsyncExecutor.of(connection));
+        }
+
+        BulkMutation build(AsyncExecutor executor) {
+            Requests.splitTemplate(gqlTemplate);
+            if (chunkSize < 1 || maxRequestBytes < 1 || concurrency < 1) {
+                throw new IllegalArgumentException(String.format("chunkSize %d, maxRequestBytes %d and concurrency "
+                                                                 + "%d should be positive",
+                                                                 chunkSize, maxRequestBytes, concurrency));
+            }
+            if (rowsPerSecond < 0) {
+                throw new IllegalArgumentException("rateLimit should not be negative: " + rowsPerSecond);
+            }
+            return new BulkMutation(this, executor);
+        }
+    }
+}
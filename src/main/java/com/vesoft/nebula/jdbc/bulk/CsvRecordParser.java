@@ -0,0 +1,233 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses delimited lines field by field straight from the bytes, quoted fields may contain delimiters, line breaks
+ * and doubled quotes. Empty unquoted fields are null.
+ */
+class CsvRecordParser implements RecordParser {
+    private final String[]    names;
+    /**
+     * the names quoted as record keys, with the colon
+     */
+    private final String[]    keys;
+    private final FieldType[] types;
+    private final byte        delimiter;
+    private final byte        quote;
+    private final int         keyColumn;
+
+    private int keyStart;
+    private int keyEnd;
+
+    /**
+     * @param keyColumn index of the key column, -1 if there is none
+     */
+    CsvRecordParser(String[] names, FieldType[] types, byte delimiter, byte quote, int keyColumn) {
+        this.names = names;
+        this.keys = new String[names.length];
+        for (int column = 0; column < names.length; column++) {
+            keys[column] = Requests.appendKey(new StringBuilder(), names[column]).append(':').toString();
+        }
+        this.types = types;
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.keyColumn = keyColumn;
+    }
+
+    @Override
+    public boolean appendRecord(StringBuilder target, byte[] line, int length) throws SQLException {
+        if (length == 0) {
+            return false;
+        }
+        keyStart = -1;
+        target.append('{');
+        int position = 0;
+        for (int column = 0; column < names.length; column++) {
+            if (position > length) {
+                throw new SQLException(String.format("expected %d fields but found %d", names.length, column));
+            }
+            if (column > 0) {
+                target.append(',');
+            }
+            target.append(keys[column]);
+            int valueStart = target.length();
+            if (position < length && line[position] == quote) {
+                position = appendQuoted(target, line, position + 1, length, types[column]);
+            } else {
+                int end = position;
+                while (end < length && line[end] != delimiter) {
+                    end++;
+                }
+                appendField(target, line, position, end, types[column]);
+                position = end;
+            }
+            if (column == keyColumn && !Requests.isNullLiteral(target, valueStart)) {
+                keyStart = valueStart;
+                keyEnd = target.length();
+            }
+            if (position < length && line[position] != delimiter) {
+                throw new SQLException("unexpected character after field " + names[column]);
+            }
+            // skip the delimiter, past the end if the line is complete
+            position++;
+        }
+        if (position <= length) {
+            throw new SQLException(String.format("expected %d fields but found more", names.length));
+        }
+        target.append('}');
+        return true;
+    }
+
+    /**
+     * split a header line into its fields, quoted like the fields of the records.
+     */
+    static String[] header(byte[] line, int length, byte delimiter, byte quote) throws SQLException {
+        List<String> fields   = new ArrayList<>();
+        int          position = 0;
+        while (true) {
+            if (position < length && line[position] == quote) {
+                ByteArrayOutputStream field = new ByteArrayOutputStream();
+                position++;
+                while (true) {
+                    if (position >= length) {
+                        throw new SQLException("unterminated quoted field in header");
+                    }
+                    if (line[position] == quote) {
+                        if (position + 1 < length && line[position + 1] == quote) {
+                            field.write(quote);
+                            position += 2;
+                            continue;
+                        }
+                        position++;
+                        break;
+                    }
+                    field.write(line[position++]);
+                }
+                fields.add(new String(field.toByteArray(), StandardCharsets.UTF_8));
+            } else {
+                int end = position;
+                while (end < length && line[end] != delimiter) {
+                    end++;
+                }
+                fields.add(new String(line, position, end - position, StandardCharsets.UTF_8));
+                position = end;
+            }
+            if (position >= length) {
+                return fields.toArray(new String[0]);
+            }
+            if (line[position] != delimiter) {
+                throw new SQLException("unexpected character after header field " + fields.get(fields.size() - 1));
+            }
+            position++;
+        }
+    }
+
+    @Override
+    public int keyStart() {
+        return keyStart;
+    }
+
+    @Override
+    public int keyEnd() {
+        return keyEnd;
+    }
+
+    /**
+     * @return position after the closing quote
+     */
+    private int appendQuoted(StringBuilder target, byte[] line, int start, int length, FieldType type)
+            throws SQLException {
+        if (type != FieldType.STRING) {
+            int end = start;
+            while (end < length && line[end] != quote) {
+                end++;
+            }
+            if (end == length) {
+                throw new SQLException("unterminated quoted field");
+            }
+            appendField(target, line, start, end, type);
+            return end + 1;
+        }
+        target.append('"');
+        int position = start;
+        while (true) {
+            if (position >= length) {
+                throw new SQLException("unterminated quoted field");
+            }
+            if (line[position] == quote) {
+                if (position + 1 < length && line[position + 1] == quote) {
+                    Requests.appendEscaped(target, (char) quote);
+                    position += 2;
+                    continue;
+                }
+                target.append('"');
+                return position + 1;
+            }
+            position = Requests.appendUtf8Char(target, line, position, length);
+        }
+    }
+
+    private void appendField(StringBuilder target, byte[] line, int start, int end, FieldType type)
+            throws SQLException {
+        if (start == end) {
+            target.append("null");
+            return;
+        }
+        switch (type) {
+            case STRING:
+                target.append('"');
+                for (int position = start; position < end; ) {
+                    position = Requests.appendUtf8Char(target, line, position, end);
+                }
+                target.append('"');
+                break;
+            case INTEGER:
+            case FLOAT:
+                for (int position = start; position < end; position++) {
+                    byte b = line[position];
+                    boolean valid = (b >= '0' && b <= '9') || b == '-' || b == '+'
+                            || (type == FieldType.FLOAT && (b == '.' || b == 'e' || b == 'E'));
+                    if (!valid) {
+                        throw new SQLException(String.format("invalid %s field: %s", type,
+                                                             new String(line, start, end - start,
+                                                                        StandardCharsets.UTF_8)));
+                    }
+                    target.append((char) b);
+                }
+                break;
+            case BOOLEAN:
+                if (matches(line, start, end, "true")) {
+                    target.append("true");
+                } else if (matches(line, start, end, "false")) {
+                    target.append("false");
+                } else {
+                    throw new SQLException("invalid BOOLEAN field at byte " + start);
+                }
+                break;
+            default:
+                throw new SQLException("unsupported field type " + type);
+        }
+    }
+
+    private static boolean matches(byte[] line, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(line[start + i]) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
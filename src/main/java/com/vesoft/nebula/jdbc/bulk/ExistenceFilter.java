@@ -0,0 +1,218 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Off-heap Bloom filter of the ids of one label which already exist in the graph, used by bulk loads to skip
+ * inserts of known ids before they are sent.
+ *
+ * <p>The filter is prepopulated from an id scan, such as a {@link com.vesoft.nebula.jdbc.parallel.PartitionedScan},
+ * and grows with the successful inserts of the loads using it, for example
+ * <pre>
+ *     ExistenceFilter users = ExistenceFilter.create("User", 100_000_000, 1e-6);
+ *     users.populate(dataSource.partitionedScan(PartitionedScan.builder("match (v:User) where {partition} "
+ *                                                                       + "return v.id")
+ *                                                              .partitionColumn("v.id")
+ *                                                              .numPartitions(16)
+ *                                                              .build()));
+ *     FileLoader.csv(file, template).skipExisting(users, "id").build(connection).load();
+ *     users.writeTo(Paths.get("users.filter"));
+ * </pre>
+ * A false positive skips the insert of a new id, so the false positive rate is the fraction of new rows a load
+ * may drop and should be chosen accordingly. Ids are identified by their gql literal, so 1 and "1" differ. Puts are
+ * synchronized, checks are not, a check concurrent with a put may miss the id and let a duplicate through.
+ */
+public class ExistenceFilter {
+    private static final int MAGIC   = 0x4e424c46;
+    private static final int VERSION = 1;
+
+    private final String     label;
+    private final int        hashCount;
+    private final long       bitCount;
+    private final ByteBuffer bits;
+
+    private ExistenceFilter(String label, int hashCount, ByteBuffer bits) {
+        this.label = label;
+        this.hashCount = hashCount;
+        this.bitCount = (long) bits.capacity() * 8;
+        this.bits = bits;
+    }
+
+    /**
+     * @param label              label of the ids
+     * @param expectedInsertions number of ids the filter is sized for
+     * @param falsePositiveRate  probability that an absent id is reported as existing
+     */
+    public static ExistenceFilter create(String label, long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions should be positive: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate should be in (0, 1): " + falsePositiveRate);
+        }
+        double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long   words       = Math.max(1, (long) Math.ceil(optimalBits / 64));
+        if (words > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException(String.format("%d insertions at rate %s exceed the max filter size",
+                                                             expectedInsertions, falsePositiveRate));
+        }
+        int hashCount = Math.max(1, (int) Math.round(words * 64.0 / expectedInsertions * Math.log(2)));
+        return new ExistenceFilter(label, hashCount, ByteBuffer.allocateDirect((int) words * 8));
+    }
+
+    /**
+     * read a filter written by {@link #writeTo(Path)}.
+     */
+    public static ExistenceFilter readFrom(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(20);
+            readFully(channel, header);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("not an existence filter: " + file);
+            }
+            int        hashCount   = header.getInt();
+            int        byteCount   = header.getInt();
+            int        labelLength = header.getInt();
+            ByteBuffer label       = ByteBuffer.allocate(labelLength);
+            readFully(channel, label);
+            ByteBuffer bits = ByteBuffer.allocateDirect(byteCount);
+            readFully(channel, bits);
+            return new ExistenceFilter(new String(label.array(), StandardCharsets.UTF_8), hashCount, bits);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("truncated existence filter");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * write the filter, so later runs can reuse it.
+     */
+    public synchronized void writeTo(Path file) throws IOException {
+        byte[]     label  = this.label.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(20 + label.length);
+        header.putInt(MAGIC).putInt(VERSION).putInt(hashCount).putInt(bits.capacity()).putInt(label.length)
+              .put(label);
+        header.flip();
+        ByteBuffer content = bits.duplicate();
+        content.clear();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return false if the id was never put, true if it was put or is a false positive
+     */
+    public boolean mightContain(Object id) throws SQLException {
+        String literal = NebulaPreparedStatementImpl.literal(id);
+        return mightContain(literal, 0, literal.length());
+    }
+
+    public void put(Object id) throws SQLException {
+        String literal = NebulaPreparedStatementImpl.literal(id);
+        put(literal, 0, literal.length());
+    }
+
+    /**
+     * put the ids of the first column of the rows, such as the result of an id scan.
+     *
+     * @return number of ids put
+     */
+    public long populate(ResultSet ids) throws SQLException {
+        long count = 0;
+        while (ids.next()) {
+            Object id = ids.getObject(1);
+            if (id != null) {
+                put(id);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * check the id by its gql literal between start and end.
+     */
+    boolean mightContain(CharSequence literal, int start, int end) {
+        long hash1 = hash(literal, start, end);
+        long hash2 = mix(hash1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            if ((bits.getLong((int) (bit >>> 6) << 3) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized void put(CharSequence literal, int start, int end) {
+        long hash1 = hash(literal, start, end);
+        long hash2 = mix(hash1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit   = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            int  index = (int) (bit >>> 6) << 3;
+            bits.putLong(index, bits.getLong(index) | (1L << bit));
+        }
+    }
+
+    /**
+     * FNV-1a over the chars, finished by the murmur3 finalizer
+     */
+    private static long hash(CharSequence literal, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= literal.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * @return number of bits of the filter
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+}
@@ -0,0 +1,16 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+/**
+ * type of a delimited file column, decides how the field is rendered into the row record
+ */
+public enum FieldType {
+    STRING,
+    INTEGER,
+    FLOAT,
+    BOOLEAN
+}
@@ -0,0 +1,392 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the rows of a CSV or JSON Lines file, such as a node or an edge file, with parallel batched requests.
+ *
+ * <p>The file is read through a direct buffer and each line is rendered straight from its bytes into a row record,
+ * the single ? placeholder of the gql template is replaced by a batch of them, for example
+ * <pre>
+ *     FileLoader loader = FileLoader.csv(Paths.get("follow.csv"), "unwind ? as r match (a:User{id:r.src}), "
+ *                                                                 + "(b:User{id:r.dst}) insert (a)-[:Follow]->(b)")
+ *                                   .column("src", FieldType.INTEGER)
+ *                                   .column("dst", FieldType.INTEGER)
+ *                                   .parallelism(8)
+ *                                   .checkpoint(Paths.get("follow.checkpoint"))
+ *                                   .build(connection);
+ *     long rows = loader.load();
+ * </pre>
+ * Batches are bounded by rows and request bytes and sent by parallel workers over the sessions of the connection,
+ * failed batches are retried with exponential backoff. With a checkpoint file, the offset before which every batch
+ * is loaded is persisted as batches complete, and a restarted load resumes from it. Batches after the checkpoint may
+ * be loaded twice when a load is restarted, so the template should be idempotent, such as an insert or replace.
+ */
+public class FileLoader {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final int HEADER_BUFFER_BYTES = 64 * 1024;
+
+    private final Path            file;
+    private final Format          format;
+    private final String          prefix;
+    private final String          suffix;
+    private final int             envelopeBytes;
+    private final byte            delimiter;
+    private final byte            quote;
+    private final boolean         header;
+    private final List<String>    columnNames;
+    private final List<FieldType> columnTypes;
+    private final int             batchSize;
+    private final int             maxRequestBytes;
+    private final int             parallelism;
+    private final int             readBufferBytes;
+    private final Path            checkpointFile;
+    private final ExistenceFilter existenceFilter;
+    private final String          existenceKey;
+    private final Retry           retry;
+    private final AsyncExecutor   executor;
+
+    private volatile long skippedRows;
+
+    private FileLoader(Builder builder, AsyncExecutor executor) {
+        String[] template = Requests.splitTemplate(builder.gqlTemplate);
+        this.file = builder.file;
+        this.format = builder.format;
+        this.prefix = template[0] + '[';
+        this.suffix = ']' + template[1];
+        this.envelopeBytes = Requests.utf8Length(prefix) + Requests.utf8Length(suffix);
+        this.delimiter = (byte) builder.delimiter;
+        this.quote = (byte) builder.quote;
+        this.header = builder.header;
+        this.columnNames = new ArrayList<>(builder.columnNames);
+        this.columnTypes = new ArrayList<>(builder.columnTypes);
+        this.batchSize = builder.batchSize;
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.parallelism = builder.parallelism;
+        this.readBufferBytes = builder.readBufferBytes;
+        this.checkpointFile = builder.checkpointFile;
+        this.existenceFilter = builder.existenceFilter;
+        this.existenceKey = builder.existenceKey;
+        this.retry = new Retry(builder.maxRetries, builder.initialBackoffMillis, builder.maxBackoffMillis);
+        this.executor = executor;
+    }
+
+    public static Builder csv(Path file, String gqlTemplate) {
+        return new Builder(file, Format.CSV, gqlTemplate);
+    }
+
+    public static Builder jsonLines(Path file, String gqlTemplate) {
+        return new Builder(file, Format.JSON_LINES, gqlTemplate);
+    }
+
+    /**
+     * load the file from the checkpoint, or from its start without one.
+     *
+     * @return number of rows loaded by this call
+     * @throws SQLException if the file is malformed or a batch still failed after all retries, the checkpoint
+     *                      keeps the progress before the first failed batch
+     */
+    public long load() throws SQLException {
+        skippedRows = 0;
+        LoadCheckpoint  checkpoint = new LoadCheckpoint(checkpointFile, file);
+        ParallelBatches batches    = new ParallelBatches("nebula-jdbc-file-loader", parallelism, parallelism, retry,
+                                                         executor);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long         start  = checkpoint.getOffset();
+            RecordParser parser;
+            if (format == Format.CSV) {
+                LineScanner headerScanner = new LineScanner(channel, 0, HEADER_BUFFER_BYTES, quote);
+                if (header && headerScanner.next()) {
+                    start = Math.max(start, headerScanner.offset());
+                }
+                parser = csvParser(headerScanner);
+            } else {
+                parser = new JsonLineRecordParser(existenceKey);
+            }
+            if (start > 0) {
+                logger.info(String.format("resume loading %s from offset %d", file, start));
+            }
+            read(new LineScanner(channel, start, readBufferBytes, format == Format.CSV ? quote : 0), parser,
+                 batches, checkpoint);
+        } catch (IOException | SQLException e) {
+            // the batches in flight still complete, so the checkpoint covers them
+            try {
+                batches.await();
+            } catch (SQLException failure) {
+                e.addSuppressed(failure);
+            }
+            throw e instanceof SQLException ? (SQLException) e : new SQLException("failed to read " + file, e);
+        }
+        return batches.await();
+    }
+
+    private RecordParser csvParser(LineScanner headerScanner) throws SQLException {
+        String[]    names = columnNames.toArray(new String[0]);
+        FieldType[] types = columnTypes.toArray(new FieldType[0]);
+        if (names.length == 0 && header && headerScanner.length() > 0) {
+            names = CsvRecordParser.header(headerScanner.line(), headerScanner.length(), delimiter, quote);
+            types = new FieldType[names.length];
+            Arrays.fill(types, FieldType.STRING);
+        }
+        if (names.length == 0) {
+            throw new SQLException("columns are required for a CSV file without header: " + file);
+        }
+        int keyColumn = existenceKey == null ? -1 : Arrays.asList(names).indexOf(existenceKey);
+        if (existenceKey != null && keyColumn < 0) {
+            throw new SQLException(String.format("key column %s of the existence filter not found in %s",
+                                                 existenceKey, file));
+        }
+        return new CsvRecordParser(names, types, delimiter, quote, keyColumn);
+    }
+
+    private void read(LineScanner scanner, RecordParser parser, ParallelBatches batches, LoadCheckpoint checkpoint)
+            throws IOException, SQLException {
+        StringBuilder batch      = new StringBuilder(prefix);
+        StringBuilder record     = new StringBuilder();
+        List<String>  keys       = new ArrayList<>();
+        int           bytes      = envelopeBytes;
+        int           rows       = 0;
+        long          lastOffset = 0;
+        long          skipped    = 0;
+        while (!batches.failed() && scanner.next()) {
+            record.setLength(0);
+            try {
+                if (!parser.appendRecord(record, scanner.line(), scanner.length())) {
+                    continue;
+                }
+            } catch (SQLException e) {
+                throw new SQLException(String.format("malformed line ending at offset %d of %s: %s",
+                                                     scanner.offset(), file, e.getMessage()), e);
+            }
+            int keyStart = parser.keyStart();
+            if (existenceFilter != null && keyStart >= 0
+                    && existenceFilter.mightContain(record, keyStart, parser.keyEnd())) {
+                skippedRows = ++skipped;
+                continue;
+            }
+            // the record and its separator
+            int recordBytes = Requests.utf8Length(record) + 1;
+            if (envelopeBytes + recordBytes > maxRequestBytes) {
+                throw new SQLException(String.format("line ending at offset %d of %s does not fit into "
+                                                     + "maxRequestBytes %d", scanner.offset(), file,
+                                                     maxRequestBytes));
+            }
+            if (rows >= batchSize || (rows > 0 && bytes + recordBytes > maxRequestBytes)) {
+                submit(batches, checkpoint, batch, keys, rows, lastOffset);
+                keys = new ArrayList<>();
+                bytes = envelopeBytes;
+                rows = 0;
+            }
+            if (rows > 0) {
+                batch.append(',');
+            }
+            if (existenceFilter != null && keyStart >= 0) {
+                keys.add(record.substring(keyStart, parser.keyEnd()));
+            }
+            batch.append(record);
+            bytes += recordBytes;
+            rows++;
+            lastOffset = scanner.offset();
+        }
+        if (rows > 0 && !batches.failed()) {
+            submit(batches, checkpoint, batch, keys, rows, lastOffset);
+        }
+    }
+
+    private void submit(ParallelBatches batches, LoadCheckpoint checkpoint, StringBuilder batch, List<String> keys,
+                        int rows, long endOffset) {
+        batches.submit(batch.append(suffix).toString(), rows, sequence -> {
+            for (String key : keys) {
+                existenceFilter.put(key, 0, key.length());
+            }
+            checkpoint.complete(sequence, endOffset, rows);
+        });
+        batch.setLength(0);
+        batch.append(prefix);
+    }
+
+    /**
+     * @return number of rows the last load skipped because the existence filter knew their key
+     */
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+
+    /**
+     * @return number of rows before the checkpoint offset, including the rows of previous runs
+     */
+    public long getCheckpointRows() throws SQLException {
+        return new LoadCheckpoint(checkpointFile, file).getRows();
+    }
+
+    private enum Format {
+        CSV,
+        JSON_LINES
+    }
+
+    public static class Builder {
+        private final Path            file;
+        private final Format          format;
+        private final String          gqlTemplate;
+        private final List<String>    columnNames          = new ArrayList<>();
+        private final List<FieldType> columnTypes          = new ArrayList<>();
+        private       char            delimiter            = ',';
+        private       char            quote                = '"';
+        private       boolean         header               = true;
+        private       int             batchSize            = 10000;
+        private       int             maxRequestBytes      = 4 * 1024 * 1024;
+        private       int             parallelism          = 4;
+        private       int             readBufferBytes      = 8 * 1024 * 1024;
+        private       Path            checkpointFile;
+        private       ExistenceFilter existenceFilter;
+        private       String          existenceKey;
+        private       int             maxRetries           = 3;
+        private       long            initialBackoffMillis = 100;
+        private       long            maxBackoffMillis     = 5000;
+
+        private Builder(Path file, Format format, String gqlTemplate) {
+            this.file = file;
+            this.format = format;
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        /**
+         * declare the next CSV column. Without declared columns, the names of the header line are used and all
+         * fields are strings.
+         */
+        public Builder column(String name, FieldType type) {
+            columnNames.add(name);
+            columnTypes.add(type);
+            return this;
+        }
+
+        /**
+         * @param delimiter single byte delimiter of CSV fields, comma by default
+         */
+        public Builder delimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * @param quote single byte quote of CSV fields, double quote by default
+         */
+        public Builder quote(char quote) {
+            this.quote = quote;
+            return this;
+        }
+
+        /**
+         * @param header whether the first line of the CSV file is a header, true by default
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * @param batchSize max number of rows in one request
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxRequestBytes max size of one request in bytes
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param parallelism number of batches in flight, should not exceed the sessions of the connection
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param readBufferBytes size of the direct buffer the file is read through
+         */
+        public Builder readBufferBytes(int readBufferBytes) {
+            this.readBufferBytes = readBufferBytes;
+            return this;
+        }
+
+        /**
+         * @param checkpointFile file which keeps the progress of the load for a restart
+         */
+        public Builder checkpoint(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        /**
+         * skip the rows whose key the filter reports as existing, and put the keys of loaded rows into it. Only
+         * for insert-if-absent loads, the filter may report absent keys as existing at its false positive rate.
+         *
+         * @param filter existence filter of the label of the rows
+         * @param key    column or top level JSON key of the row id
+         */
+        public Builder skipExisting(ExistenceFilter filter, String key) {
+            this.existenceFilter = filter;
+            this.existenceKey = key;
+            return this;
+        }
+
+        /**
+         * @param maxRetries           retries of a failed batch before the load fails
+         * @param initialBackoffMillis backoff before the first retry, doubled for every further retry
+         * @param maxBackoffMillis     max backoff between retries
+         */
+        public Builder retry(int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+            this.maxRetries = maxRetries;
+            this.initialBackoffMillis = initialBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
+        public FileLoader build(NebulaConnection connection) {
+            return build(AsyncExecutor.of(connection));
+        }
+
+        FileLoader build(AsyncExecutor executor) {
+            Requests.splitTemplate(gqlTemplate);
+            if (file == null) {
+                throw new IllegalArgumentException("file should not be null");
+            }
+            if (batchSize < 1 || maxRequestBytes < 1 || parallelism < 1 || readBufferBytes < 1) {
+                throw new IllegalArgumentException(String.format("batchSize %d, maxRequestBytes %d, parallelism %d "
+                                                                 + "and readBufferBytes %d should be positive",
+                                                                 batchSize, maxRequestBytes, parallelism,
+                                                                 readBufferBytes));
+            }
+            if (existenceFilter != null && existenceKey == null) {
+                throw new IllegalArgumentException("key of the existence filter is required");
+            }
+            if (delimiter > 0x7f || quote > 0x7f || delimiter == quote) {
+                throw new IllegalArgumentException("delimiter and quote should be distinct ASCII characters");
+            }
+            return new FileLoader(this, executor);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import java.sql.SQLException;
+
+/**
+ * Translates a JSON object line into a record literal in one pass over the bytes: keys become unquoted property
+ * names, strings are re-escaped, numbers, booleans, null, lists and nested objects are kept.
+ */
+class JsonLineRecordParser implements RecordParser {
+    private final String key;
+
+    private byte[] line;
+    private int    length;
+    private int    position;
+    private int    keyStart;
+    private int    keyEnd;
+
+    /**
+     * @param key top level key whose value is reported by {@link #keyStart()}, null if there is none
+     */
+    JsonLineRecordParser(String key) {
+        this.key = key;
+    }
+
+    @Override
+    public boolean appendRecord(StringBuilder target, byte[] line, int length) throws SQLException {
+        this.line = line;
+        this.length = length;
+        this.position = 0;
+        this.keyStart = -1;
+        skipWhitespace();
+        if (position == length) {
+            return false;
+        }
+        if (line[position] != '{') {
+            throw new SQLException("JSON line should be an object");
+        }
+        appendObject(target, true);
+        skipWhitespace();
+        if (position != length) {
+            throw new SQLException("unexpected content after the JSON object at byte " + position);
+        }
+        return true;
+    }
+
+    private void appendValue(StringBuilder target) throws SQLException {
+        skipWhitespace();
+        if (position >= length) {
+            throw new SQLException("unexpected end of the JSON line");
+        }
+        byte b = line[position];
+        switch (b) {
+            case '{':
+                appendObject(target, false);
+                break;
+            case '[':
+                appendList(target);
+                break;
+            case '"':
+                position++;
+                target.append('"');
+                appendString(target);
+                target.append('"');
+                break;
+            case 't':
+                appendWord(target, "true");
+                break;
+            case 'f':
+                appendWord(target, "false");
+                break;
+            case 'n':
+                appendWord(target, "null");
+                break;
+            default:
+                appendNumber(target);
+        }
+    }
+
+    @Override
+    public int keyStart() {
+        return keyStart;
+    }
+
+    @Override
+    public int keyEnd() {
+        return keyEnd;
+    }
+
+    private void appendObject(StringBuilder target, boolean topLevel) throws SQLException {
+        position++;
+        target.append('{');
+        skipWhitespace();
+        if (position < length && line[position] == '}') {
+            position++;
+            target.append('}');
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            int nameStart = target.length();
+            appendString(target);
+            boolean isKey = topLevel && key != null && target.length() - nameStart == key.length()
+                    && target.indexOf(key, nameStart) == nameStart;
+            if (!Requests.isIdentifier(target, nameStart)) {
+                target.insert(nameStart, '`').append('`');
+            }
+            skipWhitespace();
+            expect(':');
+            target.append(':');
+            int valueStart = target.length();
+            appendValue(target);
+            if (isKey && !Requests.isNullLiteral(target, valueStart)) {
+                keyStart = valueStart;
+                keyEnd = target.length();
+            }
+            skipWhitespace();
+            if (position < length && line[position] == ',') {
+                position++;
+                target.append(',');
+            } else {
+                expect('}');
+                target.append('}');
+                return;
+            }
+        }
+    }
+
+    private void appendList(StringBuilder target) throws SQLException {
+        position++;
+        target.append('[');
+        skipWhitespace();
+        if (position < length && line[position] == ']') {
+            position++;
+            target.append(']');
+            return;
+        }
+        while (true) {
+            appendValue(target);
+            skipWhitespace();
+            if (position < length && line[position] == ',') {
+                position++;
+                target.append(',');
+            } else {
+                expect(']');
+                target.append(']');
+                return;
+            }
+        }
+    }
+
+    /**
+     * append the content of the string after its opening quote, escaped for a string literal.
+     */
+    private void appendString(StringBuilder target) throws SQLException {
+        while (true) {
+            if (position >= length) {
+                throw new SQLException("unterminated JSON string");
+            }
+            byte b = line[position];
+            if (b == '"') {
+                position++;
+                return;
+            }
+            if (b != '\\') {
+                position = Requests.appendUtf8Char(target, line, position, length);
+                continue;
+            }
+            if (position + 1 >= length) {
+                throw new SQLException("unterminated JSON string");
+            }
+            byte escaped = line[position + 1];
+            position += 2;
+            switch (escaped) {
+                case 'n':
+                    Requests.appendEscaped(target, '\n');
+                    break;
+                case 'r':
+                    Requests.appendEscaped(target, '\r');
+                    break;
+                case 't':
+                    Requests.appendEscaped(target, '\t');
+                    break;
+                case 'b':
+                    target.append('\b');
+                    break;
+                case 'f':
+                    target.append('\f');
+                    break;
+                case 'u':
+                    if (position + 4 > length) {
+                        throw new SQLException("truncated JSON unicode escape");
+                    }
+                    int c = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(line[position + i], 16);
+                        if (digit < 0) {
+                            throw new SQLException("invalid JSON unicode escape at byte " + position);
+                        }
+                        c = (c << 4) | digit;
+                    }
+                    position += 4;
+                    Requests.appendEscaped(target, (char) c);
+                    break;
+                default:
+                    // \" \\ \/
+                    Requests.appendEscaped(target, (char) escaped);
+            }
+        }
+    }
+
+    private void appendWord(StringBuilder target, String word) throws SQLException {
+        for (int i = 0; i < word.length(); i++) {
+            if (position + i >= length || line[position + i] != word.charAt(i)) {
+                throw new SQLException("invalid JSON value at byte " + position);
+            }
+        }
+        position += word.length();
+        target.append(word);
+    }
+
+    private void appendNumber(StringBuilder target) throws SQLException {
+        int start = position;
+        while (position < length) {
+            byte b = line[position];
+            if ((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                target.append((char) b);
+                position++;
+            } else {
+                break;
+            }
+        }
+        if (position == start) {
+            throw new SQLException("invalid JSON value at byte " + position);
+        }
+    }
+
+    private void expect(char c) throws SQLException {
+        if (position >= length || line[position] != c) {
+            throw new SQLException(String.format("expected '%s' at byte %d of the JSON line", c, position));
+        }
+        position++;
+    }
+
+    private void skipWhitespace() {
+        while (position < length) {
+            byte b = line[position];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+}
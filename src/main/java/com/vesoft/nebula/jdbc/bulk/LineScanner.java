@@ -0,0 +1,94 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a file through a direct buffer into a reused byte array, without decoding them.
+ *
+ * <p>Line breaks inside quotes are kept in the line when a quote byte is given, as in quoted CSV fields.
+ */
+class LineScanner {
+    private final FileChannel channel;
+    private final ByteBuffer  buffer;
+    private final byte        quote;
+
+    private byte[] line = new byte[1024];
+    private int    length;
+    private long   offset;
+
+    /**
+     * @param offset      file offset of the first line
+     * @param bufferBytes size of the direct read buffer
+     * @param quote       quote byte which masks line breaks, 0 if there is none
+     */
+    LineScanner(FileChannel channel, long offset, int bufferBytes, byte quote) throws IOException {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        this.quote = quote;
+        this.offset = offset;
+        channel.position(offset);
+        buffer.flip();
+    }
+
+    /**
+     * read the next line, without its line break.
+     *
+     * @return false at the end of the file
+     */
+    boolean next() throws IOException {
+        length = 0;
+        boolean quoted = false;
+        boolean read   = false;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int bytes = channel.read(buffer);
+                buffer.flip();
+                if (bytes < 0) {
+                    return read;
+                }
+            }
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                offset++;
+                read = true;
+                if (b == '\n' && !quoted) {
+                    if (length > 0 && line[length - 1] == '\r') {
+                        length--;
+                    }
+                    return true;
+                }
+                if (quote != 0 && b == quote) {
+                    quoted = !quoted;
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+            }
+        }
+    }
+
+    byte[] line() {
+        return line;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return file offset after the current line and its line break
+     */
+    long offset() {
+        return offset;
+    }
+}
@@ -0,0 +1,113 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Tracks the batches of a load which complete out of order and persists the file offset before which every
+ * batch is loaded, so a restarted load resumes there.
+ */
+class LoadCheckpoint {
+    private static final String SOURCE = "source";
+    private static final String OFFSET = "offset";
+    private static final String ROWS   = "rows";
+
+    private final Path   file;
+    private final String source;
+
+    private final Map<Long, long[]> completed = new HashMap<>();
+    private       long              nextSequence;
+    private       long              offset;
+    private       long              rows;
+
+    /**
+     * @param file   checkpoint file, null if the progress is not persisted
+     * @param source the loaded file
+     */
+    LoadCheckpoint(Path file, Path source) throws SQLException {
+        this.file = file;
+        this.source = source.toAbsolutePath().toString();
+        if (file != null && Files.exists(file)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new SQLException("failed to read checkpoint " + file, e);
+            }
+            if (!this.source.equals(properties.getProperty(SOURCE))) {
+                throw new SQLException(String.format("checkpoint %s belongs to %s", file,
+                                                     properties.getProperty(SOURCE)));
+            }
+            this.offset = Long.parseLong(properties.getProperty(OFFSET, "0"));
+            this.rows = Long.parseLong(properties.getProperty(ROWS, "0"));
+        }
+    }
+
+    /**
+     * @return the offset before which all rows are loaded
+     */
+    synchronized long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return number of rows before the offset
+     */
+    synchronized long getRows() {
+        return rows;
+    }
+
+    /**
+     * mark the batch as loaded, batches are numbered from 0 in file order.
+     *
+     * @param sequence  number of the batch
+     * @param endOffset file offset after the last line of the batch
+     * @param batchRows number of rows of the batch
+     */
+    synchronized void complete(long sequence, long endOffset, int batchRows) throws SQLException {
+        completed.put(sequence, new long[]{endOffset, batchRows});
+        boolean advanced = false;
+        long[]  batch;
+        while ((batch = completed.remove(nextSequence)) != null) {
+            offset = batch[0];
+            rows += batch[1];
+            nextSequence++;
+            advanced = true;
+        }
+        if (advanced) {
+            save();
+        }
+    }
+
+    private void save() throws SQLException {
+        if (file == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty(SOURCE, source);
+        properties.setProperty(OFFSET, String.valueOf(offset));
+        properties.setProperty(ROWS, String.valueOf(rows));
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                properties.store(out, null);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new SQLException("failed to write checkpoint " + file, e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends batches with retries on parallel workers while the producer renders the next ones. The producer blocks
+ * when every worker has a batch in flight and one queued, so reading the source overlaps with writing but never
+ * runs ahead of it unbounded.
+ */
+class ParallelBatches {
+    private final ExecutorService               workers;
+    private final Semaphore                     permits;
+    private final int                           maxPending;
+    private final Retry                         retry;
+    private final AsyncExecutor                 executor;
+    private final AtomicLong                    rows    = new AtomicLong();
+    private final AtomicReference<SQLException> failure = new AtomicReference<>();
+    private       long                          sequence;
+
+    /**
+     * @param parallelism number of batches in flight
+     * @param queueSize   number of rendered batches waiting for a worker
+     */
+    ParallelBatches(String name, int parallelism, int queueSize, Retry retry, AsyncExecutor executor) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxPending = parallelism + queueSize;
+        this.permits = new Semaphore(maxPending);
+        this.retry = retry;
+        this.executor = executor;
+    }
+
+    /**
+     * send the batch once a worker is free, blocks while the queue is full. A failed batch stops the producer.
+     *
+     * @param onSuccess called with the sequence number of the batch after it succeeded, may be null
+     */
+    void submit(String gql, int batchRows, Completion onSuccess) {
+        submit(gql, batchRows, onSuccess, null);
+    }
+
+    /**
+     * send the batch once a worker is free, blocks while the queue is full.
+     *
+     * @param onSuccess called with the sequence number of the batch after it succeeded, may be null
+     * @param onFailure called with the last error of the batch after all retries failed, the other batches go on.
+     *                  If null, the failure stops the producer and is thrown by {@link #await()}
+     */
+    void submit(String gql, int batchRows, Completion onSuccess, Failure onFailure) {
+        permits.acquireUninterruptibly();
+        executor.getMetrics().recordBatch(batchRows);
+        long batchSequence = sequence++;
+        workers.execute(() -> {
+            try {
+                retry.execute(executor, gql);
+                if (onSuccess != null) {
+                    onSuccess.complete(batchSequence);
+                }
+                rows.addAndGet(batchRows);
+            } catch (SQLException | RuntimeException e) {
+                SQLException error = e instanceof SQLException
+                                     ? (SQLException) e : new SQLException("batch " + batchSequence + " failed", e);
+                if (onFailure == null) {
+                    failure.compareAndSet(null, error);
+                    return;
+                }
+                try {
+                    onFailure.failed(error);
+                } catch (RuntimeException callbackError) {
+                    callbackError.addSuppressed(error);
+                    failure.compareAndSet(null, new SQLException("failure callback of batch " + batchSequence
+                                                                 + " failed", callbackError));
+                }
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * @return true once a batch failed after all retries, the producer should stop
+     */
+    boolean failed() {
+        return failure.get() != null;
+    }
+
+    /**
+     * wait for all submitted batches and stop the workers.
+     *
+     * @return number of rows of the successful batches
+     * @throws SQLException the first failure of a batch
+     */
+    long await() throws SQLException {
+        permits.acquireUninterruptibly(maxPending);
+        workers.shutdown();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return rows.get();
+    }
+
+    /**
+     * callback of a successful batch
+     */
+    interface Completion {
+        void complete(long sequence) throws SQLException;
+    }
+
+    /**
+     * callback of a batch which failed after all retries
+     */
+    interface Failure {
+        void failed(SQLException error);
+    }
+}
@@ -0,0 +1,29 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import java.sql.SQLException;
+
+/**
+ * renders a line of a file as a row record literal {@code {key:value, ..}}
+ */
+interface RecordParser {
+    /**
+     * @return false if the line holds no record, such as a blank line
+     * @throws SQLException if the line is malformed
+     */
+    boolean appendRecord(StringBuilder target, byte[] line, int length) throws SQLException;
+
+    /**
+     * @return start of the key value of the last record in the target, -1 if the key is not configured or null
+     */
+    int keyStart();
+
+    /**
+     * @return end of the key value of the last record in the target
+     */
+    int keyEnd();
+}
@@ -0,0 +1,148 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * helpers to build batched requests
+ */
+final class Requests {
+
+    private Requests() {
+    }
+
+    /**
+     * append the record literal {@code {key:value, ..}} of the row, keys are quoted if needed and values are rendered
+     * like statement parameters.
+     */
+    static StringBuilder appendRecord(StringBuilder target, Map<String, ?> row) throws SQLException {
+        target.append('{');
+        boolean first = true;
+        for (Map.Entry<String, ?> property : row.entrySet()) {
+            if (!first) {
+                target.append(',');
+            }
+            first = false;
+            appendKey(target, property.getKey()).append(':').append(NebulaPreparedStatementImpl.literal(property.getValue()));
+        }
+        return target.append('}');
+    }
+
+    /**
+     * @return number of bytes of the chars in UTF-8, without encoding them
+     */
+    static int utf8Length(CharSequence chars) {
+        int bytes = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * decode the UTF-8 character at the index and append it escaped for a string literal.
+     *
+     * @return index of the next character
+     */
+    static int appendUtf8Char(StringBuilder target, byte[] bytes, int index, int end) throws SQLException {
+        int b = bytes[index] & 0xff;
+        if (b < 0x80) {
+            appendEscaped(target, (char) b);
+            return index + 1;
+        }
+        int extra;
+        int codePoint;
+        if (b >= 0xf0) {
+            extra = 3;
+            codePoint = b & 0x07;
+        } else if (b >= 0xe0) {
+            extra = 2;
+            codePoint = b & 0x0f;
+        } else if (b >= 0xc0) {
+            extra = 1;
+            codePoint = b & 0x1f;
+        } else {
+            throw new SQLException("malformed UTF-8 at byte " + index);
+        }
+        if (index + extra >= end) {
+            throw new SQLException("truncated UTF-8 at byte " + index);
+        }
+        for (int i = 1; i <= extra; i++) {
+            codePoint = (codePoint << 6) | (bytes[index + i] & 0x3f);
+        }
+        target.appendCodePoint(codePoint);
+        return index + extra + 1;
+    }
+
+    /**
+     * append the char escaped for a string literal.
+     */
+    static void appendEscaped(StringBuilder target, char c) {
+        NebulaPreparedStatementImpl.appendEscaped(target, c);
+    }
+
+    /**
+     * @return whether the chars from the start are the null literal
+     */
+    static boolean isNullLiteral(StringBuilder chars, int start) {
+        return chars.length() - start == 4 && chars.indexOf("null", start) == start;
+    }
+
+    /**
+     * append the property name, quoted with backticks unless it is a plain identifier.
+     */
+    static StringBuilder appendKey(StringBuilder target, String key) {
+        int start = target.length();
+        target.append(key);
+        if (!isIdentifier(target, start)) {
+            target.insert(start, '`').append('`');
+        }
+        return target;
+    }
+
+    /**
+     * @return whether the chars from the start are a plain identifier which needs no backticks
+     */
+    static boolean isIdentifier(CharSequence chars, int start) {
+        if (start == chars.length()) {
+            return false;
+        }
+        for (int i = start; i < chars.length(); i++) {
+            char    c     = chars.charAt(i);
+            boolean valid = c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                    || (i > start && c >= '0' && c <= '9');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the template split around its single ? placeholder
+     * @throws IllegalArgumentException if the template does not contain exactly one ?
+     */
+    static String[] splitTemplate(String gqlTemplate) {
+        int placeholder = NebulaPreparedStatementImpl.nextPlaceholder(gqlTemplate, 0);
+        if (placeholder < 0 || NebulaPreparedStatementImpl.nextPlaceholder(gqlTemplate, placeholder + 1) >= 0) {
+            throw new IllegalArgumentException("gql template should contain exactly one ?: " + gqlTemplate);
+        }
+        return new String[]{gqlTemplate.substring(0, placeholder), gqlTemplate.substring(placeholder + 1)};
+    }
+}
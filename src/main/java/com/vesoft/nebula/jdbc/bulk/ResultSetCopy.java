@@ -0,0 +1,330 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copies the rows of a {@link ResultSet} of any driver into nebula, reading the source while earlier batches are
+ * written.
+ *
+ * <p>Source columns are mapped to the keys of row records, and the single ? placeholder of the gql template is
+ * replaced by a batch of them, for example
+ * <pre>
+ *     try (ResultSet users = mysql.createStatement().executeQuery("select user_id, name from users")) {
+ *         long rows = ResultSetCopy.builder("unwind ? as r insert or replace (v:User{id:r.id, name:r.name})")
+ *                                  .column("user_id", "id")
+ *                                  .column("name", "name")
+ *                                  .parallelism(8)
+ *                                  .build(connection)
+ *                                  .copyFrom(users);
+ *     }
+ * </pre>
+ * Without mapped columns every source column is copied under its label. Batches are bounded by rows and request
+ * bytes, at most queueSize rendered batches wait for the parallel workers, failed batches are retried with
+ * exponential backoff.
+ */
+public class ResultSetCopy {
+    private final String          prefix;
+    private final String          suffix;
+    private final int             envelopeBytes;
+    private final List<String>    sourceColumns;
+    private final List<String>    keys;
+    private final int             batchSize;
+    private final int             maxRequestBytes;
+    private final int             parallelism;
+    private final int             queueSize;
+    private final ExistenceFilter existenceFilter;
+    private final String          existenceKey;
+    private final Retry           retry;
+    private final AsyncExecutor   executor;
+
+    private volatile long skippedRows;
+
+    private ResultSetCopy(Builder builder, AsyncExecutor executor) {
+        String[] template = Requests.splitTemplate(builder.gqlTemplate);
+        this.prefix = template[0] + '[';
+        this.suffix = ']' + template[1];
+        this.envelopeBytes = Requests.utf8Length(prefix) + Requests.utf8Length(suffix);
+        this.sourceColumns = new ArrayList<>(builder.sourceColumns);
+        this.keys = new ArrayList<>(builder.keys);
+        this.batchSize = builder.batchSize;
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.parallelism = builder.parallelism;
+        this.queueSize = builder.queueSize;
+        this.existenceFilter = builder.existenceFilter;
+        this.existenceKey = builder.existenceKey;
+        this.retry = new Retry(builder.maxRetries, builder.initialBackoffMillis, builder.maxBackoffMillis);
+        this.executor = executor;
+    }
+
+    public static Builder builder(String gqlTemplate) {
+        return new Builder(gqlTemplate);
+    }
+
+    /**
+     * copy the remaining rows of the source, the source is not closed.
+     *
+     * @return number of copied rows
+     * @throws SQLException if reading the source failed or a batch still failed after all retries
+     */
+    public long copyFrom(ResultSet source) throws SQLException {
+        skippedRows = 0;
+        int[]    indexes;
+        String[] recordKeys;
+        if (sourceColumns.isEmpty()) {
+            ResultSetMetaData metaData = source.getMetaData();
+            indexes = new int[metaData.getColumnCount()];
+            recordKeys = new String[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = i + 1;
+                recordKeys[i] = metaData.getColumnLabel(i + 1);
+            }
+        } else {
+            indexes = new int[sourceColumns.size()];
+            recordKeys = keys.toArray(new String[0]);
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = source.findColumn(sourceColumns.get(i));
+            }
+        }
+
+        int keyColumn = existenceKey == null ? -1 : Arrays.asList(recordKeys).indexOf(existenceKey);
+        if (existenceKey != null && keyColumn < 0) {
+            throw new SQLException(String.format("key %s of the existence filter is not copied", existenceKey));
+        }
+
+        ParallelBatches batches = new ParallelBatches("nebula-jdbc-copy", parallelism, queueSize, retry, executor);
+        try {
+            StringBuilder batch     = new StringBuilder(prefix);
+            StringBuilder record    = new StringBuilder();
+            List<String>  batchKeys = new ArrayList<>();
+            int           bytes     = envelopeBytes;
+            int           rows      = 0;
+            long          skipped   = 0;
+            while (!batches.failed() && source.next()) {
+                record.setLength(0);
+                record.append('{');
+                int keyStart = -1;
+                int keyEnd   = -1;
+                for (int i = 0; i < indexes.length; i++) {
+                    if (i > 0) {
+                        record.append(',');
+                    }
+                    Requests.appendKey(record, recordKeys[i]).append(':');
+                    int valueStart = record.length();
+                    appendValue(record, source.getObject(indexes[i]));
+                    if (i == keyColumn && !Requests.isNullLiteral(record, valueStart)) {
+                        keyStart = valueStart;
+                        keyEnd = record.length();
+                    }
+                }
+                record.append('}');
+                if (keyStart >= 0 && existenceFilter.mightContain(record, keyStart, keyEnd)) {
+                    skippedRows = ++skipped;
+                    continue;
+                }
+
+                // the record and its separator
+                int recordBytes = Requests.utf8Length(record) + 1;
+                if (envelopeBytes + recordBytes > maxRequestBytes) {
+                    throw new SQLException(String.format("source row %s does not fit into maxRequestBytes %d",
+                                                         record, maxRequestBytes));
+                }
+                if (rows >= batchSize || (rows > 0 && bytes + recordBytes > maxRequestBytes)) {
+                    submit(batches, batch, batchKeys, rows);
+                    batchKeys = new ArrayList<>();
+                    bytes = envelopeBytes;
+                    rows = 0;
+                }
+                if (rows > 0) {
+                    batch.append(',');
+                }
+                if (keyStart >= 0) {
+                    batchKeys.add(record.substring(keyStart, keyEnd));
+                }
+                batch.append(record);
+                bytes += recordBytes;
+                rows++;
+            }
+            if (rows > 0 && !batches.failed()) {
+                submit(batches, batch, batchKeys, rows);
+            }
+        } catch (SQLException e) {
+            try {
+                batches.await();
+            } catch (SQLException failure) {
+                e.addSuppressed(failure);
+            }
+            throw e;
+        }
+        return batches.await();
+    }
+
+    private void submit(ParallelBatches batches, StringBuilder batch, List<String> batchKeys, int rows) {
+        ParallelBatches.Completion onSuccess = null;
+        if (existenceFilter != null) {
+            onSuccess = sequence -> {
+                for (String key : batchKeys) {
+                    existenceFilter.put(key, 0, key.length());
+                }
+            };
+        }
+        batches.submit(batch.append(suffix).toString(), rows, onSuccess);
+        batch.setLength(0);
+        batch.append(prefix);
+    }
+
+    /**
+     * @return number of rows the last copy skipped because the existence filter knew their key
+     */
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+
+    /**
+     * append the literal of a source value, JDBC types without a nebula counterpart are converted first.
+     */
+    static void appendValue(StringBuilder target, Object value) throws SQLException {
+        if (value instanceof String || value instanceof Character) {
+            String string = value.toString();
+            target.append('"');
+            for (int i = 0; i < string.length(); i++) {
+                Requests.appendEscaped(target, string.charAt(i));
+            }
+            target.append('"');
+        } else if (value instanceof Timestamp || value instanceof LocalDateTime) {
+            LocalDateTime datetime = value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime()
+                                                                : (LocalDateTime) value;
+            target.append("local_datetime(\"").append(datetime).append("\")");
+        } else if (value instanceof Time || value instanceof LocalTime) {
+            LocalTime time = value instanceof Time ? ((Time) value).toLocalTime() : (LocalTime) value;
+            target.append("local_time(\"").append(time).append("\")");
+        } else if (value instanceof BigDecimal) {
+            target.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof byte[]) {
+            throw new SQLException("binary source columns are not supported.");
+        } else {
+            target.append(NebulaPreparedStatementImpl.literal(value));
+        }
+    }
+
+    public static class Builder {
+        private final String          gqlTemplate;
+        private final List<String>    sourceColumns        = new ArrayList<>();
+        private final List<String>    keys                 = new ArrayList<>();
+        private       int             batchSize            = 1000;
+        private       int             maxRequestBytes      = 4 * 1024 * 1024;
+        private       int             parallelism          = 4;
+        private       int             queueSize            = 4;
+        private       ExistenceFilter existenceFilter;
+        private       String          existenceKey;
+        private       int             maxRetries           = 3;
+        private       long            initialBackoffMillis = 100;
+        private       long            maxBackoffMillis     = 5000;
+
+        private Builder(String gqlTemplate) {
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        /**
+         * copy the source column under the key of the row record.
+         */
+        public Builder column(String sourceColumn, String key) {
+            sourceColumns.add(sourceColumn);
+            keys.add(key);
+            return this;
+        }
+
+        /**
+         * @param batchSize max number of rows in one request
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxRequestBytes max size of one request in bytes
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param parallelism number of batches in flight, should not exceed the sessions of the connection
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param queueSize number of rendered batches waiting for a worker before reading the source blocks
+         */
+        public Builder queueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        /**
+         * skip the rows whose key the filter reports as existing, and put the keys of copied rows into it. Only
+         * for insert-if-absent copies, the filter may report absent keys as existing at its false positive rate.
+         *
+         * @param filter existence filter of the label of the rows
+         * @param key    record key of the row id
+         */
+        public Builder skipExisting(ExistenceFilter filter, String key) {
+            this.existenceFilter = filter;
+            this.existenceKey = key;
+            return this;
+        }
+
+        /**
+         * @param maxRetries           retries of a failed batch before the copy fails
+         * @param initialBackoffMillis backoff before the first retry, doubled for every further retry
+         * @param maxBackoffMillis     max backoff between retries
+         */
+        public Builder retry(int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+            this.maxRetries = maxRetries;
+            this.initialBackoffMillis = initialBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
+        public ResultSetCopy build(NebulaConnection connection) {
+            return build(AsyncExecutor.of(connection));
+        }
+
+        ResultSetCopy build(AsyncExecutor executor) {
+            Requests.splitTemplate(gqlTemplate);
+            if (batchSize < 1 || maxRequestBytes < 1 || parallelism < 1) {
+                throw new IllegalArgumentException(String.format("batchSize %d, maxRequestBytes %d and parallelism "
+                                                                 + "%d should be positive",
+                                                                 batchSize, maxRequestBytes, parallelism));
+            }
+            if (existenceFilter != null && existenceKey == null) {
+                throw new IllegalArgumentException("key of the existence filter is required");
+            }
+            if (queueSize < 0) {
+                throw new IllegalArgumentException("queueSize should not be negative: " + queueSize);
+            }
+            return new ResultSetCopy(this, executor);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes gql with retries and exponential backoff with jitter between the attempts.
+ *
+ * <p>Only transient failures are retried: requests failed by an IOException or a timeout, and results with an error
+ * code of the GQLSTATUS classes 08 (connection exception) or 40 (transaction rollback). Any other failure, such as a
+ * syntax or constraint error, is thrown at once since it would fail again.
+ */
+class Retry {
+    private final int  maxRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    Retry(int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries should not be negative: " + maxRetries);
+        }
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = Math.max(1, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+    }
+
+    /**
+     * execute the gql until it succeeds or maxRetries retries failed.
+     *
+     * @return the successful result
+     * @throws SQLException the failure of the last attempt
+     */
+    ResultSet execute(AsyncExecutor executor, String gql) throws SQLException {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                ResultSet result = executor.executeAsync(gql).get();
+                if (result.isSucceeded() || attempt >= maxRetries || !isTransient(result)) {
+                    NebulaStatementImpl.checkSucceeded(gql, result);
+                    return result;
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (attempt >= maxRetries || !isTransient(cause)) {
+                    throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            executor.getMetrics().recordRetry();
+            sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            backoff = Math.min(maxBackoffMillis, backoff * 2);
+        }
+    }
+
+    /**
+     * @return whether the failed result has an error code of a connection exception or a transaction rollback
+     */
+    static boolean isTransient(ResultSet result) {
+        ResultSet.ErrorCode errorCode = result.getErrorCode();
+        String              code      = errorCode == null ? null : errorCode.code;
+        return code != null && (code.startsWith("08") || code.startsWith("40"));
+    }
+
+    /**
+     * @return whether the request failed by an IOException, a timeout or a transient SQLException
+     */
+    static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException
+                || cause instanceof SQLTransientException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) throws SQLException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.values.EmbeddingVectors;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Upserts rows of id, embedding vector and properties in batches sized by a request byte budget, with several
+ * batches in flight over the sessions of a connection.
+ *
+ * <p>The gql template has one ? placeholder which is replaced by the list of row records
+ * {@code {id:.., <vectorKey>:vector([..]), <property>:..}}, for example
+ * <pre>
+ *     try (VectorUpsert upsert = VectorUpsert.builder("unwind ? as r insert or replace "
+ *                                                     + "(v:Doc{id:r.id, embedding:r.embedding, title:r.title})")
+ *                                            .maxRequestBytes(1024 * 1024)
+ *                                            .maxInFlight(4)
+ *                                            .build(connection)) {
+ *         upsert.add(1, vector, Collections.singletonMap("title", "nebula"));
+ *     }
+ * </pre>
+ * Rows are encoded straight into the request text, floats are written without boxing or formatting.
+ * Not thread-safe, use one instance per producer thread.
+ */
+public class VectorUpsert implements AutoCloseable {
+    private final String        prefix;
+    private final String        suffix;
+    private final int           envelopeBytes;
+    /**
+     * record keys, quoted if they are no plain identifiers
+     */
+    private final String        idKey;
+    private final String        vectorKey;
+    private final int           maxRequestBytes;
+    private final int           maxInFlight;
+    private final AsyncExecutor executor;
+
+    private final StringBuilder row   = new StringBuilder();
+    private final StringBuilder batch = new StringBuilder();
+    private       int           batchBytes;
+    private       int           batchRows;
+
+    private final Deque<InFlight> inFlight = new ArrayDeque<>();
+    private       long            upsertedRows;
+    private       boolean         closed;
+
+    private VectorUpsert(Builder builder, AsyncExecutor executor) {
+        String[] template = Requests.splitTemplate(builder.gqlTemplate);
+        this.prefix = template[0] + '[';
+        this.suffix = ']' + template[1];
+        this.envelopeBytes = Requests.utf8Length(prefix) + Requests.utf8Length(suffix);
+        this.idKey = Requests.appendKey(new StringBuilder(), builder.idKey).toString();
+        this.vectorKey = Requests.appendKey(new StringBuilder(), builder.vectorKey).toString();
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.maxInFlight = builder.maxInFlight;
+        this.executor = executor;
+        resetBatch();
+    }
+
+    public static Builder builder(String gqlTemplate) {
+        return new Builder(gqlTemplate);
+    }
+
+    /**
+     * add one row, a full batch is sent immediately. Blocks while maxInFlight batches are in flight.
+     *
+     * @param id         id of the row
+     * @param vector     embedding vector of the row
+     * @param properties other properties of the row, may be null
+     * @throws SQLException if the row does not fit into the byte budget or a previous batch failed
+     */
+    public void add(Object id, float[] vector, Map<String, ?> properties) throws SQLException {
+        checkClosed();
+        row.setLength(0);
+        row.append('{').append(idKey).append(':').append(NebulaPreparedStatementImpl.literal(id))
+           .append(',').append(vectorKey).append(':');
+        EmbeddingVectors.appendLiteral(row, vector);
+        if (properties != null) {
+            for (Map.Entry<String, ?> property : properties.entrySet()) {
+                Requests.appendKey(row.append(','), property.getKey()).append(':')
+                        .append(NebulaPreparedStatementImpl.literal(property.getValue()));
+            }
+        }
+        row.append('}');
+
+        // the row and its separator
+        int rowBytes = Requests.utf8Length(row) + 1;
+        if (envelopeBytes + rowBytes > maxRequestBytes) {
+            throw new SQLException(String.format("row of id %s does not fit into maxRequestBytes %d", id,
+                                                 maxRequestBytes));
+        }
+        if (batchRows > 0 && batchBytes + rowBytes > maxRequestBytes) {
+            send();
+        }
+        if (batchRows > 0) {
+            batch.append(',');
+        }
+        batch.append(row);
+        batchBytes += rowBytes;
+        batchRows++;
+    }
+
+    /**
+     * add all rows of the iterator, such as {@code stream.iterator()}.
+     */
+    public void addAll(Iterator<? extends VectorRow> rows) throws SQLException {
+        while (rows.hasNext()) {
+            VectorRow row = rows.next();
+            add(row.getId(), row.getVector(), row.getProperties());
+        }
+    }
+
+    /**
+     * send the pending rows and wait for all batches in flight.
+     *
+     * @return number of rows upserted by this instance so far
+     */
+    public long flush() throws SQLException {
+        checkClosed();
+        if (batchRows > 0) {
+            send();
+        }
+        while (!inFlight.isEmpty()) {
+            awaitOldest();
+        }
+        return upsertedRows;
+    }
+
+    /**
+     * @return number of rows acknowledged by graphd so far
+     */
+    public long getUpsertedRows() {
+        return upsertedRows;
+    }
+
+    private void send() throws SQLException {
+        while (inFlight.size() >= maxInFlight) {
+            awaitOldest();
+        }
+        String gql = batch.append(suffix).toString();
+        inFlight.add(new InFlight(gql, batchRows, executor.executeAsync(gql)));
+        resetBatch();
+    }
+
+    private void resetBatch() {
+        batch.setLength(0);
+        batch.append(prefix);
+        batchBytes = envelopeBytes;
+        batchRows = 0;
+    }
+
+    private void awaitOldest() throws SQLException {
+        InFlight oldest = inFlight.poll();
+        try {
+            NebulaStatementImpl.checkSucceeded(oldest.gql, oldest.future.get());
+            upsertedRows += oldest.rows;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+    }
+
+    private void checkClosed() throws SQLException {
+        if (closed) {
+            throw new SQLException("VectorUpsert already closed.");
+        }
+    }
+
+    /**
+     * flush the pending rows.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+        }
+    }
+
+    private static class InFlight {
+        private final String                       gql;
+        private final int                          rows;
+        private final CompletableFuture<ResultSet> future;
+
+        InFlight(String gql, int rows, CompletableFuture<ResultSet> future) {
+            this.gql = gql;
+            this.rows = rows;
+            this.future = future;
+        }
+    }
+
+    /**
+     * one row of a vector upsert
+     */
+    public static class VectorRow {
+        private final Object         id;
+        private final float[]        vector;
+        private final Map<String, ?> properties;
+
+        public VectorRow(Object id, float[] vector, Map<String, ?> properties) {
+            this.id = id;
+            this.vector = vector;
+            this.properties = properties == null ? Collections.emptyMap() : properties;
+        }
+
+        public Object getId() {
+            return id;
+        }
+
+        public float[] getVector() {
+            return vector;
+        }
+
+        public Map<String, ?> getProperties() {
+            return properties;
+        }
+    }
+
+    public static class Builder {
+        private final String gqlTemplate;
+        private       String idKey           = "id";
+        private       String vectorKey       = "embedding";
+        private       int    maxRequestBytes = 4 * 1024 * 1024;
+        private       int    maxInFlight     = 4;
+
+        private Builder(String gqlTemplate) {
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        /**
+         * @param idKey key of the id in the row records, id by default
+         */
+        public Builder idKey(String idKey) {
+            this.idKey = idKey;
+            return this;
+        }
+
+        /**
+         * @param vectorKey key of the vector in the row records, embedding by default
+         */
+        public Builder vectorKey(String vectorKey) {
+            this.vectorKey = vectorKey;
+            return this;
+        }
+
+        /**
+         * @param maxRequestBytes max size of one batch gql in bytes
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param maxInFlight max number of batches sent but not yet acknowledged
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public VectorUpsert build(NebulaConnection connection) {
+            return build(AsyncExecutor.of(connection));
+        }
+
+        VectorUpsert build(AsyncExecutor executor) {
+            Requests.splitTemplate(gqlTemplate);
+            if (maxRequestBytes < 1) {
+                throw new IllegalArgumentException("maxRequestBytes should be positive: " + maxRequestBytes);
+            }
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight should be positive: " + maxInFlight);
+            }
+            return new VectorUpsert(this, executor);
+        }
+    }
+}
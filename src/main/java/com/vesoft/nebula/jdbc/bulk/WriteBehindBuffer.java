@@ -0,0 +1,413 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fire-and-forget writes, buffered and sent in batches by a background flusher.
+ *
+ * <p>Rows are rendered as record literals into a bounded lock-free queue, the flusher replaces the single ?
+ * placeholder of the gql template with a batch of them, for example
+ * <pre>
+ *     WriteBehindBuffer buffer = WriteBehindBuffer.builder("unwind ? as r match (v:Device{id:r.id}) "
+ *                                                          + "set v.lastSeen = r.ts")
+ *                                                 .batchSize(1000)
+ *                                                 .flushInterval(100, TimeUnit.MILLISECONDS)
+ *                                                 .build(connection);
+ *     buffer.write(row);
+ * </pre>
+ * A batch is sent when batchSize rows are queued, when the flush interval elapsed or on {@link #flush()}.
+ * Failed batches are retried with exponential backoff, batches which still fail are dropped, logged and
+ * counted by {@link #getFailedRows()}. Writers block when the queue is full.
+ */
+public class WriteBehindBuffer implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * sign bit of the state, set by close so that no row is reserved after the flusher saw the last one
+     */
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final String        prefix;
+    private final String        suffix;
+    private final int           capacity;
+    private final int           batchSize;
+    private final int           maxRequestBytes;
+    private final long          flushIntervalNanos;
+    private final long          offerTimeoutNanos;
+    private final Retry         retry;
+    private final AsyncExecutor executor;
+
+    private final    Queue<String> queue     = new ConcurrentLinkedQueue<>();
+    private final    AtomicLong    enqueued  = new AtomicLong();
+    private final    AtomicLong    completed = new AtomicLong();
+    private final    Object        flushed   = new Object();
+    private final    Thread        flusher;
+    private volatile long          flushRequested;
+
+    /**
+     * number of reserved rows, with the {@link #CLOSED} bit once closed
+     */
+    private final AtomicInteger state = new AtomicInteger();
+
+    private final LongAdder  writtenRows    = new LongAdder();
+    private final LongAdder  failedRows     = new LongAdder();
+    private final LongAdder  rejectedWrites = new LongAdder();
+    private final LongAdder  flushCount     = new LongAdder();
+    private final LongAdder  flushNanos     = new LongAdder();
+    private final AtomicLong maxFlushNanos  = new AtomicLong();
+
+    private WriteBehindBuffer(Builder builder, AsyncExecutor executor) {
+        String[] template = Requests.splitTemplate(builder.gqlTemplate);
+        this.prefix = template[0] + '[';
+        this.suffix = ']' + template[1];
+        this.capacity = builder.capacity;
+        this.batchSize = builder.batchSize;
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.flushIntervalNanos = builder.flushIntervalNanos;
+        this.offerTimeoutNanos = builder.offerTimeoutNanos;
+        this.retry = new Retry(builder.maxRetries, builder.initialBackoffMillis, builder.maxBackoffMillis);
+        this.executor = executor;
+        this.flusher = new Thread(this::runFlusher, "nebula-jdbc-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public static Builder builder(String gqlTemplate) {
+        return new Builder(gqlTemplate);
+    }
+
+    /**
+     * enqueue the row, blocks while the queue is full.
+     *
+     * @param row properties of the row record
+     * @throws SQLTimeoutException if the queue stayed full for the offer timeout
+     */
+    public void write(Map<String, ?> row) throws SQLException {
+        String record    = Requests.appendRecord(new StringBuilder(), row).toString();
+        long   waitUntil = System.nanoTime() + offerTimeoutNanos;
+        while (!offer(record)) {
+            LockSupport.unpark(flusher);
+            if (System.nanoTime() - waitUntil >= 0) {
+                rejectedWrites.increment();
+                throw new SQLTimeoutException(String.format("write-behind queue stayed full with %d rows", capacity));
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    /**
+     * enqueue the row without blocking.
+     *
+     * @return false if the queue is full
+     */
+    public boolean tryWrite(Map<String, ?> row) throws SQLException {
+        boolean accepted = offer(Requests.appendRecord(new StringBuilder(), row).toString());
+        if (!accepted) {
+            rejectedWrites.increment();
+        }
+        return accepted;
+    }
+
+    private boolean offer(String record) throws SQLException {
+        int size;
+        do {
+            size = state.get();
+            if ((size & CLOSED) != 0) {
+                throw new SQLException("WriteBehindBuffer already closed.");
+            }
+            if (size >= capacity) {
+                return false;
+            }
+        } while (!state.compareAndSet(size, size + 1));
+        queue.offer(record);
+        enqueued.incrementAndGet();
+        if (size + 1 >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    /**
+     * send all rows written before this call and wait until they are written or dropped.
+     */
+    public void flush() throws SQLException {
+        long target = enqueued.get();
+        flushRequested = target;
+        LockSupport.unpark(flusher);
+        synchronized (flushed) {
+            while (completed.get() < target) {
+                if (!flusher.isAlive()) {
+                    throw new SQLException("write-behind flusher stopped.");
+                }
+                try {
+                    flushed.wait(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(e);
+                }
+            }
+        }
+    }
+
+    private void runFlusher() {
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        while (!isClosed() || depth() > 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                dropQueued();
+                return;
+            }
+            long now = System.nanoTime();
+            if (depth() >= batchSize || now - nextFlush >= 0 || flushRequested > completed.get() || isClosed()) {
+                while (depth() > 0 && !Thread.currentThread().isInterrupted()) {
+                    sendBatch();
+                }
+                nextFlush = System.nanoTime() + flushIntervalNanos;
+            } else {
+                LockSupport.parkNanos(this, nextFlush - now);
+            }
+        }
+    }
+
+    /**
+     * close the buffer for writers and drop the queued rows as failed, when the flusher is interrupted.
+     */
+    private void dropQueued() {
+        state.getAndUpdate(s -> s | CLOSED);
+        int dropped = 0;
+        while (depth() > 0) {
+            String record = queue.poll();
+            if (record == null) {
+                // a writer reserved its slot but did not enqueue yet
+                Thread.yield();
+                continue;
+            }
+            state.decrementAndGet();
+            dropped++;
+        }
+        failedRows.add(dropped);
+        completed.addAndGet(dropped);
+        synchronized (flushed) {
+            flushed.notifyAll();
+        }
+        if (dropped > 0) {
+            logger.error(String.format("write-behind flusher interrupted, %d rows dropped", dropped));
+        }
+    }
+
+    private boolean isClosed() {
+        return (state.get() & CLOSED) != 0;
+    }
+
+    private int depth() {
+        return state.get() & ~CLOSED;
+    }
+
+    private void sendBatch() {
+        StringBuilder batch      = new StringBuilder(prefix);
+        int           batchBytes = Requests.utf8Length(prefix) + Requests.utf8Length(suffix);
+        int           rows       = 0;
+        String        record;
+        while (rows < batchSize && (record = queue.peek()) != null) {
+            int recordBytes = Requests.utf8Length(record) + 1;
+            if (rows > 0 && batchBytes + recordBytes > maxRequestBytes) {
+                break;
+            }
+            queue.poll();
+            if (rows > 0) {
+                batch.append(',');
+            }
+            batch.append(record);
+            batchBytes += recordBytes;
+            rows++;
+        }
+        if (rows == 0) {
+            // a writer reserved its slot but did not enqueue yet
+            Thread.yield();
+            return;
+        }
+        state.addAndGet(-rows);
+        executor.getMetrics().recordBatch(rows);
+
+        String gql   = batch.append(suffix).toString();
+        long   start = System.nanoTime();
+        try {
+            retry.execute(executor, gql);
+            writtenRows.add(rows);
+        } catch (SQLException e) {
+            failedRows.add(rows);
+            logger.error(String.format("write-behind batch of %d rows dropped", rows), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            flushCount.increment();
+            flushNanos.add(elapsed);
+            maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+            completed.addAndGet(rows);
+            synchronized (flushed) {
+                flushed.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return number of rows waiting in the queue
+     */
+    public int getQueueDepth() {
+        return depth();
+    }
+
+    public long getWrittenRows() {
+        return writtenRows.sum();
+    }
+
+    /**
+     * @return number of rows dropped after all retries failed
+     */
+    public long getFailedRows() {
+        return failedRows.sum();
+    }
+
+    /**
+     * @return number of writes rejected because the queue was full
+     */
+    public long getRejectedWrites() {
+        return rejectedWrites.sum();
+    }
+
+    /**
+     * @return number of batches sent, including failed ones
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * @return mean latency of a batch including retries, in nanoseconds
+     */
+    public long getMeanFlushNanos() {
+        long count = flushCount.sum();
+        return count == 0 ? 0 : flushNanos.sum() / count;
+    }
+
+    public long getMaxFlushNanos() {
+        return maxFlushNanos.get();
+    }
+
+    /**
+     * flush the queued rows and stop the flusher, later writes are rejected with an SQLException.
+     */
+    @Override
+    public void close() throws SQLException {
+        if ((state.getAndUpdate(s -> s | CLOSED) & CLOSED) != 0) {
+            return;
+        }
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+    }
+
+    public static class Builder {
+        private final String gqlTemplate;
+        private       int    capacity             = 100000;
+        private       int    batchSize            = 1000;
+        private       int    maxRequestBytes      = 4 * 1024 * 1024;
+        private       long   flushIntervalNanos   = TimeUnit.MILLISECONDS.toNanos(100);
+        private       long   offerTimeoutNanos    = TimeUnit.SECONDS.toNanos(30);
+        private       int    maxRetries           = 3;
+        private       long   initialBackoffMillis = 100;
+        private       long   maxBackoffMillis     = 5000;
+
+        private Builder(String gqlTemplate) {
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        /**
+         * @param capacity max number of queued rows, writers block beyond it
+         */
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * @param batchSize max number of rows in one request, a flush starts as soon as they are queued
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxRequestBytes max size of one request in bytes
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param interval max time a row waits in the queue before it is flushed
+         */
+        public Builder flushInterval(long interval, TimeUnit unit) {
+            this.flushIntervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        /**
+         * @param timeout max time {@link #write(Map)} blocks on a full queue
+         */
+        public Builder offerTimeout(long timeout, TimeUnit unit) {
+            this.offerTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * @param maxRetries           retries of a failed batch before it is dropped
+         * @param initialBackoffMillis backoff before the first retry, doubled for every further retry
+         * @param maxBackoffMillis     max backoff between retries
+         */
+        public Builder retry(int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+            this.maxRetries = maxRetries;
+            this.initialBackoffMillis = initialBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
+        public WriteBehindBuffer build(NebulaConnection connection) {
+            return build(AsyncExecutor.of(connection));
+        }
+
+        WriteBehindBuffer build(AsyncExecutor executor) {
+            Requests.splitTemplate(gqlTemplate);
+            if (capacity < 1 || batchSize < 1 || maxRequestBytes < 1) {
+                throw new IllegalArgumentException(String.format("capacity %d, batchSize %d and maxRequestBytes %d "
+                                                                 + "should be positive",
+                                                                 capacity, batchSize, maxRequestBytes));
+            }
+            if (flushIntervalNanos <= 0) {
+                throw new IllegalArgumentException("flushInterval should be positive: " + flushIntervalNanos);
+            }
+            return new WriteBehindBuffer(this, executor);
+        }
+    }
+}
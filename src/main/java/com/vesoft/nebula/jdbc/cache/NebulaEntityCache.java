@@ -0,0 +1,182 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.cache;
+
+import com.vesoft.nebula.driver.graph.data.Edge;
+import com.vesoft.nebula.driver.graph.data.Node;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.values.DriverRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through cache of nodes and edges looked up by a key property, such as the primary key of a label.
+ *
+ * <p>Hits are served from a bounded LRU cache, all misses of one lookup are fetched by a single IN-list query.
+ * Entries are invalidated through {@link WriteGenerations} by any write which touches their label, writes whose
+ * labels are unknown invalidate the whole graph.
+ */
+public class NebulaEntityCache {
+    private static final String NODE_GQL = "MATCH (v:`%s`) WHERE v.`%s` IN ? RETURN v.`%s` AS k, v AS e";
+    private static final String EDGE_GQL = "MATCH ()-[e:`%s`]->() WHERE e.`%s` IN ? RETURN e.`%s` AS k, e AS e";
+
+    private final SegmentedLruCache<String, Entry> entries;
+    private final WriteGenerations                 generations;
+
+    public NebulaEntityCache(int maxEntries, long ttlMillis, WriteGenerations generations) {
+        this.entries = new SegmentedLruCache<>(maxEntries, Long.MAX_VALUE, TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+        this.generations = generations;
+    }
+
+    /**
+     * create the cache configured by {@link NebulaPropertyKey#ENTITYCACHEMAXENTRIES} and
+     * {@link NebulaPropertyKey#ENTITYCACHETTL}.
+     */
+    public static NebulaEntityCache fromProperties(Properties properties, WriteGenerations generations) {
+        return new NebulaEntityCache(NebulaPropertyKey.ENTITYCACHEMAXENTRIES.getInt(properties, 10000),
+                                     NebulaPropertyKey.ENTITYCACHETTL.getLong(properties, 60_000),
+                                     generations);
+    }
+
+    /**
+     * look up the nodes of a label by a key property.
+     *
+     * @param connection  connection to fetch the misses with
+     * @param label       label of the nodes
+     * @param keyProperty property the ids are matched against
+     * @param ids         values of the key property
+     * @return the found nodes by id, in the order of ids, absent ids are missing in the map
+     */
+    public Map<Object, Node> getNodes(NebulaConnection connection, String label, String keyProperty,
+                                      Collection<?> ids) throws SQLException {
+        Map<Object, Node> nodes = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entity : lookup(connection, NODE_GQL, "node", label, keyProperty, ids)
+                .entrySet()) {
+            nodes.put(entity.getKey(), (Node) entity.getValue());
+        }
+        return nodes;
+    }
+
+    /**
+     * look up the edges of a label by a key property.
+     *
+     * @see #getNodes(NebulaConnection, String, String, Collection)
+     */
+    public Map<Object, Edge> getEdges(NebulaConnection connection, String label, String keyProperty,
+                                      Collection<?> ids) throws SQLException {
+        Map<Object, Edge> edges = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entity : lookup(connection, EDGE_GQL, "edge", label, keyProperty, ids)
+                .entrySet()) {
+            edges.put(entity.getKey(), (Edge) entity.getValue());
+        }
+        return edges;
+    }
+
+    private Map<Object, Object> lookup(NebulaConnection connection, String gqlFormat, String kind, String label,
+                                       String keyProperty, Collection<?> ids) throws SQLException {
+        if (label.indexOf('`') >= 0 || keyProperty.indexOf('`') >= 0) {
+            throw new SQLException(String.format("invalid label %s or key property %s", label, keyProperty));
+        }
+        String              graph  = connection.graphOf("");
+        String              prefix = kind + '\u0000' + graph + '\u0000' + label + '\u0000' + keyProperty + '\u0000';
+        Map<Object, Object> found  = new LinkedHashMap<>();
+        // ids are matched by their gql literal, so 1 and 1L are the same id
+        Map<String, Object> misses = new LinkedHashMap<>();
+        for (Object id : ids) {
+            String literal = literal(id);
+            // entries invalidated by a write are dropped and count as misses
+            Entry  entry   = entries.get(prefix + literal, e -> e.stamp.isCurrent());
+            if (entry != null) {
+                found.put(id, entry.entity);
+            } else {
+                misses.put(literal, id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        WriteGenerations.Stamp stamp = generations.stamp(graph, Collections.singleton(label));
+        String gql = NebulaPreparedStatementImpl.render(String.format(gqlFormat, label, keyProperty, keyProperty),
+                                                        misses.values());
+        com.vesoft.nebula.driver.graph.data.ResultSet result = connection.execute(gql);
+        NebulaStatementImpl.checkSucceeded(gql, result);
+        DriverRecordCursor cursor = new DriverRecordCursor(result);
+        while (cursor.hasNext()) {
+            NebulaRecord record  = cursor.next();
+            String       literal = literal(record.get("k"));
+            Object       entity  = entity(record.get("e"));
+            Object       id      = misses.get(literal);
+            if (id == null || entity == null) {
+                continue;
+            }
+            found.put(id, entity);
+            if (stamp.isCurrent()) {
+                entries.put(prefix + literal, new Entry(entity, stamp), 1);
+            }
+        }
+        return found;
+    }
+
+    private static Object entity(ValueWrapper value) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.isNode() ? value.asNode() : value.isEdge() ? value.asEdge() : null;
+    }
+
+    private static String literal(Object id) throws SQLException {
+        if (id instanceof ValueWrapper) {
+            ValueWrapper value = (ValueWrapper) id;
+            id = value.isNull() ? null : value.isLong() ? value.asLong() : value.isString() ? value.asString()
+                                                                                             : value.getValue();
+        }
+        return NebulaPreparedStatementImpl.render("?", id);
+    }
+
+    /**
+     * drop all cached entities of the label.
+     */
+    public void invalidate(String graph, String label) {
+        generations.invalidate(graph, Collections.singleton(label));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return entries.hitCount();
+    }
+
+    public long missCount() {
+        return entries.missCount();
+    }
+
+    private static class Entry {
+        private final Object                 entity;
+        private final WriteGenerations.Stamp stamp;
+
+        Entry(Object entity, WriteGenerations.Stamp stamp) {
+            this.entity = entity;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.cache;
+
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of decoded read results, keyed by the rendered gql and the session state. Entries are invalidated by
+ * writes through {@link WriteGenerations}.
+ */
+public class NebulaResultCache {
+    private final SegmentedLruCache<String, Entry> entries;
+    private final WriteGenerations                 generations;
+
+    public NebulaResultCache(int maxEntries, long maxBytes, long ttlMillis, WriteGenerations generations) {
+        this.entries = new SegmentedLruCache<>(maxEntries, maxBytes, TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+        this.generations = generations;
+    }
+
+    /**
+     * create the cache configured by {@link NebulaPropertyKey#RESULTCACHEMAXENTRIES},
+     * {@link NebulaPropertyKey#RESULTCACHEMAXBYTES} and {@link NebulaPropertyKey#RESULTCACHETTL}.
+     *
+     * @return the cache, null if the result cache is not enabled
+     */
+    public static NebulaResultCache fromProperties(Properties properties, WriteGenerations generations) {
+        int maxEntries = NebulaPropertyKey.RESULTCACHEMAXENTRIES.getInt(properties, 0);
+        if (maxEntries <= 0) {
+            return null;
+        }
+        return new NebulaResultCache(maxEntries,
+                                     NebulaPropertyKey.RESULTCACHEMAXBYTES.getLong(properties, 64L * 1024 * 1024),
+                                     NebulaPropertyKey.RESULTCACHETTL.getLong(properties, 10_000),
+                                     generations);
+    }
+
+    /**
+     * @return the cached result, null if absent, expired or invalidated by a write
+     */
+    public NebulaResultTable get(String key) {
+        Entry entry = entries.get(key, e -> e.stamp.isCurrent());
+        return entry == null ? null : entry.table;
+    }
+
+    /**
+     * record the write generations a read depends on, must be called before the read is sent.
+     *
+     * @param graph  graph of the read
+     * @param labels labels the read touches, null if unknown
+     */
+    public WriteGenerations.Stamp stamp(String graph, Set<String> labels) {
+        return generations.stamp(graph, labels);
+    }
+
+    public void put(String key, NebulaResultTable table, WriteGenerations.Stamp stamp) {
+        if (stamp.isCurrent()) {
+            entries.put(key, new Entry(table, stamp), table.estimatedBytes());
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long estimatedBytes() {
+        return entries.weightedSize();
+    }
+
+    public long hitCount() {
+        return entries.hitCount();
+    }
+
+    public long missCount() {
+        return entries.missCount();
+    }
+
+    private static class Entry {
+        private final NebulaResultTable      table;
+        private final WriteGenerations.Stamp stamp;
+
+        Entry(NebulaResultTable table, WriteGenerations.Stamp stamp) {
+            this.table = table;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A segmented LRU cache bounded by entry count and total weight, with per-entry time to live.
+ *
+ * <p>New entries enter the probation segment, an entry hit again while on probation is promoted to the
+ * protected segment, which holds 80% of the capacity. Entries demoted from the protected segment go back to
+ * probation, and eviction always starts from the least recently used entry on probation. So entries read once
+ * can not flush out the frequently read ones.
+ */
+public class SegmentedLruCache<K, V> {
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final int  maxEntries;
+    private final long maxWeight;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Node<V>> probation       = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> protect         = new LinkedHashMap<>(16, 0.75f, true);
+    private       long                      weight          = 0;
+    private       long                      protectedWeight = 0;
+
+    private final LongAdder hits      = new LongAdder();
+    private final LongAdder misses    = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxEntries max number of entries
+     * @param maxWeight  max total weight of the entries
+     * @param ttlNanos   time to live of every entry, non-positive for no expiry
+     */
+    public SegmentedLruCache(int maxEntries, long maxWeight, long ttlNanos) {
+        if (maxEntries < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("maxEntries and maxWeight should be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * @return the cached value, null if it is absent or expired
+     */
+    public V get(K key) {
+        return get(key, value -> true);
+    }
+
+    /**
+     * @param valid entries whose value fails the check are removed and counted as misses, like expired ones
+     * @return the cached value, null if it is absent, expired or not valid
+     */
+    public synchronized V get(K key, Predicate<? super V> valid) {
+        Node<V> node        = protect.get(key);
+        boolean onProbation = false;
+        if (node == null) {
+            node = probation.get(key);
+            onProbation = node != null;
+        }
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node) || !valid.test(node.value)) {
+            remove(key);
+            misses.increment();
+            return null;
+        }
+        if (onProbation) {
+            probation.remove(key);
+            promote(key, node);
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    /**
+     * put the value, entries heavier than the whole cache are not kept.
+     */
+    public synchronized void put(K key, V value, long entryWeight) {
+        remove(key);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        long expireAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : Long.MAX_VALUE;
+        probation.put(key, new Node<>(value, entryWeight, expireAt));
+        weight += entryWeight;
+        evict();
+    }
+
+    public synchronized V remove(K key) {
+        Node<V> node = probation.remove(key);
+        if (node == null) {
+            node = protect.remove(key);
+            if (node != null) {
+                protectedWeight -= node.weight;
+            }
+        }
+        if (node == null) {
+            return null;
+        }
+        weight -= node.weight;
+        return node.value;
+    }
+
+    public synchronized void clear() {
+        probation.clear();
+        protect.clear();
+        weight = 0;
+        protectedWeight = 0;
+    }
+
+    public synchronized int size() {
+        return probation.size() + protect.size();
+    }
+
+    public synchronized long weightedSize() {
+        return weight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return node.expireAt != Long.MAX_VALUE && System.nanoTime() - node.expireAt > 0;
+    }
+
+    private void promote(K key, Node<V> node) {
+        protect.put(key, node);
+        protectedWeight += node.weight;
+        int  maxProtectedEntries = Math.max(1, (int) (maxEntries * PROTECTED_RATIO));
+        long maxProtectedWeight  = Math.max(1, (long) (maxWeight * PROTECTED_RATIO));
+        Iterator<Map.Entry<K, Node<V>>> iterator = protect.entrySet().iterator();
+        while ((protect.size() > maxProtectedEntries || protectedWeight > maxProtectedWeight) && iterator.hasNext()) {
+            Map.Entry<K, Node<V>> eldest = iterator.next();
+            if (eldest.getValue() == node) {
+                break;
+            }
+            iterator.remove();
+            protectedWeight -= eldest.getValue().weight;
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evict() {
+        evictFrom(probation, false);
+        evictFrom(protect, true);
+    }
+
+    private void evictFrom(LinkedHashMap<K, Node<V>> segment, boolean isProtected) {
+        Iterator<Node<V>> iterator = segment.values().iterator();
+        while ((size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+            Node<V> eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.weight;
+            if (isProtected) {
+                protectedWeight -= eldest.weight;
+            }
+            evictions.increment();
+        }
+    }
+
+    private static class Node<V> {
+        private final V    value;
+        private final long weight;
+        private final long expireAt;
+
+        Node(V value, long weight, long expireAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation counters bumped by writes, which the driver-side caches use for invalidation instead of scanning
+ * their entries.
+ *
+ * <p>Every write bumps the counters of the labels it touches, or the graph-wide counter if its labels are
+ * unknown. A cache entry records the counters it depends on before its gql is sent, and is stale as soon as
+ * any of them moved. So a write racing with an in-flight read can not leave a stale entry behind.
+ */
+public class WriteGenerations {
+    private static final String ANY_LABEL = "\u0000*";
+    private static final String ANY_WRITE = "\u0000#";
+
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private volatile boolean                        tracking    = false;
+
+    /**
+     * record the write generations a read depends on, must be called before the read is sent.
+     *
+     * @param graph  graph of the read
+     * @param labels labels the read touches, null if unknown
+     */
+    public Stamp stamp(String graph, Set<String> labels) {
+        tracking = true;
+        if (labels == null) {
+            return new Stamp(new AtomicLong[]{counter(graph, ANY_WRITE)});
+        }
+        AtomicLong[] counters = new AtomicLong[labels.size() + 1];
+        counters[0] = counter(graph, ANY_LABEL);
+        int i = 1;
+        for (String label : labels) {
+            counters[i++] = counter(graph, label);
+        }
+        return new Stamp(counters);
+    }
+
+    /**
+     * mark the reads depending on the written labels as stale.
+     *
+     * @param graph  graph of the write
+     * @param labels labels the write touches, null if unknown, then the whole graph is invalidated
+     */
+    public void invalidate(String graph, Set<String> labels) {
+        counter(graph, ANY_WRITE).incrementAndGet();
+        if (labels == null) {
+            counter(graph, ANY_LABEL).incrementAndGet();
+            return;
+        }
+        for (String label : labels) {
+            counter(graph, label).incrementAndGet();
+        }
+    }
+
+    /**
+     * @return false until the first read is stamped, writes need not to be classified before that
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    private AtomicLong counter(String graph, String label) {
+        return generations.computeIfAbsent((graph == null ? "" : graph) + '\u0000' + label, k -> new AtomicLong());
+    }
+
+    /**
+     * the write generations a cached read depends on
+     */
+    public static class Stamp {
+        private final AtomicLong[] counters;
+        private final long[]       values;
+
+        private Stamp(AtomicLong[] counters) {
+            this.counters = counters;
+            this.values = new long[counters.length];
+            for (int i = 0; i < counters.length; i++) {
+                values[i] = counters[i].get();
+            }
+        }
+
+        /**
+         * @return true if no write touched the read since the stamp was taken
+         */
+        public boolean isCurrent() {
+            for (int i = 0; i < counters.length; i++) {
+                if (counters[i].get() != values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.graph;
+
+import java.util.Arrays;
+
+/**
+ * Edge list in parallel primitive arrays: the i-th edge goes from {@link #getSrc(int)} to {@link #getDst(int)}
+ * and was found in hop {@link #getHop(int)}, starting from 1.
+ */
+public class Adjacency {
+    private long[] src  = new long[64];
+    private long[] dst  = new long[64];
+    private int[]  hops = new int[64];
+    private int    size = 0;
+
+    void add(long srcId, long dstId, int hop) {
+        if (size == src.length) {
+            int capacity = size << 1;
+            src = Arrays.copyOf(src, capacity);
+            dst = Arrays.copyOf(dst, capacity);
+            hops = Arrays.copyOf(hops, capacity);
+        }
+        src[size] = srcId;
+        dst[size] = dstId;
+        hops[size] = hop;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getSrc(int index) {
+        checkIndex(index);
+        return src[index];
+    }
+
+    public long getDst(int index) {
+        checkIndex(index);
+        return dst[index];
+    }
+
+    public int getHop(int index) {
+        checkIndex(index);
+        return hops[index];
+    }
+
+    /**
+     * @return copy of the source ids of all edges
+     */
+    public long[] srcIds() {
+        return Arrays.copyOf(src, size);
+    }
+
+    /**
+     * @return copy of the destination ids of all edges
+     */
+    public long[] dstIds() {
+        return Arrays.copyOf(dst, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("edge index " + index + " out of " + size);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.graph;
+
+import com.vesoft.nebula.driver.graph.data.Edge;
+import com.vesoft.nebula.driver.graph.data.Node;
+import com.vesoft.nebula.driver.graph.data.Path;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Directed graph in compressed sparse row form, drained from a result with node, edge or path columns.
+ *
+ * <p>Vertex ids are re-indexed densely to 0..vertexCount-1. The out-edges of vertex v are the edge indexes
+ * {@code getOffsets()[v]} until {@code getOffsets()[v + 1]}, edge e points to vertex {@code getTargets()[e]}.
+ * Labels are stored once in a shared table and referenced by index, selected properties are kept in typed
+ * columns indexed by vertex or edge.
+ * <pre>
+ *     CsrGraph graph = CsrGraph.builder().edgeDoubleProperty("weight").build(resultSet);
+ *     for (int e = graph.getOffsets()[v]; e &lt; graph.getOffsets()[v + 1]; e++) {
+ *         int target = graph.getTargets()[e];
+ *     }
+ * </pre>
+ */
+public class CsrGraph {
+    /**
+     * value of long property columns where the property is absent or null
+     */
+    public static final long MISSING_LONG = Long.MIN_VALUE;
+
+    private final long[]                vertexIds;
+    private final LongIntHashMap        vertexIndex;
+    private final int[]                 offsets;
+    private final int[]                 targets;
+    private final String[]              labels;
+    private final int[]                 vertexLabels;
+    private final int[]                 edgeLabels;
+    private final Map<String, long[]>   vertexLongs;
+    private final Map<String, double[]> vertexDoubles;
+    private final Map<String, long[]>   edgeLongs;
+    private final Map<String, double[]> edgeDoubles;
+
+    private CsrGraph(Loader loader) {
+        int vertexCount = loader.vertexCount;
+        int edgeCount   = loader.edgeCount;
+        this.vertexIds = Arrays.copyOf(loader.vertexIds, vertexCount);
+        this.vertexIndex = loader.vertexIndex;
+        this.labels = loader.labels.toArray(new String[0]);
+        this.vertexLabels = Arrays.copyOf(loader.vertexLabels, vertexCount);
+
+        // counting sort of the edges by source vertex
+        this.offsets = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[loader.edgeSources[e] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] position    = Arrays.copyOf(offsets, vertexCount);
+        int[] permutation = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            permutation[e] = position[loader.edgeSources[e]]++;
+        }
+        this.targets = new int[edgeCount];
+        this.edgeLabels = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            targets[permutation[e]] = loader.edgeTargets[e];
+            edgeLabels[permutation[e]] = loader.edgeLabels[e];
+        }
+
+        this.vertexLongs = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> column : loader.vertexLongs.entrySet()) {
+            vertexLongs.put(column.getKey(), Arrays.copyOf(column.getValue(), vertexCount));
+        }
+        this.vertexDoubles = new LinkedHashMap<>();
+        for (Map.Entry<String, double[]> column : loader.vertexDoubles.entrySet()) {
+            vertexDoubles.put(column.getKey(), Arrays.copyOf(column.getValue(), vertexCount));
+        }
+        this.edgeLongs = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> column : loader.edgeLongs.entrySet()) {
+            long[] values = new long[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                values[permutation[e]] = column.getValue()[e];
+            }
+            edgeLongs.put(column.getKey(), values);
+        }
+        this.edgeDoubles = new LinkedHashMap<>();
+        for (Map.Entry<String, double[]> column : loader.edgeDoubles.entrySet()) {
+            double[] values = new double[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                values[permutation[e]] = column.getValue()[e];
+            }
+            edgeDoubles.put(column.getKey(), values);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getVertexCount() {
+        return vertexIds.length;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return the original id of the dense vertex index
+     */
+    public long getVertexId(int vertex) {
+        return vertexIds[vertex];
+    }
+
+    /**
+     * @return the dense index of the original vertex id, -1 if the vertex is not in the graph
+     */
+    public int indexOf(long vertexId) {
+        return vertexIndex.get(vertexId);
+    }
+
+    /**
+     * @return the offsets array of vertexCount + 1 entries, shared with the graph and must not be modified
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * @return the targets array of edgeCount entries, shared with the graph and must not be modified
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int getOutDegree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * @return the first label of the vertex, null if the vertex was only seen as an edge end
+     */
+    public String getVertexLabel(int vertex) {
+        int label = vertexLabels[vertex];
+        return label < 0 ? null : labels[label];
+    }
+
+    public String getEdgeLabel(int edge) {
+        int label = edgeLabels[edge];
+        return label < 0 ? null : labels[label];
+    }
+
+    /**
+     * @return the long column of the vertex property, indexed by vertex, {@link #MISSING_LONG} where absent
+     */
+    public long[] getVertexLongProperty(String name) {
+        return column(vertexLongs, name);
+    }
+
+    /**
+     * @return the double column of the vertex property, indexed by vertex, NaN where absent
+     */
+    public double[] getVertexDoubleProperty(String name) {
+        return column(vertexDoubles, name);
+    }
+
+    /**
+     * @return the long column of the edge property, indexed by edge, {@link #MISSING_LONG} where absent
+     */
+    public long[] getEdgeLongProperty(String name) {
+        return column(edgeLongs, name);
+    }
+
+    /**
+     * @return the double column of the edge property, indexed by edge, NaN where absent
+     */
+    public double[] getEdgeDoubleProperty(String name) {
+        return column(edgeDoubles, name);
+    }
+
+    private static <T> T column(Map<String, T> columns, String name) {
+        T column = columns.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("property column was not requested: " + name);
+        }
+        return column;
+    }
+
+    public static class Builder {
+        private final List<String> vertexLongs   = new ArrayList<>();
+        private final List<String> vertexDoubles = new ArrayList<>();
+        private final List<String> edgeLongs     = new ArrayList<>();
+        private final List<String> edgeDoubles   = new ArrayList<>();
+        private       boolean      dedupeEdges   = true;
+
+        private Builder() {
+        }
+
+        public Builder vertexLongProperty(String name) {
+            vertexLongs.add(name);
+            return this;
+        }
+
+        public Builder vertexDoubleProperty(String name) {
+            vertexDoubles.add(name);
+            return this;
+        }
+
+        public Builder edgeLongProperty(String name) {
+            edgeLongs.add(name);
+            return this;
+        }
+
+        public Builder edgeDoubleProperty(String name) {
+            edgeDoubles.add(name);
+            return this;
+        }
+
+        /**
+         * @param dedupeEdges keep one edge per source, target and label, true by default since paths of one
+         *                    result usually share edges
+         */
+        public Builder dedupeEdges(boolean dedupeEdges) {
+            this.dedupeEdges = dedupeEdges;
+            return this;
+        }
+
+        /**
+         * drain all node, edge and path values of all columns of the result, other values are ignored.
+         */
+        public CsrGraph build(ResultSet resultSet) throws SQLException {
+            Loader loader      = new Loader(this);
+            int    columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    loader.add(resultSet.getObject(i));
+                }
+            }
+            return new CsrGraph(loader);
+        }
+    }
+
+    /**
+     * growable state while draining a result
+     */
+    private static class Loader {
+        private final boolean              dedupeEdges;
+        private final LongIntHashMap       vertexIndex = new LongIntHashMap(1024, -1);
+        private final Map<String, Integer> labelIndex  = new HashMap<>();
+        private final List<String>         labels      = new ArrayList<>();
+        private final List<LongHashSet>    edgeKeys    = new ArrayList<>();
+
+        private long[] vertexIds    = new long[64];
+        private int[]  vertexLabels = new int[64];
+        private int    vertexCount  = 0;
+        private int[]  edgeSources  = new int[64];
+        private int[]  edgeTargets  = new int[64];
+        private int[]  edgeLabels   = new int[64];
+        private int    edgeCount    = 0;
+
+        private final Map<String, long[]>   vertexLongs   = new LinkedHashMap<>();
+        private final Map<String, double[]> vertexDoubles = new LinkedHashMap<>();
+        private final Map<String, long[]>   edgeLongs     = new LinkedHashMap<>();
+        private final Map<String, double[]> edgeDoubles   = new LinkedHashMap<>();
+
+        Loader(Builder builder) {
+            this.dedupeEdges = builder.dedupeEdges;
+            for (String name : builder.vertexLongs) {
+                vertexLongs.put(name, new long[64]);
+            }
+            for (String name : builder.vertexDoubles) {
+                vertexDoubles.put(name, new double[64]);
+            }
+            for (String name : builder.edgeLongs) {
+                edgeLongs.put(name, new long[64]);
+            }
+            for (String name : builder.edgeDoubles) {
+                edgeDoubles.put(name, new double[64]);
+            }
+        }
+
+        void add(Object value) {
+            if (value instanceof Node) {
+                addNode((Node) value);
+            } else if (value instanceof Edge) {
+                addEdge((Edge) value);
+            } else if (value instanceof Path) {
+                Path path = (Path) value;
+                for (Node node : path.getNodes()) {
+                    addNode(node);
+                }
+                for (Edge edge : path.getEdges()) {
+                    addEdge(edge);
+                }
+            } else if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    add(element instanceof ValueWrapper ? ((ValueWrapper) element).getValue() : element);
+                }
+            }
+        }
+
+        private void addNode(Node node) {
+            int vertex = vertex(node.getId());
+            if (vertexLabels[vertex] >= 0) {
+                return;
+            }
+            List<String> nodeLabels = node.getLabels();
+            vertexLabels[vertex] = nodeLabels == null || nodeLabels.isEmpty() ? -1 : label(nodeLabels.get(0));
+            Map<String, ValueWrapper> properties = properties(node.getProperties());
+            for (Map.Entry<String, long[]> column : vertexLongs.entrySet()) {
+                column.getValue()[vertex] = asLong(properties.get(column.getKey()));
+            }
+            for (Map.Entry<String, double[]> column : vertexDoubles.entrySet()) {
+                column.getValue()[vertex] = asDouble(properties.get(column.getKey()));
+            }
+        }
+
+        private void addEdge(Edge edge) {
+            int source = vertex(edge.getSrcId());
+            int target = vertex(edge.getDstId());
+            int label  = edge.getLabel() == null ? -1 : label(edge.getLabel());
+            if (dedupeEdges) {
+                while (edgeKeys.size() <= label + 1) {
+                    edgeKeys.add(new LongHashSet());
+                }
+                if (!edgeKeys.get(label + 1).add(((long) source << 32) | target)) {
+                    return;
+                }
+            }
+            if (edgeCount == edgeSources.length) {
+                int capacity = edgeCount << 1;
+                edgeSources = Arrays.copyOf(edgeSources, capacity);
+                edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+                edgeLabels = Arrays.copyOf(edgeLabels, capacity);
+                edgeLongs.replaceAll((name, values) -> Arrays.copyOf(values, capacity));
+                edgeDoubles.replaceAll((name, values) -> Arrays.copyOf(values, capacity));
+            }
+            int e = edgeCount++;
+            edgeSources[e] = source;
+            edgeTargets[e] = target;
+            edgeLabels[e] = label;
+            Map<String, ValueWrapper> properties = properties(edge.getProperties());
+            for (Map.Entry<String, long[]> column : edgeLongs.entrySet()) {
+                column.getValue()[e] = asLong(properties.get(column.getKey()));
+            }
+            for (Map.Entry<String, double[]> column : edgeDoubles.entrySet()) {
+                column.getValue()[e] = asDouble(properties.get(column.getKey()));
+            }
+        }
+
+        private int vertex(long id) {
+            int vertex = vertexIndex.get(id);
+            if (vertex >= 0) {
+                return vertex;
+            }
+            if (vertexCount == vertexIds.length) {
+                int capacity = vertexCount << 1;
+                vertexIds = Arrays.copyOf(vertexIds, capacity);
+                vertexLabels = Arrays.copyOf(vertexLabels, capacity);
+                vertexLongs.replaceAll((name, values) -> Arrays.copyOf(values, capacity));
+                vertexDoubles.replaceAll((name, values) -> Arrays.copyOf(values, capacity));
+            }
+            vertex = vertexCount++;
+            vertexIds[vertex] = id;
+            vertexLabels[vertex] = -1;
+            for (long[] values : vertexLongs.values()) {
+                values[vertex] = MISSING_LONG;
+            }
+            for (double[] values : vertexDoubles.values()) {
+                values[vertex] = Double.NaN;
+            }
+            vertexIndex.put(id, vertex);
+            return vertex;
+        }
+
+        private int label(String label) {
+            Integer index = labelIndex.get(label);
+            if (index == null) {
+                index = labels.size();
+                labels.add(label);
+                labelIndex.put(label, index);
+            }
+            return index;
+        }
+
+        private static Map<String, ValueWrapper> properties(Map<String, ValueWrapper> properties) {
+            return properties == null ? Collections.emptyMap() : properties;
+        }
+
+        private static long asLong(ValueWrapper value) {
+            return value == null || value.isNull() ? MISSING_LONG : value.asLong();
+        }
+
+        private static double asDouble(ValueWrapper value) {
+            if (value == null || value.isNull()) {
+                return Double.NaN;
+            }
+            return value.isLong() ? value.asLong() : value.asDouble();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.graph;
+
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.values.DriverRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Breadth-first traversal which expands a whole frontier per hop, so a k-hop traversal takes k rounds of queries
+ * instead of one query per visited vertex.
+ *
+ * <p>The expand template has one ? placeholder which is rendered as the list literal of the frontier ids, and
+ * returns the columns {@code src} and {@code dst} holding integer vertex ids, for example
+ * <pre>
+ *     KHopTraversal traversal = KHopTraversal.builder("unwind ? as id match (a:User{id:id})-[:Follows]->(b:User) "
+ *                                                     + "return a.id as src, b.id as dst")
+ *                                            .hops(3)
+ *                                            .maxFrontierSize(100000)
+ *                                            .build();
+ *     KHopTraversal.Result result = traversal.execute(connection, Arrays.asList(1L));
+ * </pre>
+ * Visited ids are deduplicated on the client, every vertex is expanded at most once.
+ */
+public class KHopTraversal {
+    public static final String SRC = "src";
+    public static final String DST = "dst";
+
+    private final String  expandTemplate;
+    private final int     hops;
+    private final int     maxFrontierSize;
+    private final int     chunkSize;
+    private final boolean parallel;
+
+    private KHopTraversal(Builder builder) {
+        this.expandTemplate = builder.expandTemplate;
+        this.hops = builder.hops;
+        this.maxFrontierSize = builder.maxFrontierSize;
+        this.chunkSize = builder.chunkSize;
+        this.parallel = builder.parallel;
+    }
+
+    public static Builder builder(String expandTemplate) {
+        return new Builder(expandTemplate);
+    }
+
+    /**
+     * traverse from the start ids.
+     *
+     * @param connection connection to execute the hops with, the chunks of one hop run in parallel over its
+     *                   sessions if parallel is enabled
+     * @param startIds   ids of the start vertices
+     * @return the edges found by all hops and the visited vertices
+     */
+    public Result execute(NebulaConnection connection, Collection<Long> startIds) throws SQLException {
+        return traverse(startIds, gqls -> expand(connection, gqls));
+    }
+
+    /**
+     * executes the gql of one hop
+     */
+    interface Expander {
+        List<NebulaRecordCursor> expand(List<String> gqls) throws SQLException;
+    }
+
+    Result traverse(Collection<Long> startIds, Expander expander) throws SQLException {
+        LongHashSet visited   = new LongHashSet(startIds.size());
+        Adjacency   edges     = new Adjacency();
+        List<Long>  frontier  = new ArrayList<>();
+        boolean     truncated = false;
+        for (Long id : startIds) {
+            if (visited.add(id)) {
+                frontier.add(id);
+            }
+        }
+
+        int hop = 0;
+        while (hop < hops && !frontier.isEmpty()) {
+            hop++;
+            List<Long> next = new ArrayList<>();
+            for (NebulaRecordCursor cursor : expander.expand(chunkGqls(frontier))) {
+                while (cursor.hasNext()) {
+                    NebulaRecord record = cursor.next();
+                    long         dst    = id(record, DST);
+                    edges.add(id(record, SRC), dst, hop);
+                    if (visited.add(dst)) {
+                        if (next.size() < maxFrontierSize) {
+                            next.add(dst);
+                        } else {
+                            truncated = true;
+                        }
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return new Result(edges, visited, hop, truncated);
+    }
+
+    private List<String> chunkGqls(List<Long> frontier) throws SQLException {
+        List<String> gqls = new ArrayList<>();
+        for (int from = 0; from < frontier.size(); from += chunkSize) {
+            List<Long> chunk = frontier.subList(from, Math.min(frontier.size(), from + chunkSize));
+            gqls.add(NebulaPreparedStatementImpl.render(expandTemplate, chunk));
+        }
+        return gqls;
+    }
+
+    private static long id(NebulaRecord record, String column) throws SQLException {
+        ValueWrapper value = record.get(column);
+        if (value == null || value.isNull()) {
+            throw new SQLException(String.format("expand result should have integer column %s", column));
+        }
+        return value.asLong();
+    }
+
+    private List<NebulaRecordCursor> expand(NebulaConnection connection, List<String> gqls) throws SQLException {
+        List<NebulaRecordCursor> cursors = new ArrayList<>(gqls.size());
+        if (!parallel || gqls.size() == 1) {
+            for (String gql : gqls) {
+                com.vesoft.nebula.driver.graph.data.ResultSet result = connection.execute(gql);
+                NebulaStatementImpl.checkSucceeded(gql, result);
+                cursors.add(new DriverRecordCursor(result));
+            }
+            return cursors;
+        }
+
+        List<CompletableFuture<com.vesoft.nebula.driver.graph.data.ResultSet>> futures = new ArrayList<>(gqls.size());
+        for (String gql : gqls) {
+            futures.add(connection.executeAsync(gql));
+        }
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                com.vesoft.nebula.driver.graph.data.ResultSet result = futures.get(i).get();
+                NebulaStatementImpl.checkSucceeded(gqls.get(i), result);
+                cursors.add(new DriverRecordCursor(result));
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        } finally {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+        return cursors;
+    }
+
+    /**
+     * result of a traversal
+     */
+    public static class Result {
+        private final Adjacency   edges;
+        private final LongHashSet visited;
+        private final int         hops;
+        private final boolean     truncated;
+
+        Result(Adjacency edges, LongHashSet visited, int hops, boolean truncated) {
+            this.edges = edges;
+            this.visited = visited;
+            this.hops = hops;
+            this.truncated = truncated;
+        }
+
+        /**
+         * @return all edges found, with the hop they were found in
+         */
+        public Adjacency getEdges() {
+            return edges;
+        }
+
+        /**
+         * @return ids of the start vertices and all vertices reached
+         */
+        public LongHashSet getVisited() {
+            return visited;
+        }
+
+        /**
+         * @return number of hops executed, less than requested if the frontier became empty
+         */
+        public int getHops() {
+            return hops;
+        }
+
+        /**
+         * @return true if some reached vertices were not expanded because the frontier was full
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+
+    public static class Builder {
+        private final String  expandTemplate;
+        private       int     hops            = 1;
+        private       int     maxFrontierSize = 100000;
+        private       int     chunkSize       = 1000;
+        private       boolean parallel        = false;
+
+        private Builder(String expandTemplate) {
+            this.expandTemplate = expandTemplate;
+        }
+
+        /**
+         * @param hops max number of hops
+         */
+        public Builder hops(int hops) {
+            this.hops = hops;
+            return this;
+        }
+
+        /**
+         * @param maxFrontierSize max number of vertices expanded by one hop
+         */
+        public Builder maxFrontierSize(int maxFrontierSize) {
+            this.maxFrontierSize = maxFrontierSize;
+            return this;
+        }
+
+        /**
+         * @param chunkSize max number of frontier ids in one gql
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param parallel run the chunks of a hop in parallel over the sessions of the connection
+         */
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        public KHopTraversal build() {
+            if (NebulaPreparedStatementImpl.placeholderCount(expandTemplate) != 1) {
+                throw new IllegalArgumentException("expand template should contain exactly one ?: " + expandTemplate);
+            }
+            if (hops < 1) {
+                throw new IllegalArgumentException("hops should be positive: " + hops);
+            }
+            if (maxFrontierSize < 1) {
+                throw new IllegalArgumentException("maxFrontierSize should be positive: " + maxFrontierSize);
+            }
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("chunkSize should be positive: " + chunkSize);
+            }
+            return new KHopTraversal(this);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.graph;
+
+/**
+ * Map from primitive long to primitive int with open addressing and linear probing, it does not box its entries.
+ *
+ * <p>Not thread-safe.
+ */
+public class LongIntHashMap {
+    private static final long  EMPTY       = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final int missingValue;
+
+    private long[]  keys;
+    private int[]   values;
+    private int     mask;
+    private int     size;
+    private boolean containsEmpty;
+    private int     emptyValue;
+
+    /**
+     * @param expectedSize expected number of entries
+     * @param missingValue value returned by {@link #get(long)} for absent keys
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.missingValue = missingValue;
+    }
+
+    /**
+     * @return the value of the key, or the missing value if absent
+     */
+    public int get(long key) {
+        if (key == EMPTY) {
+            return containsEmpty ? emptyValue : missingValue;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return the previous value of the key, or the missing value if absent
+     */
+    public int put(long key, int value) {
+        if (key == EMPTY) {
+            int previous = containsEmpty ? emptyValue : missingValue;
+            if (!containsEmpty) {
+                containsEmpty = true;
+                size++;
+            }
+            emptyValue = value;
+            return previous;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        return (int) LongHashSet.mix(key) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys   = keys;
+        int[]  oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+import com.vesoft.nebula.jdbc.statement.GqlFingerprint;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * the only class touching jdk.jfr, loaded by {@link JfrEvents} once it knows jfr is present.
+ */
+final class Events {
+    /**
+     * true while at least one recording runs, so no event is allocated otherwise
+     */
+    private static volatile boolean recording;
+
+    private Events() {
+    }
+
+    static void init() {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                refresh(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(Recording changed) {
+                refresh(FlightRecorder.getFlightRecorder());
+            }
+        });
+    }
+
+    private static void refresh(FlightRecorder recorder) {
+        boolean running = false;
+        for (Recording r : recorder.getRecordings()) {
+            running |= r.getState() == RecordingState.RUNNING;
+        }
+        recording = running;
+    }
+
+    static boolean isRecording() {
+        return recording;
+    }
+
+    static Object beginStatement() {
+        if (!recording) {
+            return null;
+        }
+        StatementEvent event = new StatementEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitStatement(Object token, String gql, String graph, int sessionSlot, boolean cached,
+                                long affectedRows, String error) {
+        StatementEvent event = (StatementEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.fingerprint = GqlFingerprint.of(gql);
+            event.graph = graph;
+            event.sessionSlot = sessionSlot;
+            event.gqlLength = gql.length();
+            event.cached = cached;
+            event.affectedRows = affectedRows;
+            event.succeeded = error == null;
+            event.error = error;
+            event.commit();
+        }
+    }
+
+    static Object beginRender() {
+        if (!recording) {
+            return null;
+        }
+        ParameterRenderEvent event = new ParameterRenderEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitRender(Object token, String rawGql, int parameters, String rendered) {
+        ParameterRenderEvent event = (ParameterRenderEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.fingerprint = GqlFingerprint.of(rawGql);
+            event.parameters = parameters;
+            event.renderedBytes = rendered.length();
+            event.commit();
+        }
+    }
+
+    static Object beginBorrow() {
+        if (!recording) {
+            return null;
+        }
+        SessionBorrowEvent event = new SessionBorrowEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    static void acquiredBorrow(Object token) {
+        SessionBorrowEvent event = (SessionBorrowEvent) token;
+        event.waitDuration = System.nanoTime() - event.startNanos;
+    }
+
+    static void commitBorrow(Object token, int sessionSlot) {
+        SessionBorrowEvent event = (SessionBorrowEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.sessionSlot = sessionSlot;
+            event.commit();
+        }
+    }
+
+    static Object beginResultRead() {
+        if (!recording) {
+            return null;
+        }
+        ResultReadEvent event = new ResultReadEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    static void firstRow(Object token) {
+        ResultReadEvent event = (ResultReadEvent) token;
+        event.firstRowDuration = System.nanoTime() - event.startNanos;
+    }
+
+    static void commitResultRead(Object token, String gql, String graph, long rows, long bytes, boolean drained) {
+        ResultReadEvent event = (ResultReadEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.fingerprint = gql == null ? null : GqlFingerprint.of(gql);
+            event.graph = graph;
+            event.rows = rows;
+            event.bytes = bytes;
+            event.drained = drained;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+/**
+ * Java Flight Recorder events of the driver, category "Nebula JDBC". Each begin method returns a token to pass to the
+ * matching commit method, or null when jfr is missing or not recording, in which case the commit is a no-op. Tokens
+ * are plain objects so that jdk.jfr is never loaded on a jvm without it.
+ */
+public final class JfrEvents {
+    private static final boolean AVAILABLE = init();
+
+    private JfrEvents() {
+    }
+
+    private static boolean init() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            Events.init();
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if jfr is present and a recording is running
+     */
+    public static boolean isRecording() {
+        return AVAILABLE && Events.isRecording();
+    }
+
+    /**
+     * @return token of a com.vesoft.nebula.jdbc.Statement event
+     */
+    public static Object beginStatement() {
+        return AVAILABLE ? Events.beginStatement() : null;
+    }
+
+    /**
+     * @param error message of the failure, null if the statement succeeded
+     */
+    public static void commitStatement(Object token, String gql, String graph, int sessionSlot, boolean cached,
+                                       long affectedRows, String error) {
+        if (token != null) {
+            Events.commitStatement(token, gql, graph, sessionSlot, cached, affectedRows, error);
+        }
+    }
+
+    /**
+     * @return token of a com.vesoft.nebula.jdbc.ParameterRender event
+     */
+    public static Object beginRender() {
+        return AVAILABLE ? Events.beginRender() : null;
+    }
+
+    public static void commitRender(Object token, String rawGql, int parameters, String rendered) {
+        if (token != null) {
+            Events.commitRender(token, rawGql, parameters, rendered);
+        }
+    }
+
+    /**
+     * @return token of a com.vesoft.nebula.jdbc.SessionBorrow event
+     */
+    public static Object beginBorrow() {
+        return AVAILABLE ? Events.beginBorrow() : null;
+    }
+
+    /**
+     * mark the session as acquired, the time until then is the wait duration of the event
+     */
+    public static void acquiredBorrow(Object token) {
+        if (token != null) {
+            Events.acquiredBorrow(token);
+        }
+    }
+
+    public static void commitBorrow(Object token, int sessionSlot) {
+        if (token != null) {
+            Events.commitBorrow(token, sessionSlot);
+        }
+    }
+
+    /**
+     * @return token of a com.vesoft.nebula.jdbc.ResultRead event
+     */
+    public static Object beginResultRead() {
+        return AVAILABLE ? Events.beginResultRead() : null;
+    }
+
+    public static void firstRow(Object token) {
+        if (token != null) {
+            Events.firstRow(token);
+        }
+    }
+
+    public static void commitResultRead(Object token, String gql, String graph, long rows, long bytes,
+                                        boolean drained) {
+        if (token != null) {
+            Events.commitResultRead(token, gql, graph, rows, bytes, drained);
+        }
+    }
+}
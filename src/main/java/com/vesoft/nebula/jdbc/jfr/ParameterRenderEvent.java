@@ -0,0 +1,28 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.vesoft.nebula.jdbc.ParameterRender")
+@Label("Nebula Parameter Rendering")
+@Category({"Nebula JDBC"})
+@Description("replacement of the ? placeholders of a prepared statement by literals")
+final class ParameterRenderEvent extends jdk.jfr.Event {
+    @Label("Fingerprint")
+    String fingerprint;
+
+    @Label("Parameters")
+    int parameters;
+
+    @Label("Rendered Size")
+    @DataAmount
+    long renderedBytes;
+}
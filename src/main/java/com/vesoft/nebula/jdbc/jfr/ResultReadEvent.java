@@ -0,0 +1,43 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.vesoft.nebula.jdbc.ResultRead")
+@Label("Nebula Result Read")
+@Category({"Nebula JDBC"})
+@Description("decoding and reading of a result set, from its creation until it is drained or closed")
+final class ResultReadEvent extends jdk.jfr.Event {
+    @Label("Fingerprint")
+    String fingerprint;
+
+    @Label("Graph")
+    String graph;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Decoded Size")
+    @Description("estimated heap bytes of the decoded rows")
+    @DataAmount
+    long bytes;
+
+    @Label("First Row Duration")
+    @Timespan
+    long firstRowDuration;
+
+    @Label("Drained")
+    @Description("false if the result set was closed before its last row")
+    boolean drained;
+
+    transient long startNanos;
+}
@@ -0,0 +1,28 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.vesoft.nebula.jdbc.SessionBorrow")
+@Label("Nebula Session Borrow")
+@Category({"Nebula JDBC"})
+@Description("use of a pooled graphd session, from asking for it until it is returned")
+final class SessionBorrowEvent extends jdk.jfr.Event {
+    @Label("Session Slot")
+    int sessionSlot;
+
+    @Label("Wait Duration")
+    @Description("time waited until the session was free")
+    @Timespan
+    long waitDuration;
+
+    transient long startNanos;
+}
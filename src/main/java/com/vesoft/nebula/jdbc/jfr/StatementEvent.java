@@ -0,0 +1,43 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.vesoft.nebula.jdbc.Statement")
+@Label("Nebula Statement")
+@Category({"Nebula JDBC"})
+@Description("execution of a gql by a statement, from sending the request until its result is wrapped")
+final class StatementEvent extends jdk.jfr.Event {
+    @Label("Fingerprint")
+    @Description("gql with literals stripped")
+    String fingerprint;
+
+    @Label("Graph")
+    String graph;
+
+    @Label("Session Slot")
+    int sessionSlot;
+
+    @Label("GQL Length")
+    int gqlLength;
+
+    @Label("Cached")
+    @Description("served by the result cache or a coalesced read")
+    boolean cached;
+
+    @Label("Affected Rows")
+    long affectedRows;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Error")
+    String error;
+}
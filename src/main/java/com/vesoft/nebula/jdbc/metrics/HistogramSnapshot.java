@@ -0,0 +1,67 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+/**
+ * summary of a {@link StripedHistogram}, exposed over JMX as composite data
+ */
+public class HistogramSnapshot {
+    private final long   count;
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double p999;
+    private final double max;
+
+    /**
+     * @param histogram the histogram to summarize
+     * @param unit      values are divided by the unit, such as 1e6 to report nanoseconds in milliseconds
+     */
+    public HistogramSnapshot(StripedHistogram histogram, double unit) {
+        this.count = histogram.getCount();
+        this.mean = count == 0 ? 0 : histogram.getSum() / unit / count;
+        this.p50 = histogram.getPercentile(50) / unit;
+        this.p90 = histogram.getPercentile(90) / unit;
+        this.p99 = histogram.getPercentile(99) / unit;
+        this.p999 = histogram.getPercentile(99.9) / unit;
+        this.max = histogram.getMax() / unit;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.3f, p50=%.3f, p90=%.3f, p99=%.3f, p99.9=%.3f, max=%.3f",
+                             count, mean, p50, p90, p99, p999, max);
+    }
+}
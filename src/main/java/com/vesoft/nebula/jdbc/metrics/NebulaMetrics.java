@@ -0,0 +1,439 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.statement.GqlFingerprint;
+import java.io.InterruptedIOException;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runtime metrics of the driver, registered as MBeans under {@code com.vesoft.nebula.jdbc}.
+ *
+ * <p>{@link #driver()} covers all connections of the JVM and is registered as {@code type=Driver}, every
+ * {@link com.vesoft.nebula.jdbc.NebulaDataSource} has its own metrics registered as {@code type=DataSource}
+ * which also count into the driver metrics. Recording only updates striped counters and preallocated histograms,
+ * it allocates nothing on success.
+ */
+public class NebulaMetrics implements NebulaMetricsMXBean {
+    private static final Logger logger = LoggerFactory.getLogger(NebulaMetrics.class);
+
+    static final         String DOMAIN          = "com.vesoft.nebula.jdbc";
+    private static final int    MAX_ERROR_CODES = 128;
+    private static final String OTHER_ERRORS    = "OTHER";
+    private static final String TIMEOUT         = "TIMEOUT";
+    private static final double MILLIS          = 1e6;
+
+    private static final NebulaMetrics DRIVER = new NebulaMetrics(null);
+
+    static {
+        DRIVER.objectName = register(DRIVER, DOMAIN + ":type=Driver");
+        DRIVER.statementsName = DOMAIN + ":type=Statements";
+    }
+
+    private final    NebulaMetrics       parent;
+    private          ObjectName          objectName;
+    private          String              statementsName;
+    private          ObjectName          statementsObjectName;
+    private volatile StatementStatistics statements;
+
+    private final AtomicInteger    openSessions   = new AtomicInteger();
+    private final AtomicInteger    activeSessions = new AtomicInteger();
+    private final StripedHistogram borrowWait     = new StripedHistogram();
+    private final StripedHistogram execute        = new StripedHistogram();
+    private final StripedHistogram firstRow       = new StripedHistogram();
+    private final StripedHistogram drain          = new StripedHistogram();
+    private final StripedHistogram batchSize      = new StripedHistogram();
+    private final LongAdder        rowsDecoded    = new LongAdder();
+    private final LongAdder        bytesDecoded   = new LongAdder();
+    private final LongAdder        errors         = new LongAdder();
+    private final LongAdder        timeouts       = new LongAdder();
+    private final LongAdder        retries        = new LongAdder();
+
+    private final Map<String, LongAdder> errorsByCode = new ConcurrentHashMap<>();
+
+    /**
+     * @param parent metrics which also count everything recorded here, null for none
+     */
+    public NebulaMetrics(NebulaMetrics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return metrics of all connections of the JVM
+     */
+    public static NebulaMetrics driver() {
+        return DRIVER;
+    }
+
+    /**
+     * register as MBean of a DataSource, a registration failure is only logged.
+     *
+     * @param name name property of the object name
+     */
+    public NebulaMetrics registerDataSource(String name) {
+        objectName = register(this, DOMAIN + ":type=DataSource,name=" + ObjectName.quote(name));
+        statementsName = DOMAIN + ":type=Statements,name=" + ObjectName.quote(name);
+        return this;
+    }
+
+    /**
+     * @return the registered name, null if the registration failed
+     */
+    private static ObjectName register(Object bean, String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName  object = new ObjectName(name);
+            if (server.isRegistered(object)) {
+                logger.warn(String.format("MBean %s already registered, metrics are not exposed.", name));
+                return null;
+            }
+            server.registerMBean(bean, object);
+            return object;
+        } catch (JMException | RuntimeException e) {
+            logger.warn(String.format("register MBean %s failed.", name), e);
+            return null;
+        }
+    }
+
+    private static void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            logger.warn(String.format("unregister MBean %s failed.", name), e);
+        }
+    }
+
+    /**
+     * remove the MBeans registered by {@link #registerDataSource(String)} and
+     * {@link #enableStatementStatistics(StatementStatistics)}.
+     */
+    public void unregister() {
+        unregister(objectName);
+        unregister(statementsObjectName);
+        objectName = null;
+        statementsObjectName = null;
+    }
+
+    /**
+     * keep statistics per gql fingerprint from now on, registered as MBean {@code type=Statements} next to the
+     * driver or DataSource MBean. Replaces the statistics kept so far.
+     *
+     * @param statistics the statistics to record into
+     */
+    public synchronized NebulaMetrics enableStatementStatistics(StatementStatistics statistics) {
+        unregister(statementsObjectName);
+        statementsObjectName = statementsName == null ? null : register(statistics, statementsName);
+        statements = statistics;
+        return this;
+    }
+
+    /**
+     * @return statistics per gql fingerprint, null if they are not enabled
+     */
+    public StatementStatistics getStatementStatistics() {
+        return statements;
+    }
+
+    public void sessionOpened() {
+        openSessions.incrementAndGet();
+        if (parent != null) {
+            parent.sessionOpened();
+        }
+    }
+
+    public void sessionClosed() {
+        openSessions.decrementAndGet();
+        if (parent != null) {
+            parent.sessionClosed();
+        }
+    }
+
+    /**
+     * @param waitNanos time waited for the session
+     */
+    public void sessionAcquired(long waitNanos) {
+        activeSessions.incrementAndGet();
+        borrowWait.record(waitNanos);
+        if (parent != null) {
+            parent.sessionAcquired(waitNanos);
+        }
+    }
+
+    public void sessionReleased() {
+        activeSessions.decrementAndGet();
+        if (parent != null) {
+            parent.sessionReleased();
+        }
+    }
+
+    /**
+     * record an answered request, a failed result counts as error by its error code.
+     */
+    public void recordExecute(long nanos, ResultSet result) {
+        execute.record(nanos);
+        if (result != null && !result.isSucceeded()) {
+            errors.increment();
+            ResultSet.ErrorCode errorCode = result.getErrorCode();
+            countError(errorCode == null ? null : errorCode.code);
+        }
+        if (parent != null) {
+            parent.recordExecute(nanos, result);
+        }
+    }
+
+    /**
+     * record a request which failed without result, such as a timeout or a broken connection.
+     */
+    public void recordFailure(long nanos, Throwable failure) {
+        execute.record(nanos);
+        errors.increment();
+        if (isTimeout(failure)) {
+            timeouts.increment();
+            countError(TIMEOUT);
+        } else {
+            countError(failure.getClass().getSimpleName());
+        }
+        if (parent != null) {
+            parent.recordFailure(nanos, failure);
+        }
+    }
+
+    private void countError(String code) {
+        String    key     = code == null ? OTHER_ERRORS : code;
+        LongAdder counter = errorsByCode.get(key);
+        if (counter == null) {
+            if (errorsByCode.size() >= MAX_ERROR_CODES) {
+                key = OTHER_ERRORS;
+            }
+            counter = errorsByCode.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static boolean isTimeout(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            // SocketTimeoutException is an InterruptedIOException
+            if (cause instanceof TimeoutException || cause instanceof SQLTimeoutException
+                || cause instanceof InterruptedIOException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return fingerprint of the gql to record statement statistics under, null if neither these metrics nor their
+     *         parents keep statement statistics, so nothing is computed then
+     */
+    public String fingerprintOf(String gql) {
+        for (NebulaMetrics metrics = this; metrics != null; metrics = metrics.parent) {
+            if (metrics.statements != null) {
+                return GqlFingerprint.of(gql);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * record an executed gql into the statement statistics of these metrics and their parents.
+     *
+     * @param fingerprint fingerprint of the gql from {@link #fingerprintOf(String)}, null records nothing
+     * @param failed      true if graphd returned an error or the request failed
+     */
+    public void recordStatement(String fingerprint, long nanos, boolean failed) {
+        if (fingerprint == null) {
+            return;
+        }
+        for (NebulaMetrics metrics = this; metrics != null; metrics = metrics.parent) {
+            StatementStatistics statistics = metrics.statements;
+            if (statistics != null) {
+                statistics.record(fingerprint, nanos, failed);
+            }
+        }
+    }
+
+    /**
+     * record the rows read from the result set of a gql into the statement statistics.
+     *
+     * @param fingerprint fingerprint of the gql from {@link #fingerprintOf(String)}, null records nothing
+     */
+    public void recordStatementRead(String fingerprint, long rows, long bytes) {
+        if (fingerprint == null) {
+            return;
+        }
+        for (NebulaMetrics metrics = this; metrics != null; metrics = metrics.parent) {
+            StatementStatistics statistics = metrics.statements;
+            if (statistics != null) {
+                statistics.recordRead(fingerprint, rows, bytes);
+            }
+        }
+    }
+
+    /**
+     * @param nanos time from creating the result set until its first row was read
+     */
+    public void recordFirstRow(long nanos) {
+        firstRow.record(nanos);
+        if (parent != null) {
+            parent.recordFirstRow(nanos);
+        }
+    }
+
+    /**
+     * @param nanos time from creating the result set until all rows were read
+     * @param rows  rows read from the result set
+     * @param bytes estimated heap bytes of the rows
+     */
+    public void recordDrain(long nanos, long rows, long bytes) {
+        drain.record(nanos);
+        recordDecoded(rows, bytes);
+        if (parent != null) {
+            parent.recordDrain(nanos, rows, bytes);
+        }
+    }
+
+    /**
+     * count rows of a result set which was closed before all rows were read.
+     */
+    public void recordPartialRead(long rows, long bytes) {
+        recordDecoded(rows, bytes);
+        if (parent != null) {
+            parent.recordPartialRead(rows, bytes);
+        }
+    }
+
+    private void recordDecoded(long rows, long bytes) {
+        rowsDecoded.add(rows);
+        bytesDecoded.add(bytes);
+    }
+
+    public void recordBatch(int rows) {
+        batchSize.record(rows);
+        if (parent != null) {
+            parent.recordBatch(rows);
+        }
+    }
+
+    public void recordRetry() {
+        retries.increment();
+        if (parent != null) {
+            parent.recordRetry();
+        }
+    }
+
+    @Override
+    public int getOpenSessions() {
+        return openSessions.get();
+    }
+
+    @Override
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    @Override
+    public int getIdleSessions() {
+        return Math.max(0, openSessions.get() - activeSessions.get());
+    }
+
+    @Override
+    public HistogramSnapshot getBorrowWait() {
+        return new HistogramSnapshot(borrowWait, MILLIS);
+    }
+
+    @Override
+    public long getExecuteCount() {
+        return execute.getCount();
+    }
+
+    @Override
+    public HistogramSnapshot getExecuteLatency() {
+        return new HistogramSnapshot(execute, MILLIS);
+    }
+
+    @Override
+    public HistogramSnapshot getFirstRowLatency() {
+        return new HistogramSnapshot(firstRow, MILLIS);
+    }
+
+    @Override
+    public HistogramSnapshot getDrainLatency() {
+        return new HistogramSnapshot(drain, MILLIS);
+    }
+
+    @Override
+    public long getRowsDecoded() {
+        return rowsDecoded.sum();
+    }
+
+    @Override
+    public long getBytesDecoded() {
+        return bytesDecoded.sum();
+    }
+
+    @Override
+    public HistogramSnapshot getBatchSize() {
+        return new HistogramSnapshot(batchSize, 1);
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public Map<String, Long> getErrorsByCode() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : errorsByCode.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public void resetStatistics() {
+        borrowWait.reset();
+        execute.reset();
+        firstRow.reset();
+        drain.reset();
+        batchSize.reset();
+        rowsDecoded.reset();
+        bytesDecoded.reset();
+        errors.reset();
+        timeouts.reset();
+        retries.reset();
+        errorsByCode.clear();
+    }
+}
@@ -0,0 +1,69 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link NebulaMetrics}, latencies are in milliseconds
+ */
+public interface NebulaMetricsMXBean {
+    int getOpenSessions();
+
+    int getActiveSessions();
+
+    int getIdleSessions();
+
+    /**
+     * @return time spent waiting for a free session
+     */
+    HistogramSnapshot getBorrowWait();
+
+    long getExecuteCount();
+
+    /**
+     * @return time from sending a gql until its result arrived, including the borrow wait
+     */
+    HistogramSnapshot getExecuteLatency();
+
+    /**
+     * @return time from creating a result set until its first row was read
+     */
+    HistogramSnapshot getFirstRowLatency();
+
+    /**
+     * @return time from creating a result set until all of its rows were read
+     */
+    HistogramSnapshot getDrainLatency();
+
+    long getRowsDecoded();
+
+    /**
+     * @return estimated heap bytes of the decoded rows
+     */
+    long getBytesDecoded();
+
+    /**
+     * @return rows per executeBatch or bulk request
+     */
+    HistogramSnapshot getBatchSize();
+
+    long getErrorCount();
+
+    long getTimeoutCount();
+
+    long getRetryCount();
+
+    /**
+     * @return errors by graphd error code, client side failures are counted by exception type
+     */
+    Map<String, Long> getErrorsByCode();
+
+    /**
+     * reset all counters and histograms, the session gauges are kept.
+     */
+    void resetStatistics();
+}
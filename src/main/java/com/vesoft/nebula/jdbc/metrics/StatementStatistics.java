@@ -0,0 +1,183 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.statement.GqlFingerprint;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics per {@link GqlFingerprint}: calls, errors, latency, rows and bytes read, to find the statement shapes
+ * which take the most graphd time.
+ *
+ * <p>Recording into a known fingerprint only updates adders and a histogram without locks. The number of
+ * fingerprints is bounded: once it is exceeded, the least recently used tenth is evicted in one pass by whichever
+ * thread gets there first, the others keep recording. With a reset interval all fingerprints are dropped when it
+ * has passed, checked on recording and reading.
+ */
+public class StatementStatistics implements StatementStatisticsMXBean {
+    private static final Comparator<StatementStats> BY_TOTAL_TIME =
+            Comparator.comparingLong(StatementStats::totalNanos).reversed();
+
+    private final int  maxStatements;
+    private final long resetIntervalNanos;
+
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final AtomicBoolean               evicting   = new AtomicBoolean(false);
+    private final LongAdder                   evictions  = new LongAdder();
+    private final AtomicLong                  lastReset  = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param maxStatements       max number of fingerprints
+     * @param resetIntervalMillis time between automatic resets, non-positive for never
+     */
+    public StatementStatistics(int maxStatements, long resetIntervalMillis) {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("maxStatements should be positive");
+        }
+        this.maxStatements = maxStatements;
+        this.resetIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, resetIntervalMillis));
+    }
+
+    /**
+     * create the statistics configured by {@link NebulaPropertyKey#STATEMENTSTATSMAXENTRIES} and
+     * {@link NebulaPropertyKey#STATEMENTSTATSRESETINTERVAL}.
+     *
+     * @return the statistics, null if they are disabled
+     */
+    public static StatementStatistics fromProperties(Properties properties) {
+        int maxStatements = NebulaPropertyKey.STATEMENTSTATSMAXENTRIES.getInt(properties, 1000);
+        if (maxStatements <= 0) {
+            return null;
+        }
+        return new StatementStatistics(maxStatements,
+                                       NebulaPropertyKey.STATEMENTSTATSRESETINTERVAL.getLong(properties, 0));
+    }
+
+    /**
+     * @param fingerprint fingerprint of the executed gql
+     * @param nanos       time from sending the gql until its result arrived
+     * @param failed      true if graphd returned an error or the request failed
+     */
+    public void record(String fingerprint, long nanos, boolean failed) {
+        statsOf(fingerprint).recordCall(nanos, failed);
+    }
+
+    /**
+     * @param fingerprint fingerprint of the gql the result set belongs to
+     * @param rows        rows read from the result set
+     * @param bytes       estimated heap bytes of the rows
+     */
+    public void recordRead(String fingerprint, long rows, long bytes) {
+        statsOf(fingerprint).recordRead(rows, bytes);
+    }
+
+    private StatementStats statsOf(String fingerprint) {
+        long now = System.nanoTime();
+        maybeReset(now);
+        StatementStats stats = statements.get(fingerprint);
+        if (stats == null) {
+            stats = statements.computeIfAbsent(fingerprint, f -> new StatementStats(f, now));
+            if (statements.size() > maxStatements) {
+                evict();
+            }
+        }
+        stats.lastUsed = now;
+        return stats;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = statements.size() - maxStatements;
+            if (excess <= 0) {
+                return;
+            }
+            List<StatementStats> coldest = new ArrayList<>(statements.values());
+            coldest.sort(Comparator.comparingLong(s -> s.lastUsed));
+            int count = Math.min(coldest.size(), excess + maxStatements / 10);
+            for (int i = 0; i < count; i++) {
+                StatementStats stats = coldest.get(i);
+                if (statements.remove(stats.getFingerprint(), stats)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void maybeReset(long now) {
+        long last = lastReset.get();
+        if (resetIntervalNanos > 0 && now - last >= resetIntervalNanos && lastReset.compareAndSet(last, now)) {
+            clear();
+        }
+    }
+
+    private void clear() {
+        statements.clear();
+        evictions.reset();
+    }
+
+    /**
+     * @param gql a gql or its fingerprint
+     * @return statistics of the fingerprint of the gql, null if it is not tracked
+     */
+    public StatementStats get(String gql) {
+        maybeReset(System.nanoTime());
+        return statements.get(GqlFingerprint.of(gql));
+    }
+
+    @Override
+    public List<StatementStats> getStatements() {
+        return topByTotalTime(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<StatementStats> topByTotalTime(int limit) {
+        maybeReset(System.nanoTime());
+        List<StatementStats> sorted = new ArrayList<>(statements.values());
+        sorted.sort(BY_TOTAL_TIME);
+        return limit < sorted.size() ? new ArrayList<>(sorted.subList(0, Math.max(0, limit))) : sorted;
+    }
+
+    @Override
+    public int getStatementCount() {
+        return statements.size();
+    }
+
+    @Override
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getResetInterval() {
+        return TimeUnit.NANOSECONDS.toMillis(resetIntervalNanos);
+    }
+
+    @Override
+    public void resetStatistics() {
+        lastReset.set(System.nanoTime());
+        clear();
+    }
+}
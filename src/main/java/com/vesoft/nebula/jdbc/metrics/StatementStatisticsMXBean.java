@@ -0,0 +1,42 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link StatementStatistics}
+ */
+public interface StatementStatisticsMXBean {
+    /**
+     * @return statistics of all tracked fingerprints, by total time descending
+     */
+    List<StatementStats> getStatements();
+
+    /**
+     * @return statistics of the fingerprints with the largest total time
+     */
+    List<StatementStats> topByTotalTime(int limit);
+
+    int getStatementCount();
+
+    int getMaxStatements();
+
+    /**
+     * @return fingerprints dropped as least recently used since the last reset
+     */
+    long getEvictions();
+
+    /**
+     * @return milliseconds between automatic resets, 0 for never
+     */
+    long getResetInterval();
+
+    /**
+     * drop all fingerprints.
+     */
+    void resetStatistics();
+}
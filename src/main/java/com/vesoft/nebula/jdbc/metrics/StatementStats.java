@@ -0,0 +1,96 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * statistics of one gql fingerprint, exposed over JMX as composite data, times are in milliseconds
+ */
+public class StatementStats {
+    private static final double MILLIS = 1e6;
+
+    private final String           fingerprint;
+    private final LongAdder        errors   = new LongAdder();
+    private final LongAdder        rows     = new LongAdder();
+    private final LongAdder        bytes    = new LongAdder();
+    private final StripedHistogram latency  = new StripedHistogram(1);
+    private final AtomicLong       minNanos = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * nanoTime of the last recording, for the eviction of cold fingerprints
+     */
+    volatile long lastUsed;
+
+    StatementStats(String fingerprint, long now) {
+        this.fingerprint = fingerprint;
+        this.lastUsed = now;
+    }
+
+    void recordCall(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+        long current;
+        while (nanos < (current = minNanos.get()) && !minNanos.compareAndSet(current, nanos)) {
+            // retry until the min is at most nanos
+        }
+    }
+
+    void recordRead(long rowCount, long byteCount) {
+        rows.add(rowCount);
+        bytes.add(byteCount);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return rows read from the result sets of this fingerprint
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * @return estimated heap bytes of the rows read
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public double getTotalTime() {
+        return latency.getSum() / MILLIS;
+    }
+
+    public double getMinTime() {
+        long min = minNanos.get();
+        return min == Long.MAX_VALUE ? 0 : min / MILLIS;
+    }
+
+    public double getMaxTime() {
+        return latency.getMax() / MILLIS;
+    }
+
+    public HistogramSnapshot getLatency() {
+        return new HistogramSnapshot(latency, MILLIS);
+    }
+
+    long totalNanos() {
+        return latency.getSum();
+    }
+}
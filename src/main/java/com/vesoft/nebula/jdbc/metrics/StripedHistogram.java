@@ -0,0 +1,134 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative longs with preallocated log-linear buckets, 8 buckets per power of two, so a percentile
+ * is off by at most 12.5%.
+ *
+ * <p>The buckets are striped by thread, recording allocates nothing and does not contend between threads on
+ * different stripes. Reads sum up the stripes and are not atomic against concurrent recording.
+ */
+public class StripedHistogram {
+    private static final int LINEAR_BUCKETS   = 16;
+    private static final int SUB_BUCKET_BITS  = 3;
+    private static final int SUB_BUCKETS      = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS          = LINEAR_BUCKETS + (63 - 4) * SUB_BUCKETS;
+
+    private final AtomicLongArray[] stripes;
+    private final int               stripeMask;
+    private final LongAdder         count = new LongAdder();
+    private final LongAdder         sum   = new LongAdder();
+    private final AtomicLong        max   = new AtomicLong();
+
+    public StripedHistogram() {
+        this(16);
+    }
+
+    /**
+     * @param maxStripes upper bound of the stripes, each takes about 4KB, 1 for a histogram of rarely contended values
+     */
+    public StripedHistogram(int maxStripes) {
+        int stripeCount = Integer.highestOneBit(
+                Math.max(1, Math.min(maxStripes, Runtime.getRuntime().availableProcessors())));
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * @param value negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        stripes[(int) Thread.currentThread().getId() & stripeMask].incrementAndGet(bucketOf(v));
+        count.increment();
+        sum.add(v);
+        long current;
+        while (v > (current = max.get()) && !max.compareAndSet(current, v)) {
+            // retry until the max is at least v
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub      = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @return the largest value of the bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int  exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+        long sub      = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long lower    = (1L << exponent) + (sub << (exponent - SUB_BUCKET_BITS));
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile in [0, 100]
+     * @return upper bound of the bucket holding the percentile, at most the max recorded value, 0 if empty
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long   total  = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                long bucketCount = stripe.get(i);
+                counts[i] += bucketCount;
+                total += bucketCount;
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                stripe.set(i, 0);
+            }
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+}
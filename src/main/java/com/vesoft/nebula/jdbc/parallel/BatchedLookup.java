@@ -0,0 +1,149 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaResultSet;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Looks up a large number of ids by splitting them into chunks which are executed in parallel.
+ *
+ * <p>The gql template has one ? placeholder which is rendered as the list literal of the ids of a chunk, so it
+ * works with both IN-list and UNWIND, for example
+ * <pre>
+ *     BatchedLookup lookup = BatchedLookup.builder("match (v:Movie) where v.id in ? return v.id, v.name", ids)
+ *                                         .maxRequestBytes(64 * 1024)
+ *                                         .build();
+ *     BatchedLookup lookup = BatchedLookup.builder("unwind ? as id match (v:Movie{id:id}) return v", ids).build();
+ * </pre>
+ * Each chunk holds as many ids as fit into the request byte budget, the rows of all chunks are streamed through
+ * a bounded buffer in arrival order.
+ */
+public class BatchedLookup {
+    private final String       gqlTemplate;
+    private final List<Object> ids;
+    private final int          maxRequestBytes;
+    private final int          maxIdsPerRequest;
+    private final int          bufferSize;
+
+    private BatchedLookup(Builder builder) {
+        this.gqlTemplate = builder.gqlTemplate;
+        this.ids = builder.ids;
+        this.maxRequestBytes = builder.maxRequestBytes;
+        this.maxIdsPerRequest = builder.maxIdsPerRequest;
+        this.bufferSize = builder.bufferSize;
+    }
+
+    public static Builder builder(String gqlTemplate, Collection<?> ids) {
+        return new Builder(gqlTemplate, ids);
+    }
+
+    /**
+     * @return one gql per chunk of ids
+     * @throws SQLException if a single id does not fit into the request byte budget
+     */
+    public List<String> chunkGqls() throws SQLException {
+        int          templateBytes = utf8Length(gqlTemplate) + 2;
+        List<String> gqls          = new ArrayList<>();
+        List<Object> chunk         = new ArrayList<>();
+        int          chunkBytes    = templateBytes;
+        for (Object id : ids) {
+            // literal and its ", " separator
+            int idBytes = utf8Length(NebulaPreparedStatementImpl.render("?", id)) + 2;
+            if (templateBytes + idBytes > maxRequestBytes) {
+                throw new SQLException(String.format("id %s does not fit into maxRequestBytes %d", id, maxRequestBytes));
+            }
+            if (!chunk.isEmpty() && (chunkBytes + idBytes > maxRequestBytes || chunk.size() >= maxIdsPerRequest)) {
+                gqls.add(NebulaPreparedStatementImpl.render(gqlTemplate, chunk));
+                chunk = new ArrayList<>();
+                chunkBytes = templateBytes;
+            }
+            chunk.add(id);
+            chunkBytes += idBytes;
+        }
+        if (!chunk.isEmpty()) {
+            gqls.add(NebulaPreparedStatementImpl.render(gqlTemplate, chunk));
+        }
+        return gqls;
+    }
+
+    private static int utf8Length(String s) {
+        return s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * execute all chunks in parallel over the sessions of the connection and stream their rows.
+     *
+     * @return ResultSet over the rows of all chunks, in arrival order
+     */
+    public java.sql.ResultSet execute(NebulaConnection connection) throws SQLException {
+        StreamingRecordCursor cursor = new StreamingRecordCursor(connection,
+                                                                 chunkGqls(),
+                                                                 connection.getSessionCount(),
+                                                                 bufferSize).start();
+        return new NebulaResultSet(cursor, (NebulaStatementImpl) connection.createStatement());
+    }
+
+    public static class Builder {
+        private final String       gqlTemplate;
+        private final List<Object> ids;
+        private       int          maxRequestBytes  = 256 * 1024;
+        private       int          maxIdsPerRequest = Integer.MAX_VALUE;
+        private       int          bufferSize       = 10000;
+
+        private Builder(String gqlTemplate, Collection<?> ids) {
+            this.gqlTemplate = gqlTemplate;
+            this.ids = new ArrayList<>(ids);
+        }
+
+        /**
+         * @param maxRequestBytes max size of one rendered gql in bytes
+         */
+        public Builder maxRequestBytes(int maxRequestBytes) {
+            this.maxRequestBytes = maxRequestBytes;
+            return this;
+        }
+
+        /**
+         * @param maxIdsPerRequest max number of ids in one gql, besides the byte budget
+         */
+        public Builder maxIdsPerRequest(int maxIdsPerRequest) {
+            this.maxIdsPerRequest = maxIdsPerRequest;
+            return this;
+        }
+
+        /**
+         * @param bufferSize max number of rows buffered between the chunks and the consumer
+         */
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public BatchedLookup build() {
+            if (NebulaPreparedStatementImpl.placeholderCount(gqlTemplate) != 1) {
+                throw new IllegalArgumentException("gql template should contain exactly one ?: " + gqlTemplate);
+            }
+            if (maxRequestBytes < 1) {
+                throw new IllegalArgumentException("maxRequestBytes should be positive: " + maxRequestBytes);
+            }
+            if (maxIdsPerRequest < 1) {
+                throw new IllegalArgumentException("maxIdsPerRequest should be positive: " + maxIdsPerRequest);
+            }
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("bufferSize should be positive: " + bufferSize);
+            }
+            return new BatchedLookup(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * cursor over several cursors one after another
+ */
+class ConcatRecordCursor implements NebulaRecordCursor {
+    private final List<String>             columnNames;
+    private final List<NebulaRecordCursor> cursors;
+    private       int                      current = 0;
+
+    ConcatRecordCursor(List<String> columnNames, List<NebulaRecordCursor> cursors) {
+        this.columnNames = columnNames;
+        this.cursors = cursors;
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public boolean hasNext() throws SQLException {
+        while (current < cursors.size()) {
+            if (cursors.get(current).hasNext()) {
+                return true;
+            }
+            current++;
+        }
+        return false;
+    }
+
+    @Override
+    public NebulaRecord next() throws SQLException {
+        hasNext();
+        return cursors.get(current).next();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        for (NebulaRecordCursor cursor : cursors) {
+            cursor.close();
+        }
+    }
+}
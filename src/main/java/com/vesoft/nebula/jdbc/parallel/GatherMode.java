@@ -0,0 +1,79 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+/**
+ * How the results of a scatter-gather are merged into one ResultSet.
+ */
+public class GatherMode {
+
+    public enum Type {
+        /**
+         * results are concatenated in the order of the gql
+         */
+        CONCAT,
+        /**
+         * results, each already ordered by the column, are k-way merged into one ordered result
+         */
+        ORDERED,
+        /**
+         * only the first k records ordered by the column are kept
+         */
+        TOP_K
+    }
+
+    private final Type    type;
+    private final String  column;
+    private final boolean ascending;
+    private final int     limit;
+
+    private GatherMode(Type type, String column, boolean ascending, int limit) {
+        this.type = type;
+        this.column = column;
+        this.ascending = ascending;
+        this.limit = limit;
+    }
+
+    public static GatherMode concat() {
+        return new GatherMode(Type.CONCAT, null, true, -1);
+    }
+
+    /**
+     * @param column    the column every result is ordered by
+     * @param ascending true if the results are in ascending order
+     */
+    public static GatherMode ordered(String column, boolean ascending) {
+        return new GatherMode(Type.ORDERED, column, ascending, -1);
+    }
+
+    /**
+     * @param column    the column to order by, the results need not to be ordered
+     * @param ascending true to keep the k smallest values, false to keep the k largest
+     * @param k         number of records to keep
+     */
+    public static GatherMode topK(String column, boolean ascending, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k should not be negative: " + k);
+        }
+        return new GatherMode(Type.TOP_K, column, ascending, k);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,83 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * k-way merge of cursors which are already ordered by the same comparator, records are pulled lazily so only
+ * the head record of every cursor is held at a time.
+ */
+class MergeRecordCursor implements NebulaRecordCursor {
+    private final List<String>             columnNames;
+    private final List<NebulaRecordCursor> cursors;
+    private final PriorityQueue<Head>      heads;
+    private       boolean                  initialized = false;
+
+    MergeRecordCursor(List<String> columnNames, List<NebulaRecordCursor> cursors, Comparator<NebulaRecord> comparator) {
+        this.columnNames = columnNames;
+        this.cursors = cursors;
+        Comparator<Head> headComparator = (left, right) -> {
+            int result = comparator.compare(left.record, right.record);
+            // keep the merge stable, records of the former cursor come first
+            return result != 0 ? result : Integer.compare(left.cursorIndex, right.cursorIndex);
+        };
+        this.heads = new PriorityQueue<>(Math.max(1, cursors.size()), headComparator);
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public boolean hasNext() throws SQLException {
+        if (!initialized) {
+            for (int i = 0; i < cursors.size(); i++) {
+                advance(i);
+            }
+            initialized = true;
+        }
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public NebulaRecord next() throws SQLException {
+        hasNext();
+        Head head = heads.poll();
+        advance(head.cursorIndex);
+        return head.record;
+    }
+
+    private void advance(int cursorIndex) throws SQLException {
+        NebulaRecordCursor cursor = cursors.get(cursorIndex);
+        if (cursor.hasNext()) {
+            heads.add(new Head(cursor.next(), cursorIndex));
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        for (NebulaRecordCursor cursor : cursors) {
+            cursor.close();
+        }
+    }
+
+    private static class Head {
+        private final NebulaRecord record;
+        private final int          cursorIndex;
+
+        Head(NebulaRecord record, int cursorIndex) {
+            this.record = record;
+            this.cursorIndex = cursorIndex;
+        }
+    }
+}
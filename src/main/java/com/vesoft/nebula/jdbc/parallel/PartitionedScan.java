@@ -0,0 +1,159 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaResultSet;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits one scan into disjoint partitions which are executed in parallel, like the partitionColumn and
+ * numPartitions options of Spark JDBC.
+ *
+ * <p>The gql template marks the place of the partition predicate with {@link #PARTITION}, for example
+ * <pre>
+ *     PartitionedScan scan = PartitionedScan.builder("match (v:Movie) where {partition} return v.id, v.name")
+ *                                           .partitionColumn("v.id")
+ *                                           .numPartitions(16)
+ *                                           .build();
+ * </pre>
+ * Partitions are either {@code abs(column % numPartitions) = i}, which requires an integer column, or ranges
+ * between caller-supplied split points.
+ */
+public class PartitionedScan {
+    public static final String PARTITION = "{partition}";
+
+    private final String       gqlTemplate;
+    private final String       partitionColumn;
+    private final int          numPartitions;
+    private final List<Object> splitPoints;
+    private final int          bufferSize;
+
+    private PartitionedScan(Builder builder) {
+        this.gqlTemplate = builder.gqlTemplate;
+        this.partitionColumn = builder.partitionColumn;
+        this.numPartitions = builder.numPartitions;
+        this.splitPoints = builder.splitPoints;
+        this.bufferSize = builder.bufferSize;
+    }
+
+    public static Builder builder(String gqlTemplate) {
+        return new Builder(gqlTemplate);
+    }
+
+    /**
+     * @return one gql per partition
+     */
+    public List<String> partitionGqls() throws SQLException {
+        List<String> predicates = new ArrayList<>();
+        if (splitPoints != null) {
+            for (int i = 0; i <= splitPoints.size(); i++) {
+                StringBuilder predicate = new StringBuilder();
+                if (i > 0) {
+                    predicate.append(partitionColumn).append(" >= ").append(literal(splitPoints.get(i - 1)));
+                }
+                if (i < splitPoints.size()) {
+                    if (i > 0) {
+                        predicate.append(" AND ");
+                    }
+                    predicate.append(partitionColumn).append(" < ").append(literal(splitPoints.get(i)));
+                }
+                predicates.add(predicate.length() == 0 ? "true" : predicate.toString());
+            }
+        } else {
+            for (int i = 0; i < numPartitions; i++) {
+                predicates.add(String.format("abs(%s %% %d) = %d", partitionColumn, numPartitions, i));
+            }
+        }
+        List<String> gqls = new ArrayList<>(predicates.size());
+        for (String predicate : predicates) {
+            gqls.add(gqlTemplate.replace(PARTITION, "(" + predicate + ")"));
+        }
+        return gqls;
+    }
+
+    private static String literal(Object value) throws SQLException {
+        return NebulaPreparedStatementImpl.render("?", value);
+    }
+
+    /**
+     * execute all partitions in parallel over the sessions of the connection and stream their records.
+     *
+     * @return ResultSet over the records of all partitions, in arrival order
+     */
+    public java.sql.ResultSet execute(NebulaConnection connection) throws SQLException {
+        StreamingRecordCursor cursor = new StreamingRecordCursor(connection,
+                                                                 partitionGqls(),
+                                                                 connection.getSessionCount(),
+                                                                 bufferSize).start();
+        return new NebulaResultSet(cursor, (NebulaStatementImpl) connection.createStatement());
+    }
+
+    public static class Builder {
+        private final String       gqlTemplate;
+        private       String       partitionColumn;
+        private       int          numPartitions = 1;
+        private       List<Object> splitPoints;
+        private       int          bufferSize    = 10000;
+
+        private Builder(String gqlTemplate) {
+            this.gqlTemplate = gqlTemplate;
+        }
+
+        /**
+         * @param partitionColumn expression the partitions are split on, such as v.id
+         */
+        public Builder partitionColumn(String partitionColumn) {
+            this.partitionColumn = partitionColumn;
+            return this;
+        }
+
+        /**
+         * split by {@code abs(partitionColumn % numPartitions)}
+         */
+        public Builder numPartitions(int numPartitions) {
+            this.numPartitions = numPartitions;
+            return this;
+        }
+
+        /**
+         * split by ranges, n ascending split points make n + 1 partitions
+         */
+        public Builder splitPoints(List<?> splitPoints) {
+            this.splitPoints = Collections.unmodifiableList(new ArrayList<>(splitPoints));
+            return this;
+        }
+
+        /**
+         * @param bufferSize max number of records buffered between the partitions and the consumer
+         */
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public PartitionedScan build() {
+            if (!gqlTemplate.contains(PARTITION)) {
+                throw new IllegalArgumentException("gql template does not contain " + PARTITION);
+            }
+            if (partitionColumn == null || partitionColumn.trim().isEmpty()) {
+                throw new IllegalArgumentException("partitionColumn is required");
+            }
+            if (splitPoints == null && numPartitions < 1) {
+                throw new IllegalArgumentException("numPartitions should be positive: " + numPartitions);
+            }
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("bufferSize should be positive: " + bufferSize);
+            }
+            return new PartitionedScan(this);
+        }
+    }
+}
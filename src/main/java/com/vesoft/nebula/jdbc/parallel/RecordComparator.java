@@ -0,0 +1,61 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import java.math.BigDecimal;
+import java.util.Comparator;
+
+/**
+ * compare records by the value of one column, null values are ordered last.
+ */
+class RecordComparator implements Comparator<NebulaRecord> {
+    private final int     columnIndex;
+    private final boolean ascending;
+
+    RecordComparator(int columnIndex, boolean ascending) {
+        this.columnIndex = columnIndex;
+        this.ascending = ascending;
+    }
+
+    @Override
+    public int compare(NebulaRecord left, NebulaRecord right) {
+        Object leftValue  = valueOf(left.get(columnIndex));
+        Object rightValue = valueOf(right.get(columnIndex));
+        if (leftValue == null || rightValue == null) {
+            return leftValue == null ? (rightValue == null ? 0 : 1) : -1;
+        }
+        int result = compareValues(leftValue, rightValue);
+        return ascending ? result : -result;
+    }
+
+    private static Object valueOf(ValueWrapper value) {
+        return value == null || value.isNull() ? null : value.getValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareValues(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number && left.getClass() != right.getClass()) {
+            if (isIntegral(left) && isIntegral(right)) {
+                return Long.compare(((Number) left).longValue(), ((Number) right).longValue());
+            }
+            return toDecimal((Number) left).compareTo(toDecimal((Number) right));
+        }
+        if (left instanceof Comparable && left.getClass() == right.getClass()) {
+            return ((Comparable) left).compareTo(right);
+        }
+        return left.toString().compareTo(right.toString());
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static BigDecimal toDecimal(Number value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+}
@@ -0,0 +1,162 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaResultSet;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.values.DriverRecordCursor;
+import com.vesoft.nebula.jdbc.values.ListRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs several gql concurrently over the sessions of one connection and merges their results into one ResultSet.
+ */
+public class ScatterGather {
+
+    private final NebulaConnection connection;
+
+    public ScatterGather(NebulaConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * execute all gql concurrently and merge the results.
+     *
+     * @param gqls    the gql to execute, all of them must return the same columns
+     * @param mode    how to merge the results
+     * @param timeout overall deadline for all gql
+     * @param unit    unit of timeout
+     * @return the merged ResultSet
+     * @throws SQLTimeoutException if not all results arrived before the deadline
+     */
+    public java.sql.ResultSet execute(List<String> gqls, GatherMode mode, long timeout, TimeUnit unit)
+            throws SQLException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        List<CompletableFuture<com.vesoft.nebula.driver.graph.data.ResultSet>> futures = new ArrayList<>(gqls.size());
+        for (String gql : gqls) {
+            futures.add(connection.executeAsync(gql));
+        }
+
+        List<NebulaRecordCursor> cursors = new ArrayList<>(gqls.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                com.vesoft.nebula.driver.graph.data.ResultSet result = await(futures.get(i), gqls.get(i), deadline);
+                NebulaStatementImpl.checkSucceeded(gqls.get(i), result);
+                cursors.add(new DriverRecordCursor(result));
+            }
+        } finally {
+            // requests still queued are skipped, they must not hold sessions after the caller gave up
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+
+        NebulaStatementImpl statement = (NebulaStatementImpl) connection.createStatement();
+        return new NebulaResultSet(merge(cursors, mode), statement);
+    }
+
+    /**
+     * render the template with every parameter set, execute them concurrently and merge the results.
+     *
+     * @param gqlTemplate   gql with ? placeholders, rendered the same way as a prepared statement
+     * @param parameterSets one parameter array per gql
+     * @see #execute(List, GatherMode, long, TimeUnit)
+     */
+    public java.sql.ResultSet execute(String gqlTemplate, List<Object[]> parameterSets, GatherMode mode,
+                                      long timeout, TimeUnit unit) throws SQLException {
+        List<String> gqls = new ArrayList<>(parameterSets.size());
+        for (Object[] parameters : parameterSets) {
+            gqls.add(NebulaPreparedStatementImpl.render(gqlTemplate, parameters));
+        }
+        return execute(gqls, mode, timeout, unit);
+    }
+
+    private static com.vesoft.nebula.driver.graph.data.ResultSet await(
+            CompletableFuture<com.vesoft.nebula.driver.graph.data.ResultSet> future,
+            String gql,
+            long deadline) throws SQLException {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new SQLTimeoutException(String.format("gql %s did not finish before the deadline", gql), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+    }
+
+    static NebulaRecordCursor merge(List<NebulaRecordCursor> cursors, GatherMode mode) throws SQLException {
+        List<String> columnNames = cursors.isEmpty() ? Collections.emptyList() : cursors.get(0).getColumnNames();
+        for (NebulaRecordCursor cursor : cursors) {
+            if (!cursor.getColumnNames().equals(columnNames)) {
+                throw new SQLException(String.format("cannot merge results with different columns %s and %s",
+                                                     columnNames, cursor.getColumnNames()));
+            }
+        }
+        switch (mode.getType()) {
+            case CONCAT:
+                return new ConcatRecordCursor(columnNames, cursors);
+            case ORDERED:
+                return new MergeRecordCursor(columnNames, cursors, comparator(columnNames, mode));
+            case TOP_K:
+                return topK(columnNames, cursors, comparator(columnNames, mode), mode.getLimit());
+            default:
+                throw new SQLException("not supported gather mode: " + mode.getType());
+        }
+    }
+
+    private static Comparator<NebulaRecord> comparator(List<String> columnNames, GatherMode mode) throws SQLException {
+        int index = columnNames.indexOf(mode.getColumn());
+        if (index == -1 && !columnNames.isEmpty()) {
+            throw new SQLException("No such column is present: " + mode.getColumn());
+        }
+        return new RecordComparator(index, mode.isAscending());
+    }
+
+    /**
+     * keep the first k records in a bounded heap whose top is the worst record kept so far.
+     */
+    private static NebulaRecordCursor topK(List<String> columnNames,
+                                           List<NebulaRecordCursor> cursors,
+                                           Comparator<NebulaRecord> comparator,
+                                           int k) throws SQLException {
+        PriorityQueue<NebulaRecord> heap = new PriorityQueue<>(Math.max(1, k), comparator.reversed());
+        if (k > 0) {
+            for (NebulaRecordCursor cursor : cursors) {
+                while (cursor.hasNext()) {
+                    NebulaRecord record = cursor.next();
+                    if (heap.size() < k) {
+                        heap.add(record);
+                    } else if (comparator.compare(record, heap.peek()) < 0) {
+                        heap.poll();
+                        heap.add(record);
+                    }
+                }
+            }
+        }
+        List<NebulaRecord> records = new ArrayList<>(heap);
+        records.sort(comparator);
+        return new ListRecordCursor(columnNames, records);
+    }
+}
@@ -0,0 +1,149 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
+import com.vesoft.nebula.jdbc.values.DriverRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes several gql in parallel and streams their records, in arrival order, through a bounded buffer.
+ *
+ * <p>Each gql is executed by a producer thread which pushes the records into the buffer, a producer blocks
+ * when the buffer is full until the consumer catches up. Closing the cursor stops all producers.
+ */
+class StreamingRecordCursor implements NebulaRecordCursor {
+    private static final Object END = new Object();
+
+    private final NebulaConnection                 connection;
+    private final List<String>                     gqls;
+    private final BlockingQueue<Object>            buffer;
+    private final ExecutorService                  executor;
+    private final CompletableFuture<List<String>> columnNames = new CompletableFuture<>();
+
+    private int          remaining;
+    private NebulaRecord nextRecord;
+
+    StreamingRecordCursor(NebulaConnection connection, List<String> gqls, int parallelism, int bufferSize) {
+        this.connection = connection;
+        this.gqls = gqls;
+        this.remaining = gqls.size();
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, gqls.size())), r -> {
+            Thread thread = new Thread(r, "nebula-jdbc-stream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (gqls.isEmpty()) {
+            columnNames.complete(Collections.emptyList());
+        }
+    }
+
+    /**
+     * start all producers and wait for the first response, whose columns become the columns of this cursor.
+     *
+     * @throws SQLException if the first response is a failure
+     */
+    StreamingRecordCursor start() throws SQLException {
+        for (String gql : gqls) {
+            executor.execute(() -> produce(gql));
+        }
+        executor.shutdown();
+        try {
+            columnNames.get();
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+        return this;
+    }
+
+    private void produce(String gql) {
+        try {
+            try {
+                com.vesoft.nebula.driver.graph.data.ResultSet result = connection.execute(gql);
+                NebulaStatementImpl.checkSucceeded(gql, result);
+                DriverRecordCursor cursor = new DriverRecordCursor(result);
+                columnNames.complete(cursor.getColumnNames());
+                while (cursor.hasNext()) {
+                    buffer.put(cursor.next());
+                }
+                buffer.put(END);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Throwable e) {
+                columnNames.completeExceptionally(e);
+                buffer.put(e);
+            }
+        } catch (InterruptedException e) {
+            // the cursor is closed
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames.getNow(Collections.emptyList());
+    }
+
+    @Override
+    public boolean hasNext() throws SQLException {
+        if (nextRecord != null) {
+            return true;
+        }
+        try {
+            while (remaining > 0) {
+                Object item = buffer.take();
+                if (item == END) {
+                    remaining--;
+                } else if (item instanceof Throwable) {
+                    close();
+                    throw item instanceof SQLException ? (SQLException) item : new SQLException((Throwable) item);
+                } else {
+                    nextRecord = (NebulaRecord) item;
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+        return false;
+    }
+
+    @Override
+    public NebulaRecord next() throws SQLException {
+        hasNext();
+        NebulaRecord record = nextRecord;
+        nextRecord = null;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        remaining = 0;
+        executor.shutdownNow();
+        buffer.clear();
+    }
+}
@@ -0,0 +1,25 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import java.util.Map;
+
+/**
+ * Merges two parameter sets of a prepared statement batch which have the same key parameters.
+ */
+public interface BatchMerger {
+    /**
+     * last write wins
+     */
+    BatchMerger LAST_WRITE_WINS = (previous, next) -> next;
+
+    /**
+     * @param previous parameters added before, by parameter index
+     * @param next     parameters added later, by parameter index
+     * @return the parameters of the single write replacing both
+     */
+    Map<Object, Object> merge(Map<Object, Object> previous, Map<Object, Object> next);
+}
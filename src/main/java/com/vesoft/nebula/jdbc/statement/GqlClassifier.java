@@ -0,0 +1,340 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lightweight lexical classification of gql, string literals, quoted identifiers, comments and property names
+ * are skipped. It is conservative: a gql is read-only only when none of its keywords may change data or session
+ * state.
+ */
+public final class GqlClassifier {
+
+    private static final Set<String> WRITE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "INSERT", "SET", "DELETE", "DETACH", "REMOVE", "CREATE", "DROP", "ALTER", "MERGE", "UPDATE",
+            "UPSERT", "CLEAR", "GRANT", "REVOKE", "SESSION", "CALL", "LOAD", "START", "COMMIT", "ROLLBACK"));
+
+    private static final Pattern SESSION_SETTING = Pattern.compile(
+            "\\s*SESSION\\s+SET\\s+(GRAPH|SCHEMA|TIME\\s+ZONE)\\s+(.*?)\\s*;?\\s*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private GqlClassifier() {
+    }
+
+    /**
+     * @param gql the gql to check
+     * @return true if the gql only reads data
+     */
+    public static boolean isRead(String gql) {
+        List<String> keywords = keywords(gql);
+        if (keywords.isEmpty()) {
+            return false;
+        }
+        for (String keyword : keywords) {
+            if (WRITE_KEYWORDS.contains(keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param gql the gql to check
+     * @return true if the gql is a SESSION SET statement, which changes the state of the session
+     */
+    public static boolean isSessionSet(String gql) {
+        int i = skipBlank(gql, 0);
+        if (!gql.regionMatches(true, i, "SESSION", 0, 7)) {
+            return false;
+        }
+        List<String> keywords = keywords(gql);
+        return keywords.size() >= 2 && keywords.get(0).equals("SESSION") && keywords.get(1).equals("SET");
+    }
+
+    /**
+     * @param gql a SESSION SET statement
+     * @return the setting, GRAPH, SCHEMA or TIME ZONE, and its unquoted value, null for other statements
+     */
+    public static Map.Entry<String, String> sessionSetting(String gql) {
+        Matcher matcher = SESSION_SETTING.matcher(gql);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String setting = matcher.group(1).toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+        String value   = matcher.group(2);
+        if (value.length() >= 2 && "\"'`".indexOf(value.charAt(0)) >= 0
+                && value.charAt(value.length() - 1) == value.charAt(0)) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(setting, value);
+    }
+
+    /**
+     * @param gql the gql to check
+     * @return the graph of a leading USE clause, null if there is none
+     */
+    public static String usedGraph(String gql) {
+        int i = skipBlank(gql, 0);
+        if (!gql.regionMatches(true, i, "USE", 0, 3) || i + 3 >= gql.length()
+                || !Character.isWhitespace(gql.charAt(i + 3))) {
+            return null;
+        }
+        i = skipBlank(gql, i + 3);
+        if (i < gql.length() && gql.charAt(i) == '`') {
+            int end = skipQuoted(gql, i, '`');
+            return gql.substring(i + 1, Math.max(i + 1, end - 1));
+        }
+        int start = i;
+        while (i < gql.length() && (Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+            i++;
+        }
+        return i > start ? gql.substring(start, i) : null;
+    }
+
+    /**
+     * collect the node and edge labels referred by the gql, such as User in {@code (v:User)} or
+     * {@code (@User{id:1})}.
+     *
+     * @param gql the gql to check
+     * @return the labels, or null if the gql may also touch elements of other labels, e.g. it has a pattern
+     *         without label or it detaches edges
+     */
+    public static Set<String> labels(String gql) {
+        Set<String> labels  = new HashSet<>();
+        boolean     precise = true;
+        int         length  = gql.length();
+        int         i       = 0;
+        while (i < length) {
+            char c = gql.charAt(i);
+            if (c == '"' || c == '\'' || c == '`') {
+                i = skipQuoted(gql, i, c);
+            } else if (c == '/' && i + 1 < length && gql.charAt(i + 1) == '/') {
+                while (i < length && gql.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && gql.charAt(i + 1) == '*') {
+                int end = gql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == ':' || c == '@') {
+                i = readLabelExpression(gql, i + 1, labels);
+            } else if (c == '(' && !isFunctionCall(gql, i)) {
+                precise &= hasLabel(gql, i + 1, ')');
+                i++;
+            } else if (c == '[' && isEdgePattern(gql, i)) {
+                precise &= hasLabel(gql, i + 1, ']');
+                i++;
+            } else if (c == ')' && isAbbreviatedEdge(gql, i + 1)) {
+                precise = false;
+                i++;
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+                    i++;
+                }
+                if (gql.regionMatches(true, start, "DETACH", 0, 6) && i - start == 6) {
+                    precise = false;
+                }
+            } else {
+                i++;
+            }
+        }
+        return precise ? Collections.unmodifiableSet(labels) : null;
+    }
+
+    private static int readLabelExpression(String gql, int start, Set<String> labels) {
+        int i = start;
+        while (true) {
+            i = skipBlank(gql, i);
+            while (i < gql.length() && gql.charAt(i) == '!') {
+                i = skipBlank(gql, i + 1);
+            }
+            if (i >= gql.length()) {
+                return i;
+            }
+            char c = gql.charAt(i);
+            if (c == '`') {
+                int end = skipQuoted(gql, i, '`');
+                labels.add(gql.substring(i + 1, Math.max(i + 1, end - 1)));
+                i = end;
+            } else if (Character.isLetter(c) || c == '_') {
+                int wordStart = i;
+                while (i < gql.length() && (Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+                    i++;
+                }
+                labels.add(gql.substring(wordStart, i));
+            } else {
+                return i;
+            }
+            int next = skipBlank(gql, i);
+            if (next < gql.length() && (gql.charAt(next) == '|' || gql.charAt(next) == '&')) {
+                i = next + 1;
+            } else {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * @return true if a label appears in the element pattern before its property map or closing bracket
+     */
+    private static boolean hasLabel(String gql, int start, char close) {
+        int i = start;
+        while (i < gql.length()) {
+            char c = gql.charAt(i);
+            if (c == '"' || c == '\'' || c == '`') {
+                i = skipQuoted(gql, i, c);
+                continue;
+            }
+            if (c == ':' || c == '@') {
+                return true;
+            }
+            if (c == close || c == '{' || c == '(' || c == '[') {
+                return false;
+            }
+            i++;
+        }
+        return false;
+    }
+
+    private static boolean isFunctionCall(String gql, int open) {
+        int i = open - 1;
+        while (i >= 0 && Character.isWhitespace(gql.charAt(i))) {
+            i--;
+        }
+        if (i < 0 || !(Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+            return false;
+        }
+        int end = i + 1;
+        while (i >= 0 && (Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+            i--;
+        }
+        String word = gql.substring(i + 1, end).toUpperCase(Locale.ROOT);
+        // a pattern may follow a keyword, e.g. MATCH (v) or INSERT (v)
+        return !PATTERN_KEYWORDS.contains(word);
+    }
+
+    private static final Set<String> PATTERN_KEYWORDS = new HashSet<>(Arrays.asList(
+            "MATCH", "INSERT", "REPLACE", "IGNORE", "OPTIONAL", "MERGE", "CREATE", "DELETE", "WHERE", "AND", "OR",
+            "NOT", "EXISTS", "AS", "IN", "RETURN", "WITH", "YIELD", "FILTER", "NEXT", "UNION", "ALL", "ANY",
+            "SHORTEST", "WALK", "TRAIL", "SIMPLE", "ACYCLIC", "PATH", "PATHS"));
+
+    private static boolean isEdgePattern(String gql, int open) {
+        int i = open - 1;
+        while (i >= 0 && Character.isWhitespace(gql.charAt(i))) {
+            i--;
+        }
+        return i >= 0 && (gql.charAt(i) == '-' || gql.charAt(i) == '<' || gql.charAt(i) == '~');
+    }
+
+    /**
+     * @return true if an edge without brackets, such as {@code -> (} or {@code - (}, starts from the index
+     */
+    private static boolean isAbbreviatedEdge(String gql, int start) {
+        int     i     = skipBlank(gql, start);
+        boolean arrow = false;
+        while (i < gql.length() && "-<>~".indexOf(gql.charAt(i)) >= 0) {
+            arrow = true;
+            i++;
+        }
+        i = skipBlank(gql, i);
+        return arrow && i < gql.length() && gql.charAt(i) == '(';
+    }
+
+    private static int skipBlank(String gql, int start) {
+        int i = start;
+        while (i < gql.length() && Character.isWhitespace(gql.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * split the gql into upper-cased bare words, skipping string literals, quoted identifiers, comments and
+     * words after a dot, which are property names.
+     */
+    static List<String> keywords(String gql) {
+        List<String> words = new ArrayList<>();
+        int          length = gql.length();
+        int          i      = 0;
+        while (i < length) {
+            char c = gql.charAt(i);
+            if (c == '"' || c == '\'' || c == '`') {
+                i = skipQuoted(gql, i, c);
+            } else if (isCommentStart(gql, i)) {
+                i = skipComment(gql, i);
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+                    i++;
+                }
+                if (!isPropertyName(gql, start)) {
+                    words.add(gql.substring(start, i).toUpperCase(Locale.ROOT));
+                }
+            } else {
+                i++;
+            }
+        }
+        return words;
+    }
+
+    private static boolean isPropertyName(String gql, int wordStart) {
+        int i = wordStart - 1;
+        while (i >= 0 && Character.isWhitespace(gql.charAt(i))) {
+            i--;
+        }
+        return i >= 0 && gql.charAt(i) == '.';
+    }
+
+    /**
+     * @return true if a // or /* comment starts at the index
+     */
+    static boolean isCommentStart(String gql, int start) {
+        return gql.charAt(start) == '/' && start + 1 < gql.length()
+                && (gql.charAt(start + 1) == '/' || gql.charAt(start + 1) == '*');
+    }
+
+    /**
+     * @return index after the comment starting at the index, the line break ending a // comment is kept
+     */
+    static int skipComment(String gql, int start) {
+        if (gql.charAt(start + 1) == '/') {
+            int end = gql.indexOf('\n', start + 2);
+            return end < 0 ? gql.length() : end;
+        }
+        int end = gql.indexOf("*/", start + 2);
+        return end < 0 ? gql.length() : end + 2;
+    }
+
+    /**
+     * @return index after the closing quote
+     */
+    static int skipQuoted(String gql, int start, char quote) {
+        int i = start + 1;
+        while (i < gql.length()) {
+            char c = gql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                return i + 1;
+            }
+            i++;
+        }
+        return gql.length();
+    }
+}
@@ -0,0 +1,177 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Normalized shape of a gql: string and number literals become ?, comments are dropped, whitespace is collapsed
+ * and lists of equal elements are folded into one, so {@code MATCH (v:User{id:42}) RETURN v} and
+ * {@code MATCH (v:User{id: 7})  RETURN v} have the same fingerprint, as do lists of any size.
+ * Quoted identifiers and keywords are kept as they are.
+ */
+public final class GqlFingerprint {
+    /**
+     * fingerprints are cut after this many chars
+     */
+    public static final int MAX_LENGTH = 1024;
+
+    private GqlFingerprint() {
+    }
+
+    /**
+     * @param gql the gql, rendered or with ? placeholders
+     * @return the fingerprint, at most {@link #MAX_LENGTH} chars
+     */
+    public static String of(String gql) {
+        String normalized = foldLists(stripLiterals(gql));
+        return normalized.length() <= MAX_LENGTH ? normalized : normalized.substring(0, MAX_LENGTH - 3) + "...";
+    }
+
+    private static String stripLiterals(String gql) {
+        StringBuilder out    = new StringBuilder(Math.min(gql.length(), 4 * MAX_LENGTH));
+        int           length = gql.length();
+        int           i      = 0;
+        boolean       space  = false;
+        while (i < length) {
+            char c = gql.charAt(i);
+            if (c == '/' && i + 1 < length && gql.charAt(i + 1) == '/') {
+                while (i < length && gql.charAt(i) != '\n') {
+                    i++;
+                }
+                space = true;
+                continue;
+            }
+            if (c == '/' && i + 1 < length && gql.charAt(i + 1) == '*') {
+                int end = gql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                i++;
+                space = true;
+                continue;
+            }
+            // no space inside brackets or around separators, so {id: 7} and {id:42} are equal
+            if (space && out.length() > 0 && "([{,:.".indexOf(out.charAt(out.length() - 1)) < 0
+                && ")]},:.".indexOf(c) < 0) {
+                out.append(' ');
+            }
+            space = false;
+            if (c == '"' || c == '\'') {
+                i = GqlClassifier.skipQuoted(gql, i, c);
+                out.append('?');
+            } else if (c == '`') {
+                int end = GqlClassifier.skipQuoted(gql, i, c);
+                out.append(gql, i, end);
+                i = end;
+            } else if (Character.isDigit(c)) {
+                i = skipNumber(gql, i);
+                out.append('?');
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(gql.charAt(i)) || gql.charAt(i) == '_')) {
+                    i++;
+                }
+                out.append(gql, start, i);
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static int skipNumber(String gql, int start) {
+        int i = start;
+        while (i < gql.length()) {
+            char c = gql.charAt(i);
+            boolean exponentSign = (c == '-' || c == '+') && (gql.charAt(i - 1) == 'e' || gql.charAt(i - 1) == 'E');
+            if (Character.isLetterOrDigit(c) || c == '.' || exponentSign) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * fold lists of equal elements such as {@code [?]} or {@code [?,?,?]} into {@code [?,...]}, also nested ones.
+     */
+    private static String foldLists(String normalized) {
+        if (normalized.indexOf('[') < 0) {
+            return normalized;
+        }
+        StringBuilder out = new StringBuilder(normalized.length());
+        int           i   = 0;
+        while (i < normalized.length()) {
+            char c = normalized.charAt(i);
+            if (c == '[') {
+                i = appendList(normalized, i, out);
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * @param open index of the [
+     * @return index after the matching ]
+     */
+    private static int appendList(String normalized, int open, StringBuilder out) {
+        List<String>  elements = new ArrayList<>();
+        StringBuilder element  = new StringBuilder();
+        int           depth    = 0;
+        int           i        = open + 1;
+        boolean       closed   = false;
+        while (i < normalized.length()) {
+            char c = normalized.charAt(i);
+            if (c == '[') {
+                i = appendList(normalized, i, element);
+                continue;
+            }
+            if (depth == 0 && (c == ',' || c == ']')) {
+                elements.add(element.toString().trim());
+                element.setLength(0);
+                i++;
+                if (c == ']') {
+                    closed = true;
+                    break;
+                }
+                continue;
+            }
+            if (c == '(' || c == '{') {
+                depth++;
+            } else if (c == ')' || c == '}') {
+                depth--;
+            }
+            element.append(c);
+            i++;
+        }
+        if (!closed && element.length() > 0) {
+            elements.add(element.toString().trim());
+        }
+        boolean equal = true;
+        for (String other : elements) {
+            equal &= other.equals(elements.get(0));
+        }
+        out.append('[');
+        if (equal && !elements.isEmpty() && !elements.get(0).isEmpty()) {
+            out.append(elements.get(0)).append(",...");
+        } else {
+            out.append(String.join(",", elements));
+        }
+        if (closed) {
+            out.append(']');
+        }
+        return i;
+    }
+}
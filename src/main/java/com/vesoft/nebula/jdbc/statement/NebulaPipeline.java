@@ -0,0 +1,101 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Submits independent gql back to back on one connection, request N+1 is sent without waiting for response N.
+ * Responses are matched to requests in submission order.
+ *
+ * <pre>
+ *     NebulaPipeline pipeline = connection.pipeline();
+ *     pipeline.add("match (v:Movie{id:1}) return v");
+ *     pipeline.add("match (v:Movie{id:2}) return v");
+ *     List&lt;ResultSet&gt; results = pipeline.sync();
+ * </pre>
+ *
+ * <p>The requests are spread over the sessions of the connection, so the number of requests in flight is
+ * bounded by the connection's session count. Only submit gql which do not depend on each other, there is no
+ * ordering guarantee between requests of one pipeline on graphd.
+ */
+public class NebulaPipeline {
+
+    private final NebulaStatementImpl statement;
+
+    private final List<String>                                                          gqls    = new ArrayList<>();
+    private final List<CompletableFuture<com.vesoft.nebula.driver.graph.data.ResultSet>> futures = new ArrayList<>();
+
+    public NebulaPipeline(NebulaStatementImpl statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * send the gql immediately, its response is collected by {@link #sync()}.
+     *
+     * @param gql the gql to send
+     * @return this pipeline
+     * @throws SQLException if the gql is a write while auto-commit is off, pipelined writes are not buffered
+     */
+    public NebulaPipeline add(String gql) throws SQLException {
+        if (statement.isClosed()) {
+            throw new SQLException("Pipeline already synced.");
+        }
+        statement.connection.checkUnbuffered(gql);
+        gqls.add(gql);
+        futures.add(statement.connection.executeAsync(gql));
+        return this;
+    }
+
+    /**
+     * @return number of gql added to this pipeline
+     */
+    public int size() {
+        return gqls.size();
+    }
+
+    /**
+     * wait for all responses, each request waits at most the connection's request timeout after its predecessor.
+     *
+     * @return results in the order the gql were added
+     * @throws SQLException if any gql failed, the remaining requests are cancelled
+     */
+    public List<ResultSet> sync() throws SQLException {
+        long            timeout = Math.max(1, statement.connection.getQueryTimeout());
+        List<ResultSet> results = new ArrayList<>(futures.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                com.vesoft.nebula.driver.graph.data.ResultSet result;
+                try {
+                    result = futures.get(i).get(timeout, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    throw new SQLTimeoutException(String.format("gql %s timed out in pipeline", gqls.get(i)), e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(e);
+                }
+                results.add(statement.toResultSet(gqls.get(i), result));
+            }
+        } finally {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(false);
+            }
+            statement.close();
+        }
+        return results;
+    }
+}
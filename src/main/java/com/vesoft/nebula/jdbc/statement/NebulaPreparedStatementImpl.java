@@ -6,11 +6,14 @@
 package com.vesoft.nebula.jdbc.statement;
 
 import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.jfr.JfrEvents;
+import com.vesoft.nebula.jdbc.values.EmbeddingVectors;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
+import java.sql.BatchUpdateException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -28,26 +31,35 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.StringJoiner;
 
 public class NebulaPreparedStatementImpl extends NebulaStatementImpl implements PreparedStatement {
 
-    private static final Pattern             GQL_PLACEHOLDER_PATTERN = Pattern.compile("\\?(?=[^\"]*(?:\"[^\"]*\"[^\"]*)*$)");
     private              String              rawGql;
+    private              String              fingerprint;
     private              Map<Object, Object> parameters;
     private              int                 parameterNumber;
+    private final        ParameterBatch      batch                   = new ParameterBatch();
 
     public NebulaPreparedStatementImpl(NebulaConnection connection, String rawGql) {
         super(connection);
         this.rawGql = rawGql;
-        this.parameterNumber = parameterCount(rawGql);
+        this.parameterNumber = placeholderCount(rawGql);
         this.parameters = new HashMap<>();
     }
 
@@ -66,7 +78,10 @@ public class NebulaPreparedStatementImpl extends NebulaStatementImpl implements
     @Override
     public boolean execute() throws SQLException {
         String gql = replacePlaceHolderWithParam(rawGql);
-        return execute(gql);
+        if (fingerprint == null) {
+            fingerprint = connection.getMetrics().fingerprintOf(rawGql);
+        }
+        return executeGql(gql, fingerprint);
     }
 
     @Override
@@ -295,65 +310,169 @@ public class NebulaPreparedStatementImpl extends NebulaStatementImpl implements
     }
 
 
-    private int parameterCount(String rawGql) {
-        int     count   = 0;
-        Matcher matcher = GQL_PLACEHOLDER_PATTERN.matcher(rawGql);
-        while (matcher.find()) {
+    /**
+     * @return number of ? placeholders in the gql, the way {@link #render(String, Object...)} fills them in
+     */
+    public static int placeholderCount(String gql) {
+        int count = 0;
+        for (int i = nextPlaceholder(gql, 0); i >= 0; i = nextPlaceholder(gql, i + 1)) {
             count++;
         }
         return count;
     }
 
+    /**
+     * @return index of the next ? placeholder from the index on, ? in string literals, quoted identifiers and
+     *         comments are skipped, -1 if there is none
+     */
+    public static int nextPlaceholder(String gql, int from) {
+        int i = from;
+        while (i < gql.length()) {
+            char c = gql.charAt(i);
+            if (c == '"' || c == '\'' || c == '`') {
+                i = GqlClassifier.skipQuoted(gql, i, c);
+            } else if (GqlClassifier.isCommentStart(gql, i)) {
+                i = GqlClassifier.skipComment(gql, i);
+            } else if (c == '?') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
     protected String replacePlaceHolderWithParam(String rawNGQL) throws SQLException {
-        Integer index    = 1;
-        String  digested = rawNGQL;
+        return replacePlaceHolderWithParam(rawNGQL, parameters);
+    }
 
-        Matcher matcher = GQL_PLACEHOLDER_PATTERN.matcher(digested);
+    /**
+     * render the gql template with given parameters, the same way as a prepared statement does.
+     *
+     * @param rawGql gql with ? placeholders
+     * @param params parameters for the placeholders, in order
+     * @return the rendered gql
+     */
+    public static String render(String rawGql, Object... params) throws SQLException {
+        Map<Object, Object> parameters = new HashMap<>();
+        for (int i = 0; i < params.length; i++) {
+            parameters.put(i + 1, params[i]);
+        }
+        return replacePlaceHolderWithParam(rawGql, parameters);
+    }
 
-        while (matcher.find()) {
+    private static String replacePlaceHolderWithParam(String rawNGQL, Map<Object, Object> parameters) throws SQLException {
+        Object        event    = JfrEvents.beginRender();
+        StringBuilder digested = new StringBuilder(rawNGQL.length() + 16);
+        int           index    = 1;
+        int           start    = 0;
+        // one pass over the template, rendered values are never scanned for placeholders
+        for (int i = nextPlaceholder(rawNGQL, 0); i >= 0; i = nextPlaceholder(rawNGQL, i + 1)) {
             if (!parameters.containsKey(index)) {
                 throw new SQLException(String.format("Can not get param in index [%d], please check your nGql.", index));
             }
-            Object param = parameters.get(index);
-            if (param != null) {
-                String paramTypeName = param.getClass().getTypeName();
-                switch (paramTypeName) {
-                    case ("java.lang.String"):
-                        param = String.format("\"%s\"", param);
-                        break;
-                    case ("java.sql.Date"):
-                        param = String.format("date(\"%s\")", param);
-                        break;
-                    case ("java.util.Date"):
-                    case ("java.time.LocalDateTime"):
-                        String datetimeString = datetimeFormatter.format(param);
-                        param = String.format("local_datetime(\"%s\")", datetimeString);
-                        break;
-                    case ("java.sql.Time"):
-                    case ("java.time.LocalTime"):
-                        String localTimeString = timeFormatter.format(param);
-                        param = String.format("local_time(\"%s\")", localTimeString);
-                        break;
-                    case (" java.time.OffsetTime"):
-                        String zonedTimeString = zonedTimeFormatter.format(param);
-                        param = String.format("zoned_time(\"%s\")", zonedTimeString);
-                        break;
-                    case (" java.time.OffsetDateTime"):
-                        String zonedDatetimeString = zonedDatetimeFormatter.format(param);
-                        param = String.format("zoned_datetime(\"%s\")", zonedDatetimeString);
-                        break;
-                    case ("java.time.Duration"):
-                        param = String.format("duration(\"%s\")", (Duration) param);
-                        break;
-                    default:
-                        break;
-                }
-            }
-            digested = GQL_PLACEHOLDER_PATTERN.matcher(digested).replaceFirst(Objects.toString(param));
+            digested.append(rawNGQL, start, i).append(literal(parameters.get(index)));
+            start = i + 1;
             index++;
         }
+        String rendered = digested.append(rawNGQL, start, rawNGQL.length()).toString();
+
+        JfrEvents.commitRender(event, rawNGQL, index - 1, rendered);
+        return rendered;
+    }
 
-        return digested;
+    /**
+     * @return gql literal of the parameter, a collection becomes a list literal and a float[] a vector literal
+     */
+    public static String literal(Object param) throws SQLException {
+        if (param == null) {
+            return "null";
+        }
+        if (param instanceof float[]) {
+            return EmbeddingVectors.literal((float[]) param);
+        }
+        if (param instanceof Collection) {
+            StringJoiner list = new StringJoiner(", ", "[", "]");
+            for (Object element : (Collection<?>) param) {
+                list.add(literal(element));
+            }
+            return list.toString();
+        }
+        String paramTypeName = param.getClass().getTypeName();
+        switch (paramTypeName) {
+            case ("java.lang.String"):
+            case ("java.lang.Character"):
+                param = stringLiteral(param.toString());
+                break;
+            case ("java.sql.Date"):
+                param = String.format("date(\"%s\")", param);
+                break;
+            case ("java.util.Date"):
+                LocalDateTime datetime = LocalDateTime.ofInstant(((java.util.Date) param).toInstant(),
+                                                                 ZoneId.systemDefault());
+                param = String.format("local_datetime(\"%s\")", LOCAL_DATETIME.format(datetime));
+                break;
+            case ("java.time.LocalDateTime"):
+                param = String.format("local_datetime(\"%s\")", LOCAL_DATETIME.format((LocalDateTime) param));
+                break;
+            case ("java.sql.Time"):
+                // Time.toInstant is not supported and toLocalTime drops the milliseconds
+                LocalTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(((Time) param).getTime()),
+                                                         ZoneId.systemDefault()).toLocalTime();
+                param = String.format("local_time(\"%s\")", LOCAL_TIME.format(time));
+                break;
+            case ("java.time.LocalTime"):
+                param = String.format("local_time(\"%s\")", LOCAL_TIME.format((LocalTime) param));
+                break;
+            case ("java.time.OffsetTime"):
+                param = String.format("zoned_time(\"%s\")", ZONED_TIME.format((OffsetTime) param));
+                break;
+            case ("java.time.OffsetDateTime"):
+                param = String.format("zoned_datetime(\"%s\")", ZONED_DATETIME.format((OffsetDateTime) param));
+                break;
+            case ("java.time.Duration"):
+                param = String.format("duration(\"%s\")", (Duration) param);
+                break;
+            default:
+                break;
+        }
+        return param.toString();
+    }
+
+    /**
+     * @return the value quoted as gql string literal, quotes, backslashes and line breaks are escaped
+     */
+    public static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            appendEscaped(literal, value.charAt(i));
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * append the char escaped for a gql string literal.
+     */
+    public static void appendEscaped(StringBuilder target, char c) {
+        switch (c) {
+            case '"':
+                target.append("\\\"");
+                break;
+            case '\\':
+                target.append("\\\\");
+                break;
+            case '\n':
+                target.append("\\n");
+                break;
+            case '\r':
+                target.append("\\r");
+                break;
+            case '\t':
+                target.append("\\t");
+                break;
+            default:
+                target.append(c);
+        }
     }
 
     public void insertParameter(int parameterIndex, Object obj) throws SQLException {
@@ -369,10 +488,11 @@ public class NebulaPreparedStatementImpl extends NebulaStatementImpl implements
         }
     }
 
-    private static SimpleDateFormat datetimeFormatter      = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.ssssss");
-    private static SimpleDateFormat zonedDatetimeFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.ssssssZ");
-    private static SimpleDateFormat timeFormatter          = new SimpleDateFormat("HH:mm:ss.sssssss");
-    private static SimpleDateFormat zonedTimeFormatter     = new SimpleDateFormat("HH:mm:ss.sssssssZ");
+    private static final DateTimeFormatter LOCAL_DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter LOCAL_TIME     = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter ZONED_DATETIME = DateTimeFormatter.ofPattern(
+            "yyyy-MM-dd'T'HH:mm:ss.SSSSSSxxx");
+    private static final DateTimeFormatter ZONED_TIME     = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSxxx");
 
 
     @Override
@@ -392,7 +512,30 @@ public class NebulaPreparedStatementImpl extends NebulaStatementImpl implements
 
     @Override
     public void addBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException("not supported.");
+        batch.add(parameters);
+    }
+
+    /**
+     * coalesce the commands of a batch whose key parameters are equal into one write, the last write wins.
+     *
+     * @param keyParameterIndexes indexes of the parameters identifying the vertex or edge, the first is 1
+     */
+    public void setBatchCoalescing(int... keyParameterIndexes) {
+        setBatchCoalescing(BatchMerger.LAST_WRITE_WINS, keyParameterIndexes);
+    }
+
+    /**
+     * coalesce the commands of a batch whose key parameters are equal into one write.
+     *
+     * @param merger              merges the parameters of two commands with the same key
+     * @param keyParameterIndexes indexes of the parameters identifying the vertex or edge, the first is 1, empty
+     *                            to disable coalescing
+     */
+    public void setBatchCoalescing(BatchMerger merger, int... keyParameterIndexes) {
+        if (merger == null) {
+            throw new IllegalArgumentException("merger should not be null");
+        }
+        batch.setCoalescing(keyParameterIndexes.length == 0 ? null : keyParameterIndexes, merger);
     }
 
     @Override
@@ -603,12 +746,50 @@ public class NebulaPreparedStatementImpl extends NebulaStatementImpl implements
 
     @Override
     public void clearBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException("not supported.");
+        batch.clear();
     }
 
+    /**
+     * execute the writes of the batch in order, grouped into multi-statement requests if
+     * {@link com.vesoft.nebula.jdbc.NebulaPropertyKey#TRANSACTIONSEPARATOR} is set. With coalescing, the update count
+     * of a write is reported for the last command merged into it and the other merged commands report
+     * {@link #SUCCESS_NO_INFO}, as do the writes of a multi-statement request.
+     *
+     * @throws BatchUpdateException if a request failed, the commands of its writes and of all following writes report
+     *                              {@link #EXECUTE_FAILED}
+     */
     @Override
     public int[] executeBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException("not supported.");
+        List<ParameterBatch.Write> writes = batch.writes();
+        int[]                      counts = new int[batch.size()];
+        Arrays.fill(counts, SUCCESS_NO_INFO);
+        batch.clear();
+        connection.getMetrics().recordBatch(counts.length);
+        List<String> gqls = new ArrayList<>(writes.size());
+        for (ParameterBatch.Write write : writes) {
+            gqls.add(replacePlaceHolderWithParam(rawGql, write.parameters));
+        }
+        int[]                writeCounts;
+        BatchUpdateException failure = null;
+        try {
+            writeCounts = connection.executeWrites(sessionSlot, gqls);
+        } catch (BatchUpdateException e) {
+            failure = e;
+            writeCounts = e.getUpdateCounts();
+        }
+        for (int i = 0; i < writeCounts.length; i++) {
+            counts[writes.get(i).lastCommand()] = writeCounts[i];
+        }
+        if (failure != null) {
+            for (ParameterBatch.Write failed : writes.subList(writeCounts.length, writes.size())) {
+                for (int command : failed.commands) {
+                    counts[command] = EXECUTE_FAILED;
+                }
+            }
+            throw new BatchUpdateException(failure.getMessage(), failure.getSQLState(), failure.getErrorCode(), counts,
+                                           failure.getCause());
+        }
+        return counts;
     }
 
     @Override
@@ -7,6 +7,9 @@ package com.vesoft.nebula.jdbc.statement;
 
 import com.vesoft.nebula.jdbc.NebulaConnection;
 import com.vesoft.nebula.jdbc.NebulaResultSet;
+import com.vesoft.nebula.jdbc.jfr.JfrEvents;
+import com.vesoft.nebula.jdbc.values.DriverRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -14,6 +17,7 @@ import java.sql.SQLException;
 public class NebulaStatementImpl extends NebulaStatement {
 
     protected NebulaConnection connection;
+    protected final int        sessionSlot;
 
     protected ResultSet currentResultSet;
     protected int       currentAffectNum;
@@ -22,6 +26,7 @@ public class NebulaStatementImpl extends NebulaStatement {
 
     public NebulaStatementImpl(NebulaConnection connection) {
         this.connection = connection;
+        this.sessionSlot = connection.nextSessionSlot();
     }
 
     @Override
@@ -50,16 +55,78 @@ public class NebulaStatementImpl extends NebulaStatement {
 
     @Override
     public boolean execute(String gql) throws SQLException {
-        com.vesoft.nebula.driver.graph.data.ResultSet result = connection.execute(gql);
+        return executeGql(gql, null);
+    }
+
+    /**
+     * @param fingerprint fingerprint of the gql from {@link com.vesoft.nebula.jdbc.metrics.NebulaMetrics#fingerprintOf},
+     *                    computed if null. It is computed once for the execution and the read of its result
+     */
+    protected boolean executeGql(String gql, String fingerprint) throws SQLException {
+        if (connection.bufferWrite(gql)) {
+            // sent on commit, the update count is not known yet
+            currentResultSet = null;
+            currentAffectNum = 0;
+            return false;
+        }
+        Object  event  = JfrEvents.beginStatement();
+        boolean cached = false;
+        String  error  = null;
+        if (fingerprint == null) {
+            fingerprint = connection.getMetrics().fingerprintOf(gql);
+        }
+        try {
+            if ((connection.isCoalescingReads() || connection.isCachingReads()) && GqlClassifier.isRead(gql)) {
+                NebulaConnection.Read read  = connection.executeRead(sessionSlot, gql, fingerprint);
+                NebulaResultTable     table = read.getTable();
+                cached = read.isShared();
+                currentResultSet = new NebulaResultSet(table, this, gql, fingerprint);
+                currentAffectNum = (int) table.getAffectedCount();
+                return true;
+            }
+            com.vesoft.nebula.driver.graph.data.ResultSet result = connection.execute(sessionSlot, gql, fingerprint);
+            currentResultSet = toResultSet(gql, result, fingerprint);
+            currentAffectNum =
+                    (int) (result.getExtraInfo().getAffectedNodes() + result.getExtraInfo().getAffectedEdges());
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            error = String.valueOf(e.getMessage());
+            throw e;
+        } finally {
+            if (event != null) {
+                JfrEvents.commitStatement(event, gql, connection.graphOf(gql), sessionSlot, cached,
+                                          error == null ? currentAffectNum : 0, error);
+            }
+        }
+    }
+
+    /**
+     * wrap the driver result of given gql as jdbc ResultSet
+     *
+     * @throws SQLException if the gql executed failed
+     */
+    NebulaResultSet toResultSet(String gql, com.vesoft.nebula.driver.graph.data.ResultSet result) throws SQLException {
+        return toResultSet(gql, result, null);
+    }
+
+    NebulaResultSet toResultSet(String gql, com.vesoft.nebula.driver.graph.data.ResultSet result, String fingerprint)
+            throws SQLException {
+        checkSucceeded(gql, result);
+        return new NebulaResultSet(new DriverRecordCursor(result), this, gql, fingerprint);
+    }
+
+    /**
+     * check the driver result of given gql
+     *
+     * @throws SQLException if the gql executed failed
+     */
+    public static void checkSucceeded(String gql, com.vesoft.nebula.driver.graph.data.ResultSet result) throws SQLException {
         if (!result.isSucceeded()) {
             throw new SQLException(String.format("gql %s executed failed, error code: %s, error message: %s",
                                                  gql,
                                                  result.getErrorCode().code,
                                                  result.getErrorMessage()));
         }
-        currentResultSet = new NebulaResultSet(result, this);
-        currentAffectNum = (int) (result.getExtraInfo().getAffectedNodes() + result.getExtraInfo().getAffectedEdges());
-        return true;
     }
 
     @Override
@@ -0,0 +1,101 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameter sets of a prepared statement batch. With coalescing, parameter sets whose key parameters are equal
+ * are merged into one write, which takes the position of the last command merged into it.
+ */
+class ParameterBatch {
+    private int[]       keyIndexes;
+    private BatchMerger merger;
+
+    private final LinkedHashMap<Object, Write> writes   = new LinkedHashMap<>();
+    private       int                          commands = 0;
+
+    /**
+     * @param keyIndexes indexes of the key parameters, null to disable coalescing
+     * @param merger     merges the parameters of writes with the same key
+     */
+    void setCoalescing(int[] keyIndexes, BatchMerger merger) {
+        this.keyIndexes = keyIndexes == null ? null : keyIndexes.clone();
+        this.merger = merger;
+    }
+
+    boolean isCoalescing() {
+        return keyIndexes != null;
+    }
+
+    void add(Map<Object, Object> parameters) throws SQLException {
+        Map<Object, Object> copy    = new HashMap<>(parameters);
+        int                 command = commands++;
+        if (keyIndexes == null) {
+            writes.put(command, new Write(copy, Collections.singletonList(command)));
+            return;
+        }
+        List<Object> key = new ArrayList<>(keyIndexes.length);
+        for (int index : keyIndexes) {
+            if (!copy.containsKey(index)) {
+                throw new SQLException(String.format("key parameter [%d] is not set.", index));
+            }
+            key.add(copy.get(index));
+        }
+        Write         previous = writes.remove(key);
+        List<Integer> merged   = new ArrayList<>();
+        if (previous == null) {
+            merged.add(command);
+            writes.put(key, new Write(copy, merged));
+        } else {
+            merged.addAll(previous.commands);
+            merged.add(command);
+            writes.put(key, new Write(merger.merge(previous.parameters, copy), merged));
+        }
+    }
+
+    /**
+     * @return number of commands added, before coalescing
+     */
+    int size() {
+        return commands;
+    }
+
+    /**
+     * @return the writes to send, in order
+     */
+    List<Write> writes() {
+        return Collections.unmodifiableList(new ArrayList<>(writes.values()));
+    }
+
+    void clear() {
+        writes.clear();
+        commands = 0;
+    }
+
+    static class Write {
+        final Map<Object, Object> parameters;
+        /**
+         * indexes of the commands merged into this write, in the order they were added
+         */
+        final List<Integer>       commands;
+
+        Write(Map<Object, Object> parameters, List<Integer> commands) {
+            this.parameters = parameters;
+            this.commands = commands;
+        }
+
+        int lastCommand() {
+            return commands.get(commands.size() - 1);
+        }
+    }
+}
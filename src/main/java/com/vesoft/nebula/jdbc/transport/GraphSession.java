@@ -0,0 +1,29 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.transport;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+
+/**
+ * One graphd session opened by a {@link GraphTransport}. A session serves one request at a time, the connection
+ * never calls {@link #execute(String)} concurrently on the same session.
+ */
+public interface GraphSession extends AutoCloseable {
+    /**
+     * execute the gql and wait for its result.
+     *
+     * @return the result, also for failed statements
+     * @throws Exception if the request could not be sent or answered
+     */
+    ResultSet execute(String gql) throws Exception;
+
+    boolean ping();
+
+    long getRequestTimeoutMills();
+
+    @Override
+    void close() throws Exception;
+}
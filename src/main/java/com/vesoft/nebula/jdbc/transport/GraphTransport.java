@@ -0,0 +1,24 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.transport;
+
+import java.util.Properties;
+
+/**
+ * Opens the graphd sessions of a {@link com.vesoft.nebula.jdbc.NebulaConnection}.
+ *
+ * <p>{@link NebulaClientTransport} is used by default. Another implementation, such as an in-process fake graphd
+ * for load tests, is passed to the connection or DataSource constructor, or named by the transport property as a
+ * class with a public no-arg constructor.
+ */
+public interface GraphTransport {
+    /**
+     * open and authenticate one session.
+     *
+     * @param properties connection properties, with the address, user, password and timeouts
+     */
+    GraphSession openSession(Properties properties) throws Exception;
+}
@@ -0,0 +1,55 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.transport;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.driver.graph.net.NebulaClient;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import java.util.Properties;
+
+/**
+ * transport over the {@link NebulaClient} of the nebula java driver
+ */
+public class NebulaClientTransport implements GraphTransport {
+
+    @Override
+    public GraphSession openSession(Properties properties) throws Exception {
+        NebulaClient.Builder builder = NebulaClient.builder(properties.getProperty(NebulaPropertyKey.ADDRESS.getKeyName()),
+                                                            properties.getProperty(NebulaPropertyKey.USER.getKeyName()),
+                                                            properties.getProperty(NebulaPropertyKey.PASSWORD.getKeyName()));
+        builder.withConnectTimeoutMills(NebulaPropertyKey.CONNECTTIMEOUT.getInt(properties, 3000));
+        builder.withRequestTimeoutMills(NebulaPropertyKey.REQUESTTIMEOUT.getInt(properties, 5000));
+        return new ClientSession(builder.build());
+    }
+
+    private static class ClientSession implements GraphSession {
+        private final NebulaClient client;
+
+        ClientSession(NebulaClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public ResultSet execute(String gql) throws Exception {
+            return client.execute(gql);
+        }
+
+        @Override
+        public boolean ping() {
+            return client.ping();
+        }
+
+        @Override
+        public long getRequestTimeoutMills() {
+            return client.getRequestTimeoutMills();
+        }
+
+        @Override
+        public void close() throws Exception {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.values;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import java.util.List;
+
+/**
+ * cursor over the records of a nebula driver {@link ResultSet}
+ */
+public class DriverRecordCursor implements NebulaRecordCursor {
+    private final ResultSet    resultSet;
+    private final List<String> columnNames;
+
+    public DriverRecordCursor(ResultSet resultSet) {
+        this.resultSet = resultSet;
+        this.columnNames = resultSet.getColumnNames();
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return resultSet.hasNext();
+    }
+
+    @Override
+    public NebulaRecord next() {
+        return new NebulaRecord(columnNames, resultSet.next().values());
+    }
+}
@@ -0,0 +1,111 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.values;
+
+import com.vesoft.nebula.driver.graph.data.EmbeddingVector;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import java.nio.FloatBuffer;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Conversions of embedding vectors into primitive floats and gql vector literals, without boxing on the client
+ * side beyond what the driver hands out.
+ */
+public final class EmbeddingVectors {
+    /**
+     * function which turns a list literal into a vector literal
+     */
+    public static final String VECTOR_FUNCTION = "vector";
+
+    private EmbeddingVectors() {
+    }
+
+    /**
+     * @return the embedding vector of the value
+     * @throws SQLException if the value is not an embedding vector
+     */
+    public static EmbeddingVector asEmbeddingVector(ValueWrapper value) throws SQLException {
+        if (value == null || !value.isEmbeddingVector()) {
+            throw new SQLException(String.format("value %s is not an embedding vector",
+                                                 value == null ? null : value.getDataTypeString()));
+        }
+        return value.asEmbeddingVector();
+    }
+
+    public static float[] toFloatArray(EmbeddingVector vector) {
+        float[] values = new float[vector.getValues().size()];
+        copyTo(vector, values, 0);
+        return values;
+    }
+
+    /**
+     * copy the vector into the target array.
+     *
+     * @return the dimension of the vector
+     * @throws IndexOutOfBoundsException if the vector does not fit into the target from the offset
+     */
+    public static int copyTo(EmbeddingVector vector, float[] target, int offset) {
+        List<Float> values    = vector.getValues();
+        int         dimension = values.size();
+        if (offset < 0 || offset + dimension > target.length) {
+            throw new IndexOutOfBoundsException(String.format("vector of dimension %d does not fit into float[%d] "
+                                                              + "at offset %d", dimension, target.length, offset));
+        }
+        for (int i = 0; i < dimension; i++) {
+            target[offset + i] = values.get(i);
+        }
+        return dimension;
+    }
+
+    /**
+     * copy the vector into the target buffer at its position, the position is advanced by the dimension.
+     *
+     * @return the dimension of the vector
+     * @throws java.nio.BufferOverflowException if the buffer has not enough remaining space
+     */
+    public static int copyTo(EmbeddingVector vector, FloatBuffer target) {
+        List<Float> values    = vector.getValues();
+        int         dimension = values.size();
+        if (target.remaining() < dimension) {
+            throw new java.nio.BufferOverflowException();
+        }
+        for (int i = 0; i < dimension; i++) {
+            target.put(values.get(i));
+        }
+        return dimension;
+    }
+
+    /**
+     * @return the vector literal of the values, such as {@code vector([0.1,0.2])}
+     * @throws SQLException if a value is NaN or infinite
+     */
+    public static String literal(float[] values) throws SQLException {
+        StringBuilder literal = new StringBuilder(VECTOR_FUNCTION.length() + 4 + values.length * 12);
+        appendLiteral(literal, values);
+        return literal.toString();
+    }
+
+    /**
+     * append the vector literal of the values, each float is written in its shortest round-trip form.
+     *
+     * @throws SQLException if a value is NaN or infinite
+     */
+    public static void appendLiteral(StringBuilder target, float[] values) throws SQLException {
+        target.append(VECTOR_FUNCTION).append("([");
+        for (int i = 0; i < values.length; i++) {
+            float value = values[i];
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                throw new SQLException(String.format("vector value %s at %d is not finite", value, i));
+            }
+            if (i > 0) {
+                target.append(',');
+            }
+            target.append(value);
+        }
+        target.append("])");
+    }
+}
@@ -0,0 +1,37 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.values;
+
+import java.util.List;
+
+/**
+ * cursor over records held in a list
+ */
+public class ListRecordCursor implements NebulaRecordCursor {
+    private final List<String>       columnNames;
+    private final List<NebulaRecord> records;
+    private       int                position = 0;
+
+    public ListRecordCursor(List<String> columnNames, List<NebulaRecord> records) {
+        this.columnNames = columnNames;
+        this.records = records;
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < records.size();
+    }
+
+    @Override
+    public NebulaRecord next() {
+        return records.get(position++);
+    }
+}
@@ -0,0 +1,36 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.values;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A forward-only source of {@link NebulaRecord}s, which backs a {@link com.vesoft.nebula.jdbc.NebulaResultSet}.
+ */
+public interface NebulaRecordCursor {
+
+    /**
+     * @return column names of the records
+     */
+    List<String> getColumnNames();
+
+    /**
+     * @return true if there are more records
+     */
+    boolean hasNext() throws SQLException;
+
+    /**
+     * @return the next record
+     */
+    NebulaRecord next() throws SQLException;
+
+    /**
+     * release the resource held by this cursor, called when the ResultSet is closed.
+     */
+    default void close() throws SQLException {
+    }
+}
@@ -0,0 +1,131 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.values;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, fully decoded result. Many cursors can read the same table concurrently, each cursor keeps its
+ * own position.
+ */
+public class NebulaResultTable {
+    private final List<String>       columnNames;
+    private final List<NebulaRecord> records;
+    private final long               affectedCount;
+    private       long               estimatedBytes = -1;
+
+    public NebulaResultTable(List<String> columnNames, List<NebulaRecord> records, long affectedCount) {
+        this.columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
+        this.records = Collections.unmodifiableList(records);
+        this.affectedCount = affectedCount;
+    }
+
+    /**
+     * decode all records of a succeeded driver result
+     *
+     * @param resultSet the driver result, it is consumed by this method
+     * @return the decoded table
+     */
+    public static NebulaResultTable decode(ResultSet resultSet) {
+        DriverRecordCursor cursor  = new DriverRecordCursor(resultSet);
+        List<NebulaRecord> records = new ArrayList<>();
+        while (cursor.hasNext()) {
+            records.add(cursor.next());
+        }
+        long affectedCount = resultSet.getExtraInfo().getAffectedNodes() + resultSet.getExtraInfo().getAffectedEdges();
+        return new NebulaResultTable(cursor.getColumnNames(), records, affectedCount);
+    }
+
+    /**
+     * @return a new cursor positioned before the first record
+     */
+    public NebulaRecordCursor cursor() {
+        return new ListRecordCursor(columnNames, records);
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * @return rough estimation of the heap held by the records
+     */
+    public long estimatedBytes() {
+        if (estimatedBytes < 0) {
+            long bytes = 64;
+            for (NebulaRecord record : records) {
+                bytes += estimatedBytes(record);
+            }
+            estimatedBytes = bytes;
+        }
+        return estimatedBytes;
+    }
+
+    /**
+     * @return rough estimation of the heap held by the record
+     */
+    public static long estimatedBytes(NebulaRecord record) {
+        long bytes = 32;
+        for (int i = 0; i < record.size(); i++) {
+            ValueWrapper value = record.get(i);
+            bytes += 24 + (value == null ? 0 : estimateBytes(value.getValue()));
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16;
+        }
+        if (value instanceof ValueWrapper) {
+            return 24 + estimateBytes(((ValueWrapper) value).getValue());
+        }
+        if (value instanceof Collection) {
+            long bytes = 40;
+            for (Object element : (Collection<?>) value) {
+                bytes += 8 + estimateBytes(element);
+            }
+            return bytes;
+        }
+        if (value instanceof Map) {
+            long bytes = 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                bytes += 32 + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof TemporalAccessor || value instanceof TemporalAmount) {
+            return 32;
+        }
+        // node, edge, path and other composite values
+        return 256;
+    }
+
+    /**
+     * @return number of nodes and edges affected by the gql
+     */
+    public long getAffectedCount() {
+        return affectedCount;
+    }
+}
@@ -0,0 +1,115 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.transport.GraphSession;
+import com.vesoft.nebula.jdbc.transport.GraphTransport;
+import org.junit.Test;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class BatchExecuteTest {
+    private static final String GQL = "INSERT (v:User{id:?, name:?})";
+
+    private final List<String> inserts = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * answers every insert with one affected node per statement, fails statements of id 3
+     */
+    private final GraphTransport transport = properties -> {
+        GraphSession session = mock(GraphSession.class);
+        when(session.execute(anyString())).thenAnswer(invocation -> {
+            String gql = invocation.getArgument(0);
+            if (gql.startsWith("INSERT")) {
+                inserts.add(gql);
+            }
+            ResultSet           result    = mock(ResultSet.class);
+            ResultSet.ExtraInfo extraInfo = mock(ResultSet.ExtraInfo.class);
+            ResultSet.ErrorCode errorCode = new ResultSet.ErrorCode();
+            errorCode.code = "E_EXECUTION_ERROR";
+            when(result.isSucceeded()).thenReturn(!gql.contains("id:3"));
+            when(result.getErrorCode()).thenReturn(errorCode);
+            when(result.getExtraInfo()).thenReturn(extraInfo);
+            when(extraInfo.getAffectedNodes()).thenReturn((long) gql.split("INSERT", -1).length - 1);
+            return result;
+        });
+        return session;
+    };
+
+    private NebulaConnection connect(String separator) throws Exception {
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), 1);
+        if (separator != null) {
+            properties.put(NebulaPropertyKey.TRANSACTIONSEPARATOR.getKeyName(), separator);
+        }
+        return new NebulaConnection("jdbc:nebula://127.0.0.1:9669/g", properties, transport);
+    }
+
+    private static void add(NebulaPreparedStatementImpl statement, int id, String name) throws Exception {
+        statement.setInt(1, id);
+        statement.setString(2, name);
+        statement.addBatch();
+    }
+
+    @Test
+    public void testCoalescedWritesSentInOneRequest() throws Exception {
+        try (NebulaConnection connection = connect("; ");
+             NebulaPreparedStatementImpl statement =
+                     (NebulaPreparedStatementImpl) connection.prepareStatement(GQL)) {
+            statement.setBatchCoalescing(1);
+            add(statement, 1, "a");
+            add(statement, 2, "b");
+            add(statement, 1, "c");
+            int[] counts = statement.executeBatch();
+            assertArrayEquals(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO,
+                                        Statement.SUCCESS_NO_INFO}, counts);
+            assertEquals(Collections.singletonList("INSERT (v:User{id:2, name:\"b\"}); "
+                                                   + "INSERT (v:User{id:1, name:\"c\"})"), inserts);
+        }
+    }
+
+    @Test
+    public void testFailedWriteStopsTheBatch() throws Exception {
+        try (NebulaConnection connection = connect(null);
+             NebulaPreparedStatementImpl statement =
+                     (NebulaPreparedStatementImpl) connection.prepareStatement(GQL)) {
+            add(statement, 1, "a");
+            add(statement, 3, "b");
+            add(statement, 4, "c");
+            try {
+                statement.executeBatch();
+                fail("the write of id 3 should fail");
+            } catch (BatchUpdateException e) {
+                assertArrayEquals(new int[]{1, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED},
+                                  e.getUpdateCounts());
+                assertEquals(2, inserts.size());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullMerger() throws Exception {
+        try (NebulaConnection connection = connect(null);
+             NebulaPreparedStatementImpl statement =
+                     (NebulaPreparedStatementImpl) connection.prepareStatement(GQL)) {
+            statement.setBatchCoalescing(null, 1);
+        }
+    }
+}
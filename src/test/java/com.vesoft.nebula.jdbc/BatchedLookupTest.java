@@ -0,0 +1,61 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class BatchedLookupTest {
+    @Test
+    public void testChunkByRequestBytes() throws Exception {
+        String template = "match (v:Movie) where v.id in ? return v";
+        BatchedLookup lookup = BatchedLookup.builder(template, Arrays.asList(1, 2, 3, 4, 5))
+                                            .maxRequestBytes(template.length() + 2 + 3 * 3)
+                                            .build();
+        assertEquals(Arrays.asList("match (v:Movie) where v.id in [1, 2, 3] return v",
+                                   "match (v:Movie) where v.id in [4, 5] return v"),
+                     lookup.chunkGqls());
+    }
+
+    @Test
+    public void testChunkByIdCount() throws Exception {
+        BatchedLookup lookup = BatchedLookup.builder("unwind ? as id match (v:Movie{id:id}) return v",
+                                                     Arrays.asList("a", "b", "c"))
+                                            .maxIdsPerRequest(2)
+                                            .build();
+        assertEquals(Arrays.asList("unwind [\"a\", \"b\"] as id match (v:Movie{id:id}) return v",
+                                   "unwind [\"c\"] as id match (v:Movie{id:id}) return v"),
+                     lookup.chunkGqls());
+    }
+
+    @Test
+    public void testQuotedPlaceholdersInTemplate() throws Exception {
+        BatchedLookup lookup = BatchedLookup.builder("match (v:Movie) where v.id in ? and v.title <> \"?\" return v",
+                                                     Arrays.asList(1))
+                                            .build();
+        assertEquals(Collections.singletonList("match (v:Movie) where v.id in [1] and v.title <> \"?\" return v"),
+                     lookup.chunkGqls());
+    }
+
+    @Test
+    public void testEmptyIds() throws Exception {
+        BatchedLookup lookup = BatchedLookup.builder("match (v:Movie) where v.id in ? return v",
+                                                     Collections.emptyList()).build();
+        assertEquals(Collections.emptyList(), lookup.chunkGqls());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testIdLargerThanBudget() throws Exception {
+        BatchedLookup.builder("match (v:Movie) where v.id in ? return v", Arrays.asList(1))
+                     .maxRequestBytes(10)
+                     .build()
+                     .chunkGqls();
+    }
+}
@@ -0,0 +1,108 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Test;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BulkMutationTest {
+    private static final String TEMPLATE = "unwind ? as id match (v:User{id:id}) detach delete v";
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<ResultSet> succeed(String gql) {
+        sent.add(gql);
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private static List<Object> ids(int n) {
+        List<Object> ids = new ArrayList<>();
+        for (long id = 1; id <= n; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Test
+    public void testChunks() throws Exception {
+        BulkMutation.Result result = BulkMutation.builder(TEMPLATE)
+                                                 .chunkSize(2)
+                                                 .concurrency(1)
+                                                 .build(this::succeed)
+                                                 .execute(Arrays.asList(1L, "a", 3L).iterator());
+        assertEquals(3, result.getMutatedRows());
+        assertEquals(0, result.getFailedRows());
+        assertEquals(Arrays.asList("unwind [1,\"a\"] as id match (v:User{id:id}) detach delete v",
+                                   "unwind [3] as id match (v:User{id:id}) detach delete v"), sent);
+    }
+
+    @Test
+    public void testFailedChunksAreReported() throws Exception {
+        AtomicLong progress = new AtomicLong();
+        BulkMutation mutation = BulkMutation.builder(TEMPLATE)
+                                            .chunkSize(10)
+                                            .concurrency(4)
+                                            .retry(0, 1, 1)
+                                            .progress((mutated, failed) -> progress.accumulateAndGet(mutated + failed,
+                                                                                                     Math::max))
+                                            .build(gql -> {
+                                                if (gql.startsWith("unwind [11,")) {
+                                                    CompletableFuture<ResultSet> failed = new CompletableFuture<>();
+                                                    failed.completeExceptionally(new SQLException("timeout"));
+                                                    return failed;
+                                                }
+                                                return succeed(gql);
+                                            });
+        BulkMutation.Result result = mutation.execute(ids(100).iterator());
+        assertEquals(90, result.getMutatedRows());
+        assertEquals(10, result.getFailedRows());
+        assertEquals(100, progress.get());
+        BulkMutation.FailedChunk chunk = result.getFailedChunks().get(0);
+        assertEquals(11L, chunk.getIds().get(0));
+        assertEquals("timeout", chunk.getError().getMessage());
+        assertEquals(9, sent.size());
+    }
+
+    @Test
+    public void testIdsFromResultSet() throws Exception {
+        java.sql.ResultSet ids = mock(java.sql.ResultSet.class);
+        AtomicInteger      row = new AtomicInteger();
+        when(ids.next()).thenAnswer(invocation -> row.incrementAndGet() <= 5);
+        when(ids.getObject(1)).thenAnswer(invocation -> (long) row.get());
+        BulkMutation.Result result = BulkMutation.builder(TEMPLATE).build(this::succeed).execute(ids);
+        assertEquals(5, result.getMutatedRows());
+        assertEquals("unwind [1,2,3,4,5] as id match (v:User{id:id}) detach delete v", sent.get(0));
+    }
+
+    @Test
+    public void testRateLimit() throws Exception {
+        long start = System.nanoTime();
+        BulkMutation.builder(TEMPLATE)
+                    .chunkSize(10)
+                    .rateLimit(1000)
+                    .build(this::succeed)
+                    .execute(ids(100).iterator());
+        // 10 chunks of 10 ids at 1000 ids/s, the first one is sent at once
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue("elapsed " + elapsedMillis, elapsedMillis >= 80);
+        assertEquals(10, sent.size());
+    }
+}
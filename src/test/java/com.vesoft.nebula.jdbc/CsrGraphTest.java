@@ -0,0 +1,113 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.Edge;
+import com.vesoft.nebula.driver.graph.data.Node;
+import com.vesoft.nebula.driver.graph.data.Path;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import org.junit.Test;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class CsrGraphTest {
+
+    private static Node node(long id, String label, long age) {
+        ValueWrapper value = mock(ValueWrapper.class);
+        when(value.asLong()).thenReturn(age);
+        Node node = mock(Node.class);
+        when(node.getId()).thenReturn(id);
+        when(node.getLabels()).thenReturn(Collections.singletonList(label));
+        when(node.getProperties()).thenReturn(Collections.singletonMap("age", value));
+        return node;
+    }
+
+    private static Edge edge(long src, long dst, double weight) {
+        ValueWrapper value = mock(ValueWrapper.class);
+        when(value.asDouble()).thenReturn(weight);
+        Edge edge = mock(Edge.class);
+        when(edge.getSrcId()).thenReturn(src);
+        when(edge.getDstId()).thenReturn(dst);
+        when(edge.getLabel()).thenReturn("Follows");
+        when(edge.getProperties()).thenReturn(Collections.singletonMap("weight", value));
+        return edge;
+    }
+
+    private static Path path(Node a, Edge e, Node b) {
+        Path path = mock(Path.class);
+        when(path.getNodes()).thenReturn(Arrays.asList(a, b));
+        when(path.getEdges()).thenReturn(Collections.singletonList(e));
+        return path;
+    }
+
+    @Test
+    public void testDrainPaths() throws Exception {
+        Node a = node(100, "User", 30);
+        Node b = node(200, "User", 40);
+        Node c = node(300, "User", 50);
+        Edge ab = edge(100, 200, 0.5);
+        Edge ac = edge(100, 300, 1.5);
+        Edge cb = edge(300, 200, 2.5);
+
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, true, true, false);
+        // the edge a->b is returned twice and deduplicated
+        Path cbPath = path(c, cb, b);
+        Path abPath = path(a, ab, b);
+        Path acPath = path(a, ac, c);
+        when(resultSet.getObject(1)).thenReturn(cbPath, abPath, acPath, abPath);
+
+        CsrGraph graph = CsrGraph.builder()
+                                 .vertexLongProperty("age")
+                                 .edgeDoubleProperty("weight")
+                                 .build(resultSet);
+
+        assertEquals(3, graph.getVertexCount());
+        assertEquals(3, graph.getEdgeCount());
+        int va = graph.indexOf(100);
+        int vb = graph.indexOf(200);
+        int vc = graph.indexOf(300);
+        assertEquals(-1, graph.indexOf(400));
+        assertEquals(100, graph.getVertexId(va));
+        assertEquals(2, graph.getOutDegree(va));
+        assertEquals(0, graph.getOutDegree(vb));
+        assertEquals(1, graph.getOutDegree(vc));
+        assertEquals(vb, graph.getTargets()[graph.getOffsets()[vc]]);
+        assertEquals(2.5, graph.getEdgeDoubleProperty("weight")[graph.getOffsets()[vc]], 0);
+        assertEquals(40, graph.getVertexLongProperty("age")[vb]);
+        assertEquals("User", graph.getVertexLabel(va));
+        assertEquals("Follows", graph.getEdgeLabel(0));
+    }
+
+    @Test
+    public void testEdgeOnlyVertices() throws Exception {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, false);
+        Edge edge = edge(1, 2, 1.0);
+        when(resultSet.getObject(1)).thenReturn(edge);
+        when(resultSet.getObject(2)).thenReturn("ignored");
+
+        CsrGraph graph = CsrGraph.builder().vertexLongProperty("age").dedupeEdges(false).build(resultSet);
+        assertEquals(2, graph.getVertexCount());
+        assertEquals(1, graph.getEdgeCount());
+        assertNull(graph.getVertexLabel(0));
+        assertEquals(CsrGraph.MISSING_LONG, graph.getVertexLongProperty("age")[1]);
+        assertEquals(1, graph.getOffsets()[graph.getVertexCount()]);
+    }
+}
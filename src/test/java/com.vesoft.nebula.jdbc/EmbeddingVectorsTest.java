@@ -0,0 +1,61 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.values;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.EmbeddingVector;
+import com.vesoft.nebula.jdbc.statement.NebulaPreparedStatementImpl;
+import org.junit.Test;
+import java.nio.FloatBuffer;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class EmbeddingVectorsTest {
+
+    private static EmbeddingVector vector(Float... values) {
+        EmbeddingVector vector = mock(EmbeddingVector.class);
+        when(vector.getDimension()).thenReturn(values.length);
+        when(vector.getValues()).thenReturn(Arrays.asList(values));
+        return vector;
+    }
+
+    @Test
+    public void testCopyToArray() {
+        float[] target = new float[5];
+        assertEquals(3, EmbeddingVectors.copyTo(vector(0.5f, -1f, 2f), target, 1));
+        assertArrayEquals(new float[]{0f, 0.5f, -1f, 2f, 0f}, target, 0);
+        assertArrayEquals(new float[]{1f, 2f}, EmbeddingVectors.toFloatArray(vector(1f, 2f)), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCopyToSmallArray() {
+        EmbeddingVectors.copyTo(vector(1f, 2f), new float[2], 1);
+    }
+
+    @Test
+    public void testCopyToBuffer() {
+        FloatBuffer buffer = FloatBuffer.allocate(4);
+        EmbeddingVectors.copyTo(vector(1f, 2f), buffer);
+        EmbeddingVectors.copyTo(vector(3f, 4f), buffer);
+        assertArrayEquals(new float[]{1f, 2f, 3f, 4f}, buffer.array(), 0);
+    }
+
+    @Test
+    public void testLiteral() throws Exception {
+        assertEquals("vector([0.1,-2.0,1.0E-5])", EmbeddingVectors.literal(new float[]{0.1f, -2f, 0.00001f}));
+        assertEquals("insert (v:Doc{id:1, embedding:vector([1.5,2.0])})",
+                     NebulaPreparedStatementImpl.render("insert (v:Doc{id:?, embedding:?})", 1, new float[]{1.5f, 2f}));
+    }
+
+    @Test(expected = SQLException.class)
+    public void testNonFiniteLiteral() throws Exception {
+        EmbeddingVectors.literal(new float[]{Float.NaN});
+    }
+}
@@ -0,0 +1,107 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ExistenceFilterTest {
+    private static final String TEMPLATE = "unwind ? as r insert (v:User{id:r.id})";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<ResultSet> succeed(String gql) {
+        sent.add(gql);
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    @Test
+    public void testNoFalseNegatives() throws Exception {
+        ExistenceFilter filter = ExistenceFilter.create("User", 10000, 0.01);
+        for (long id = 0; id < 10000; id++) {
+            filter.put(id);
+        }
+        for (long id = 0; id < 10000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+        int falsePositives = 0;
+        for (long id = 10000; id < 20000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        assertTrue("false positives " + falsePositives, falsePositives < 200);
+        assertFalse(filter.mightContain("0"));
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        ExistenceFilter filter = ExistenceFilter.create("User", 1000, 0.001);
+        filter.put("a");
+        filter.put(42L);
+        Path file = folder.getRoot().toPath().resolve("user.filter");
+        filter.writeTo(file);
+
+        ExistenceFilter read = ExistenceFilter.readFrom(file);
+        assertEquals("User", read.getLabel());
+        assertEquals(filter.getBitCount(), read.getBitCount());
+        assertEquals(filter.getHashCount(), read.getHashCount());
+        assertTrue(read.mightContain("a"));
+        assertTrue(read.mightContain(42L));
+        assertFalse(read.mightContain("b"));
+    }
+
+    @Test
+    public void testFileLoaderSkipsExisting() throws Exception {
+        ExistenceFilter filter = ExistenceFilter.create("User", 1000, 0.001);
+        filter.put(1L);
+        Path file = folder.newFile("users.csv").toPath();
+        Files.write(file, Arrays.asList("id", "1", "2", "3"), StandardCharsets.UTF_8);
+        FileLoader loader = FileLoader.csv(file, TEMPLATE)
+                                      .column("id", FieldType.INTEGER)
+                                      .skipExisting(filter, "id")
+                                      .build(this::succeed);
+        assertEquals(2, loader.load());
+        assertEquals(1, loader.getSkippedRows());
+        assertEquals("unwind [{id:2},{id:3}] as r insert (v:User{id:r.id})", sent.get(0));
+
+        // loaded ids are known to the next run
+        assertEquals(0, loader.load());
+        assertEquals(3, loader.getSkippedRows());
+    }
+
+    @Test
+    public void testJsonLinesSkipsExisting() throws Exception {
+        ExistenceFilter filter = ExistenceFilter.create("User", 1000, 0.001);
+        filter.put("a");
+        Path file = folder.newFile("users.jsonl").toPath();
+        Files.write(file, Arrays.asList("{\"id\":\"a\",\"n\":{\"id\":\"b\"}}", "{\"n\":1,\"id\":\"b\"}"),
+                    StandardCharsets.UTF_8);
+        FileLoader loader = FileLoader.jsonLines(file, TEMPLATE).skipExisting(filter, "id").build(this::succeed);
+        assertEquals(1, loader.load());
+        assertEquals("unwind [{n:1,id:\"b\"}] as r insert (v:User{id:r.id})", sent.get(0));
+    }
+}
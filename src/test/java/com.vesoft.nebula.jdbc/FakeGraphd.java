@@ -0,0 +1,426 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.transport;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.driver.graph.decode.ColumnType;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-process graphd for tests and load tests, no network and no server needed.
+ *
+ * <p>Every request waits for the configured latency plus a uniform jitter, fails with the configured error rate
+ * (a failed result) or drop rate (an exception like a broken connection), and answers with the first scripted
+ * result whose pattern matches the gql, for example
+ * <pre>
+ *     FakeGraphd graphd = FakeGraphd.builder()
+ *                                   .latency(2, TimeUnit.MILLISECONDS)
+ *                                   .jitter(1, TimeUnit.MILLISECONDS)
+ *                                   .errorRate(0.01)
+ *                                   .slowSessions(4, 50, TimeUnit.MILLISECONDS)
+ *                                   .result("(?i)^match.*", FakeGraphd.rows(10000, ColumnType.COLUMN_TYPE_INT64,
+ *                                                                            ColumnType.COLUMN_TYPE_STRING))
+ *                                   .build();
+ *     Connection connection = new NebulaConnection(url, properties, graphd);
+ * </pre>
+ * Result rows are generated while they are iterated, so large results do not occupy memory up front. Results are
+ * stub-only mocks which keep no invocation history, so long load tests do not accumulate it.
+ * SESSION SET statements always succeed without latency.
+ *
+ * <p>The test-jar of nebula-jdbc ships this class for the benchmarks and the load generator, which can use it
+ * through {@code --property transport=com.vesoft.nebula.jdbc.transport.FakeGraphd}.
+ */
+public class FakeGraphd implements GraphTransport {
+    private final long          latencyNanos;
+    private final long          jitterNanos;
+    private final double        errorRate;
+    private final double        dropRate;
+    private final int           slowSessionInterval;
+    private final long          slowLatencyNanos;
+    private final List<Pattern> patterns;
+    private final List<Script>  scripts;
+    private final Script        defaultScript;
+    private final Random        random;
+
+    private final AtomicInteger openedSessions = new AtomicInteger();
+    private final AtomicInteger openSessions   = new AtomicInteger();
+    private final AtomicInteger inFlight       = new AtomicInteger();
+    private final AtomicInteger maxInFlight    = new AtomicInteger();
+    private final AtomicLong    requests       = new AtomicLong();
+    private final AtomicLong    failures       = new AtomicLong();
+
+    private FakeGraphd(Builder builder) {
+        this.latencyNanos = builder.latencyNanos;
+        this.jitterNanos = builder.jitterNanos;
+        this.errorRate = builder.errorRate;
+        this.dropRate = builder.dropRate;
+        this.slowSessionInterval = builder.slowSessionInterval;
+        this.slowLatencyNanos = builder.slowLatencyNanos;
+        this.patterns = new ArrayList<>(builder.patterns);
+        this.scripts = new ArrayList<>(builder.scripts);
+        this.defaultScript = builder.defaultScript;
+        this.random = new Random(builder.seed);
+    }
+
+    /**
+     * graphd answering every request at once with an empty result, for the transport property.
+     */
+    public FakeGraphd() {
+        this(new Builder());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * @return script of a result with the given number of rows and one column of each type, named c0, c1, ..
+     */
+    public static Script rows(int rows, ColumnType... types) {
+        List<String> columns = new ArrayList<>();
+        for (int i = 0; i < types.length; i++) {
+            columns.add("c" + i);
+        }
+        return new Script(columns, Arrays.asList(types), rows);
+    }
+
+    /**
+     * @return script of a result with the given number of rows and the named columns
+     */
+    public static Script rows(int rows, List<String> columns, List<ColumnType> types) {
+        if (columns.size() != types.size()) {
+            throw new IllegalArgumentException("columns and types should have the same size");
+        }
+        return new Script(columns, types, rows);
+    }
+
+    @Override
+    public GraphSession openSession(Properties properties) {
+        int index = openedSessions.incrementAndGet();
+        openSessions.incrementAndGet();
+        boolean slow = slowSessionInterval > 0 && index % slowSessionInterval == 0;
+        return new FakeSession(slow ? slowLatencyNanos : 0);
+    }
+
+    /**
+     * @return number of sessions opened so far
+     */
+    public int getOpenedSessions() {
+        return openedSessions.get();
+    }
+
+    /**
+     * @return number of sessions opened and not closed yet
+     */
+    public int getOpenSessions() {
+        return openSessions.get();
+    }
+
+    /**
+     * @return number of requests served, without SESSION SET statements
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return number of injected errors and drops
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * @return max number of requests served at the same time
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private ResultSet respond(String gql, long extraLatencyNanos) throws Exception {
+        if (gql.startsWith("SESSION SET")) {
+            return Script.EMPTY_RESULT;
+        }
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            long wait = latencyNanos + extraLatencyNanos + (long) (jitterNanos * nextDouble());
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            double dice = nextDouble();
+            if (dice < dropRate) {
+                failures.incrementAndGet();
+                throw new IOException("fake graphd dropped the request");
+            }
+            if (dice < dropRate + errorRate) {
+                failures.incrementAndGet();
+                return Script.failed("E_EXECUTION_ERROR", "fake graphd injected error");
+            }
+            for (int i = 0; i < patterns.size(); i++) {
+                if (patterns.get(i).matcher(gql).matches()) {
+                    return scripts.get(i).result();
+                }
+            }
+            return defaultScript.result();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private class FakeSession implements GraphSession {
+        private final    long    extraLatencyNanos;
+        private volatile boolean closed = false;
+
+        FakeSession(long extraLatencyNanos) {
+            this.extraLatencyNanos = extraLatencyNanos;
+        }
+
+        @Override
+        public ResultSet execute(String gql) throws Exception {
+            if (closed) {
+                throw new IOException("session already closed");
+            }
+            return respond(gql, extraLatencyNanos);
+        }
+
+        @Override
+        public boolean ping() {
+            return !closed;
+        }
+
+        @Override
+        public long getRequestTimeoutMills() {
+            return 5000;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                openSessions.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * scripted result of a request
+     */
+    public static class Script {
+        private static final Script EMPTY = new Script(Collections.emptyList(), Collections.emptyList(), 0);
+
+        private static final ResultSet.ExtraInfo EXTRA_INFO   = stub(ResultSet.ExtraInfo.class);
+        /**
+         * shared by all responses, an empty result has no iteration state
+         */
+        private static final ResultSet           EMPTY_RESULT = EMPTY.result();
+
+        private final List<String>     columns;
+        private final List<ColumnType> types;
+        private final int              rows;
+
+        private Script(List<String> columns, List<ColumnType> types, int rows) {
+            this.columns = new ArrayList<>(columns);
+            this.types = new ArrayList<>(types);
+            this.rows = rows;
+        }
+
+        private static ResultSet failed(String code, String message) {
+            ResultSet.ErrorCode errorCode = stub(ResultSet.ErrorCode.class);
+            errorCode.code = code;
+            ResultSet result = stub(ResultSet.class);
+            when(result.isSucceeded()).thenReturn(false);
+            when(result.getErrorCode()).thenReturn(errorCode);
+            when(result.getErrorMessage()).thenReturn(message);
+            return result;
+        }
+
+        ResultSet result() {
+            if (this == EMPTY && EMPTY_RESULT != null) {
+                return EMPTY_RESULT;
+            }
+            ResultSet result = stub(ResultSet.class);
+            when(result.isSucceeded()).thenReturn(true);
+            when(result.getColumnNames()).thenReturn(columns);
+            when(result.getExtraInfo()).thenReturn(EXTRA_INFO);
+
+            // one record is reused for all rows, its values are generated on next()
+            int[]                    next    = {0};
+            List<ValueWrapper>[]     current = new List[1];
+            ResultSet.Record         record  = stub(ResultSet.Record.class);
+            when(record.values()).thenAnswer(invocation -> current[0]);
+            when(result.hasNext()).thenAnswer(invocation -> next[0] < rows);
+            when(result.next()).thenAnswer(invocation -> {
+                current[0] = row(next[0]++);
+                return record;
+            });
+            return result;
+        }
+
+        private List<ValueWrapper> row(int row) {
+            List<ValueWrapper> values = new ArrayList<>(types.size());
+            for (ColumnType type : types) {
+                values.add(new ValueWrapper(value(type, row), type));
+            }
+            return values;
+        }
+
+        private static Object value(ColumnType type, int row) {
+            switch (type) {
+                case COLUMN_TYPE_INT8:
+                case COLUMN_TYPE_INT16:
+                case COLUMN_TYPE_INT32:
+                case COLUMN_TYPE_INT64:
+                case COLUMN_TYPE_UINT8:
+                case COLUMN_TYPE_UINT16:
+                case COLUMN_TYPE_UINT32:
+                case COLUMN_TYPE_UINT64:
+                    return (long) row;
+                case COLUMN_TYPE_FLOAT32:
+                case COLUMN_TYPE_FLOAT64:
+                    return row * 0.5;
+                case COLUMN_TYPE_BOOL:
+                    return row % 2 == 0;
+                case COLUMN_TYPE_STRING:
+                    return "value-" + row;
+                case COLUMN_TYPE_DATE:
+                    return LocalDate.of(2024, 1, 1).plusDays(row);
+                case COLUMN_TYPE_LOCALTIME:
+                    return LocalTime.MIDNIGHT.plusSeconds(row);
+                case COLUMN_TYPE_LOCALDATETIME:
+                    return LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(row);
+                case COLUMN_TYPE_NULL:
+                    return null;
+                default:
+                    throw new IllegalArgumentException("fake graphd does not generate " + type);
+            }
+        }
+    }
+
+    public static class Builder {
+        private long          latencyNanos        = 0;
+        private long          jitterNanos         = 0;
+        private double        errorRate           = 0;
+        private double        dropRate            = 0;
+        private int           slowSessionInterval = 0;
+        private long          slowLatencyNanos    = 0;
+        private long          seed                = 42;
+        private List<Pattern> patterns            = new ArrayList<>();
+        private List<Script>  scripts             = new ArrayList<>();
+        private Script        defaultScript       = Script.EMPTY;
+
+        private Builder() {
+        }
+
+        /**
+         * @param latency base latency of every request
+         */
+        public Builder latency(long latency, TimeUnit unit) {
+            this.latencyNanos = unit.toNanos(latency);
+            return this;
+        }
+
+        /**
+         * @param jitter max random latency added to the base latency
+         */
+        public Builder jitter(long jitter, TimeUnit unit) {
+            this.jitterNanos = unit.toNanos(jitter);
+            return this;
+        }
+
+        /**
+         * @param errorRate share of requests answered with a failed result
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * @param dropRate share of requests failing with an IOException, like a broken connection
+         */
+        public Builder dropRate(double dropRate) {
+            this.dropRate = dropRate;
+            return this;
+        }
+
+        /**
+         * make every n-th opened session slow, like a session on an overloaded graphd.
+         *
+         * @param interval     every interval-th session is slow, 0 for none
+         * @param extraLatency latency added to every request of a slow session
+         */
+        public Builder slowSessions(int interval, long extraLatency, TimeUnit unit) {
+            this.slowSessionInterval = interval;
+            this.slowLatencyNanos = unit.toNanos(extraLatency);
+            return this;
+        }
+
+        /**
+         * @param seed seed of the random jitter and failures, to repeat a run
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * answer gql matching the regex with the script, the first matching script wins.
+         */
+        public Builder result(String regex, Script script) {
+            patterns.add(Pattern.compile(regex, Pattern.DOTALL));
+            scripts.add(script);
+            return this;
+        }
+
+        /**
+         * @param script answer of gql matching no other script, an empty result by default
+         */
+        public Builder defaultResult(Script script) {
+            this.defaultScript = script;
+            return this;
+        }
+
+        public FakeGraphd build() {
+            if (latencyNanos < 0 || jitterNanos < 0 || slowLatencyNanos < 0 || slowSessionInterval < 0) {
+                throw new IllegalArgumentException("latency, jitter and slow sessions should not be negative");
+            }
+            if (errorRate < 0 || dropRate < 0 || errorRate + dropRate > 1) {
+                throw new IllegalArgumentException(String.format("errorRate %s and dropRate %s should be in [0, 1]",
+                                                                 errorRate, dropRate));
+            }
+            return new FakeGraphd(this);
+        }
+    }
+}
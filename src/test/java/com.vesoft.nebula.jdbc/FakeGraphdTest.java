@@ -0,0 +1,139 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.vesoft.nebula.driver.graph.decode.ColumnType;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import org.junit.Test;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class FakeGraphdTest {
+    private static final String URL = "jdbc:nebula://127.0.0.1:9669/movie";
+
+    private static Properties properties(int sessions) {
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.USER.getKeyName(), "root");
+        properties.put(NebulaPropertyKey.PASSWORD.getKeyName(), "nebula");
+        properties.put(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), sessions);
+        return properties;
+    }
+
+    private static int count(ResultSet resultSet) throws SQLException {
+        int rows = 0;
+        while (resultSet.next()) {
+            rows++;
+        }
+        return rows;
+    }
+
+    @Test
+    public void testScriptedResults() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder()
+                                      .result("(?i)^match.*", FakeGraphd.rows(5000, ColumnType.COLUMN_TYPE_INT64,
+                                                                               ColumnType.COLUMN_TYPE_STRING,
+                                                                               ColumnType.COLUMN_TYPE_LOCALDATETIME))
+                                      .build();
+        try (NebulaConnection connection = new NebulaConnection(URL, properties(2), graphd);
+             Statement statement = connection.createStatement()) {
+            assertEquals(2, graphd.getOpenSessions());
+            ResultSet resultSet = statement.executeQuery("MATCH (v) RETURN v.id, v.name, v.ts");
+            assertEquals(2, resultSet.findColumn("c1"));
+            assertEquals(5000, count(resultSet));
+            assertEquals(0, count(statement.executeQuery("RETURN 1")));
+            assertEquals(2, graphd.getRequests());
+        }
+        assertEquals(0, graphd.getOpenSessions());
+    }
+
+    @Test
+    public void testInjectedErrors() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder().errorRate(1).build();
+        try (NebulaConnection connection = new NebulaConnection(URL, properties(1), graphd);
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("MATCH (v) RETURN v");
+            fail("injected error should fail the query");
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("E_EXECUTION_ERROR"));
+        }
+
+        graphd = FakeGraphd.builder().dropRate(1).build();
+        try (NebulaConnection connection = new NebulaConnection(URL, properties(1), graphd)) {
+            connection.execute("MATCH (v) RETURN v");
+            fail("dropped request should fail");
+        } catch (SQLException e) {
+            assertEquals(1, graphd.getFailures());
+        }
+    }
+
+    @Test
+    public void testLatencyAndSlowSessions() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder()
+                                      .latency(20, TimeUnit.MILLISECONDS)
+                                      .slowSessions(2, 200, TimeUnit.MILLISECONDS)
+                                      .build();
+        try (NebulaConnection connection = new NebulaConnection(URL, properties(2), graphd)) {
+            long start = System.nanoTime();
+            connection.execute(0, "RETURN 1");
+            long fast = System.nanoTime() - start;
+            start = System.nanoTime();
+            connection.execute(1, "RETURN 1");
+            long slow = System.nanoTime() - start;
+            assertTrue(fast >= TimeUnit.MILLISECONDS.toNanos(20));
+            assertTrue(slow >= TimeUnit.MILLISECONDS.toNanos(220));
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsUseAllSessions() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder().latency(50, TimeUnit.MILLISECONDS).build();
+        try (NebulaConnection connection = new NebulaConnection(URL, properties(4), graphd)) {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(connection.executeAsync("RETURN 1"));
+            }
+            for (CompletableFuture<?> future : futures) {
+                future.get();
+            }
+            assertEquals(8, graphd.getRequests());
+            assertTrue(graphd.getMaxInFlight() > 1 && graphd.getMaxInFlight() <= 4);
+        }
+    }
+
+    @Test
+    public void testTransportProperty() throws Exception {
+        Properties properties = properties(1);
+        properties.put(NebulaPropertyKey.TRANSPORT.getKeyName(), "java.lang.Object");
+        try {
+            new NebulaConnection(URL, properties);
+            fail("transport should implement GraphTransport");
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("does not implement"));
+        }
+    }
+
+    @Test
+    public void testTransportPropertyNamesFakeGraphd() throws Exception {
+        Properties properties = properties(1);
+        properties.put(NebulaPropertyKey.TRANSPORT.getKeyName(), FakeGraphd.class.getName());
+        try (NebulaConnection connection = new NebulaConnection(URL, properties);
+             Statement statement = connection.createStatement()) {
+            assertEquals(0, count(statement.executeQuery("MATCH (v) RETURN v")));
+            assertEquals(0, count(statement.executeQuery("MATCH (v) RETURN v")));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class FileLoaderTest {
+    private static final String TEMPLATE = "unwind ? as r insert or replace (v:User{id:r.id, name:r.name})";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<ResultSet> succeed(String gql) {
+        sent.add(gql);
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private Path write(String name, String... lines) throws Exception {
+        Path file = folder.newFile(name).toPath();
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    public void testCsvWithHeader() throws Exception {
+        Path file = write("users.csv", "id,name,score", "1,\"a, \"\"b\"\"\",1.5", "", "2,中文,");
+        long rows = FileLoader.csv(file, TEMPLATE)
+                              .column("id", FieldType.INTEGER)
+                              .column("name", FieldType.STRING)
+                              .column("score", FieldType.FLOAT)
+                              .parallelism(1)
+                              .build(this::succeed)
+                              .load();
+        assertEquals(2, rows);
+        assertEquals("unwind [{id:1,name:\"a, \\\"b\\\"\",score:1.5},{id:2,name:\"中文\",score:null}] as r "
+                     + "insert or replace (v:User{id:r.id, name:r.name})", sent.get(0));
+    }
+
+    @Test
+    public void testCsvColumnsFromHeader() throws Exception {
+        Path file = write("users.csv", "id|name", "1|\"multi", "line\"");
+        FileLoader.csv(file, TEMPLATE).delimiter('|').build(this::succeed).load();
+        assertEquals("unwind [{id:\"1\",name:\"multi\\nline\"}] as r insert or replace (v:User{id:r.id, name:r.name})",
+                     sent.get(0));
+    }
+
+    @Test
+    public void testCsvQuotedHeader() throws Exception {
+        Path file = write("users.csv", "\"id\",\"first, name\",\"a}),(x\"", "1,a,b");
+        FileLoader.csv(file, TEMPLATE).build(this::succeed).load();
+        assertEquals("unwind [{id:\"1\",`first, name`:\"a\",`a}),(x`:\"b\"}] as r "
+                     + "insert or replace (v:User{id:r.id, name:r.name})", sent.get(0));
+    }
+
+    @Test
+    public void testMalformedCsv() throws Exception {
+        Path file = write("users.csv", "1,a,extra");
+        try {
+            FileLoader.csv(file, TEMPLATE)
+                      .header(false)
+                      .column("id", FieldType.INTEGER)
+                      .column("name", FieldType.STRING)
+                      .build(this::succeed)
+                      .load();
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("expected 2 fields"));
+        }
+    }
+
+    @Test
+    public void testJsonLines() throws Exception {
+        Path file = write("users.jsonl",
+                          "{\"id\": 1, \"name\": \"a\\\"b\\u00e9\", \"tags\": [\"x\", 2], \"first name\": null}",
+                          "{\"id\":2,\"ok\":true,\"nested\":{\"k\":-1.5e3}}");
+        long rows = FileLoader.jsonLines(file, TEMPLATE).batchSize(1).parallelism(1).build(this::succeed).load();
+        assertEquals(2, rows);
+        assertEquals("unwind [{id:1,name:\"a\\\"bé\",tags:[\"x\",2],`first name`:null}] as r "
+                     + "insert or replace (v:User{id:r.id, name:r.name})", sent.get(0));
+        assertEquals("unwind [{id:2,ok:true,nested:{k:-1.5e3}}] as r "
+                     + "insert or replace (v:User{id:r.id, name:r.name})", sent.get(1));
+    }
+
+    @Test
+    public void testBatchByBytes() throws Exception {
+        Path file = write("users.jsonl", "{\"id\":1}", "{\"id\":2}", "{\"id\":3}");
+        // the envelope and two records of 7 bytes with their separator
+        int budget = TEMPLATE.length() + 1 + 16;
+        FileLoader.jsonLines(file, TEMPLATE).maxRequestBytes(budget).parallelism(1).build(this::succeed).load();
+        assertEquals(2, sent.size());
+        assertTrue(sent.get(0).startsWith("unwind [{id:1},{id:2}]"));
+        assertTrue(sent.get(1).startsWith("unwind [{id:3}]"));
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() throws Exception {
+        Path file       = write("users.jsonl", "{\"id\":1}", "{\"id\":2}", "{\"id\":3}");
+        Path checkpoint = folder.getRoot().toPath().resolve("users.checkpoint");
+        FileLoader.Builder builder = FileLoader.jsonLines(file, TEMPLATE)
+                                               .batchSize(1)
+                                               .parallelism(1)
+                                               .retry(0, 1, 1)
+                                               .checkpoint(checkpoint);
+        try {
+            builder.build(gql -> {
+                if (gql.contains("id:2")) {
+                    CompletableFuture<ResultSet> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(new SQLException("unavailable"));
+                    return failed;
+                }
+                return succeed(gql);
+            }).load();
+            fail();
+        } catch (SQLException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+        FileLoader loader = builder.build(this::succeed);
+        assertEquals(1, loader.getCheckpointRows());
+
+        sent.clear();
+        assertEquals(2, loader.load());
+        assertEquals(2, sent.size());
+        assertTrue(sent.get(0).startsWith("unwind [{id:2}]"));
+        assertEquals(3, loader.getCheckpointRows());
+    }
+}
@@ -0,0 +1,62 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.HashSet;
+
+public class GqlClassifierTest {
+    @Test
+    public void testIsRead() {
+        assertTrue(GqlClassifier.isRead("match (v:Movie) return v limit 10"));
+        assertTrue(GqlClassifier.isRead("use movie match(v) return v.id,v.name limit 2"));
+        assertTrue(GqlClassifier.isRead("for i in range(1,100) return i as c"));
+        assertTrue(GqlClassifier.isRead("match (v) where v.name = \"insert into\" return v.set, v.`delete`"));
+        assertTrue(GqlClassifier.isRead("match (v) /* delete */ return v // drop"));
+
+        assertFalse(GqlClassifier.isRead("insert or replace (@User{id:10})"));
+        assertFalse(GqlClassifier.isRead("MATCH (v:User{id:1}) SET v.name = \"a\""));
+        assertFalse(GqlClassifier.isRead("match (v:User) detach delete v"));
+        assertFalse(GqlClassifier.isRead("SESSION SET GRAPH movie"));
+        assertFalse(GqlClassifier.isRead("  "));
+    }
+
+    @Test
+    public void testSessionSet() {
+        assertTrue(GqlClassifier.isSessionSet(" session SET schema \"s\""));
+        assertFalse(GqlClassifier.isSessionSet("MATCH (v) RETURN v.session"));
+        assertEquals("TIME ZONE=+08:00", GqlClassifier.sessionSetting("SESSION SET TIME  ZONE '+08:00';").toString());
+        assertEquals("GRAPH=my graph", GqlClassifier.sessionSetting("session set graph `my graph`").toString());
+        assertNull(GqlClassifier.sessionSetting("SESSION SET X 1"));
+    }
+
+    @Test
+    public void testUsedGraph() {
+        assertEquals("movie", GqlClassifier.usedGraph("use movie match(v) return v"));
+        assertEquals("my graph", GqlClassifier.usedGraph(" USE `my graph` match(v) return v"));
+        assertNull(GqlClassifier.usedGraph("match(v) return v"));
+        assertNull(GqlClassifier.usedGraph("user"));
+    }
+
+    @Test
+    public void testLabels() {
+        assertEquals(new HashSet<>(Arrays.asList("User")), GqlClassifier.labels("insert or replace (@User{id:10})"));
+        assertEquals(new HashSet<>(Arrays.asList("User", "Follow")),
+                     GqlClassifier.labels("match (a:User{id:1})-[e:Follow]->(b:User) return count(b), a.name"));
+        assertEquals(new HashSet<>(Arrays.asList("A", "B")), GqlClassifier.labels("match (v:A|B) return v"));
+
+        assertNull(GqlClassifier.labels("match (v) return v"));
+        assertNull(GqlClassifier.labels("match (a:User)-[e]->(b:User) return b"));
+        assertNull(GqlClassifier.labels("match (a:User)-->(b:User) return b"));
+        assertNull(GqlClassifier.labels("match (v:User{id:1}) detach delete v"));
+    }
+}
@@ -0,0 +1,48 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GqlFingerprintTest {
+    @Test
+    public void testLiteralsAndWhitespace() {
+        String fingerprint = GqlFingerprint.of("MATCH (v:User{id:42}) RETURN v");
+        assertEquals("MATCH (v:User{id:?}) RETURN v", fingerprint);
+        assertEquals(fingerprint, GqlFingerprint.of("MATCH (v:User{id: 7})\n   RETURN v // by id"));
+        assertEquals("RETURN ?,?,?", GqlFingerprint.of("RETURN 'a', \"b\\\"c\", 1.5e-3"));
+        assertEquals("MATCH (`v 1`) RETURN `v 1`", GqlFingerprint.of("MATCH (`v 1`) /* all */ RETURN `v 1`"));
+        assertNotEquals(fingerprint, GqlFingerprint.of("MATCH (v:Item{id:42}) RETURN v"));
+    }
+
+    @Test
+    public void testFoldedLists() {
+        String fingerprint = GqlFingerprint.of("INSERT (@User{id:1}), (@User{id:2})");
+        assertEquals(GqlFingerprint.of("MATCH (v) WHERE v.id IN [1, 2, 3] RETURN v"),
+                     GqlFingerprint.of("MATCH (v) WHERE v.id IN [7] RETURN v"));
+        assertEquals("RETURN [[?,...],...]", GqlFingerprint.of("RETURN [[1, 2], [3, 4, 5]]"));
+        assertEquals("RETURN [?,v]", GqlFingerprint.of("RETURN [1, v]"));
+        assertEquals("RETURN [?,...", GqlFingerprint.of("RETURN [1"));
+        assertEquals("RETURN []", GqlFingerprint.of("RETURN []"));
+        assertEquals("RETURN [", GqlFingerprint.of("RETURN ["));
+        assertEquals("INSERT (@User{id:?}),(@User{id:?})", fingerprint);
+    }
+
+    @Test
+    public void testMaxLength() {
+        StringBuilder gql = new StringBuilder("RETURN ");
+        for (int i = 0; i < 1000; i++) {
+            gql.append("v").append(i).append(", ");
+        }
+        String fingerprint = GqlFingerprint.of(gql.toString());
+        assertEquals(GqlFingerprint.MAX_LENGTH, fingerprint.length());
+        assertTrue(fingerprint.endsWith("..."));
+    }
+}
@@ -0,0 +1,95 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.vesoft.nebula.driver.graph.decode.ColumnType;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.transport.FakeGraphd;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class JfrEventsTest {
+    private static List<RecordedEvent> events(List<RecordedEvent> all, String name) {
+        List<RecordedEvent> events = new ArrayList<>();
+        for (RecordedEvent event : all) {
+            if (event.getEventType().getName().equals("com.vesoft.nebula.jdbc." + name)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    @Test
+    public void testNoTokenWithoutRecording() {
+        assertFalse(JfrEvents.isRecording());
+        Object token = JfrEvents.beginStatement();
+        assertEquals(null, token);
+        JfrEvents.commitStatement(token, "RETURN 1", "g", 0, false, 0, null);
+    }
+
+    @Test
+    public void testStatementEvents() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder()
+                                      .result("(?i)^match.*", FakeGraphd.rows(10, ColumnType.COLUMN_TYPE_INT64))
+                                      .build();
+        Path file = Files.createTempFile("nebula-jdbc", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{"Statement", "ParameterRender", "SessionBorrow", "ResultRead"}) {
+                recording.enable("com.vesoft.nebula.jdbc." + name).withoutThreshold();
+            }
+            recording.start();
+            assertTrue(JfrEvents.isRecording());
+            try (NebulaConnection connection = new NebulaConnection("jdbc:nebula://127.0.0.1:9669/g",
+                                                                    new Properties(), graphd);
+                 PreparedStatement statement = connection.prepareStatement(
+                         "MATCH (v:User) WHERE v.id == ? RETURN v.id")) {
+                statement.setLong(1, 42);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getLong(1);
+                    }
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> all = RecordingFile.readAllEvents(file);
+        new File(file.toString()).delete();
+
+        List<RecordedEvent> statements = events(all, "Statement");
+        assertEquals(1, statements.size());
+        assertEquals("MATCH (v:User) WHERE v.id == ? RETURN v.id", statements.get(0).getString("fingerprint"));
+        assertEquals("g", statements.get(0).getString("graph"));
+        assertTrue(statements.get(0).getBoolean("succeeded"));
+
+        List<RecordedEvent> renders = events(all, "ParameterRender");
+        assertEquals(1, renders.size());
+        assertEquals(1, renders.get(0).getInt("parameters"));
+
+        assertTrue(events(all, "SessionBorrow").size() >= 1);
+
+        List<RecordedEvent> reads = events(all, "ResultRead");
+        assertEquals(1, reads.size());
+        assertEquals(10, reads.get(0).getLong("rows"));
+        assertTrue(reads.get(0).getLong("bytes") > 0);
+        assertTrue(reads.get(0).getBoolean("drained"));
+        assertEquals(statements.get(0).getString("fingerprint"), reads.get(0).getString("fingerprint"));
+    }
+}
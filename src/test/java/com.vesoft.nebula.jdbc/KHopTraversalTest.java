@@ -0,0 +1,117 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.values.ListRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class KHopTraversalTest {
+    private static final List<String> COLUMNS = Arrays.asList(KHopTraversal.SRC, KHopTraversal.DST);
+
+    // 1 -> 2, 3; 2 -> 4; 3 -> 4, 1; 4 -> 5
+    private static final Map<Long, List<Long>> GRAPH = new HashMap<>();
+
+    static {
+        GRAPH.put(1L, Arrays.asList(2L, 3L));
+        GRAPH.put(2L, Collections.singletonList(4L));
+        GRAPH.put(3L, Arrays.asList(4L, 1L));
+        GRAPH.put(4L, Collections.singletonList(5L));
+    }
+
+    private final List<String> executed = new ArrayList<>();
+
+    private List<NebulaRecordCursor> expand(List<String> gqls) {
+        List<NebulaRecordCursor> cursors = new ArrayList<>();
+        for (String gql : gqls) {
+            executed.add(gql);
+            List<NebulaRecord> records = new ArrayList<>();
+            String ids = gql.substring(gql.indexOf('[') + 1, gql.indexOf(']'));
+            for (String id : ids.split(", ")) {
+                long src = Long.parseLong(id);
+                for (long dst : GRAPH.getOrDefault(src, Collections.emptyList())) {
+                    records.add(new NebulaRecord(COLUMNS, Arrays.asList(value(src), value(dst))));
+                }
+            }
+            cursors.add(new ListRecordCursor(COLUMNS, records));
+        }
+        return cursors;
+    }
+
+    private static ValueWrapper value(long id) {
+        ValueWrapper wrapper = mock(ValueWrapper.class);
+        when(wrapper.asLong()).thenReturn(id);
+        return wrapper;
+    }
+
+    @Test
+    public void testHopsExpandWholeFrontier() throws Exception {
+        KHopTraversal traversal = KHopTraversal.builder("unwind ? as id match (a{id:id})-->(b) return a.id as src, "
+                                                        + "b.id as dst")
+                                               .hops(2)
+                                               .build();
+        KHopTraversal.Result result = traversal.traverse(Collections.singletonList(1L), this::expand);
+
+        assertEquals(2, result.getHops());
+        assertEquals(2, executed.size());
+        assertTrue(executed.get(1).contains("[2, 3]"));
+        // hop 1: 1->2, 1->3; hop 2: 2->4, 3->4, 3->1
+        assertEquals(5, result.getEdges().size());
+        assertEquals(2, result.getEdges().getHop(4));
+        assertEquals(4, result.getVisited().size());
+        assertFalse(result.getVisited().contains(5));
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    public void testStopsWhenFrontierIsEmpty() throws Exception {
+        KHopTraversal traversal = KHopTraversal.builder("unwind ? as id return id").hops(10).chunkSize(1).build();
+        KHopTraversal.Result result = traversal.traverse(Collections.singletonList(1L), this::expand);
+
+        assertEquals(4, result.getHops());
+        assertEquals(5, result.getVisited().size());
+        // chunks of one id: {1}, {2}, {3}, {4}, {5}
+        assertEquals(5, executed.size());
+    }
+
+    @Test
+    public void testFrontierCap() throws Exception {
+        KHopTraversal traversal = KHopTraversal.builder("unwind ? as id return id")
+                                               .hops(1)
+                                               .maxFrontierSize(1)
+                                               .build();
+        KHopTraversal.Result result = traversal.traverse(Collections.singletonList(1L), this::expand);
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    public void testLongHashSet() {
+        LongHashSet set = new LongHashSet(2);
+        for (long i = -1000; i < 1000; i++) {
+            assertTrue(set.add(i * 31));
+        }
+        assertFalse(set.add(0));
+        assertFalse(set.add(31));
+        assertEquals(2000, set.size());
+        assertTrue(set.contains(-31000));
+        assertFalse(set.contains(1));
+        assertEquals(2000, set.toArray().length);
+    }
+}
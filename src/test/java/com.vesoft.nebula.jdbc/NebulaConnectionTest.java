@@ -5,9 +5,15 @@
 
 package com.vesoft.nebula.jdbc;
 
+import com.vesoft.nebula.jdbc.statement.NebulaPipeline;
 import com.vesoft.nebula.jdbc.statement.NebulaStatementImpl;
 import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class NebulaConnectionTest {
     @Test
@@ -73,4 +79,60 @@ public class NebulaConnectionTest {
             assert false;
         }
     }
+
+    @Test
+    public void testConcurrentStatementsOnSharedConnection() {
+        Properties props = new Properties();
+        props.setProperty("user", "root");
+        props.setProperty("password", "Nebula123");
+        props.setProperty("maxClientSize", "4");
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            NebulaConnection connection = new NebulaConnection("jdbc:nebula://192.168.8.6:3820/movie", props);
+            assert (connection.getSessionCount() == 4);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final int value = i;
+                futures.add(executor.submit(() -> {
+                    java.sql.ResultSet res = connection.createStatement().executeQuery("return " + value + " as c");
+                    res.next();
+                    return res.getInt("c");
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assert (futures.get(i).get() == i);
+            }
+            connection.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+            assert false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPipeline() {
+        Properties props = new Properties();
+        props.setProperty("user", "root");
+        props.setProperty("password", "Nebula123");
+        props.setProperty("maxClientSize", "4");
+        try {
+            NebulaConnection connection = new NebulaConnection("jdbc:nebula://192.168.8.6:3820/movie", props);
+            NebulaPipeline   pipeline   = connection.pipeline();
+            for (int i = 0; i < 16; i++) {
+                pipeline.add("return " + i + " as c");
+            }
+            List<java.sql.ResultSet> results = pipeline.sync();
+            assert (results.size() == 16);
+            for (int i = 0; i < results.size(); i++) {
+                assert (results.get(i).next());
+                assert (results.get(i).getInt("c") == i);
+            }
+            connection.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+            assert false;
+        }
+    }
 }
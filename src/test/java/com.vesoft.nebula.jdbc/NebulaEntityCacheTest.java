@@ -0,0 +1,141 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.Node;
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class NebulaEntityCacheTest {
+    private static final Pattern IN_LIST = Pattern.compile("IN \\[(.*)]");
+
+    private final WriteGenerations  generations = new WriteGenerations();
+    private final NebulaEntityCache cache       = new NebulaEntityCache(100, 60_000, generations);
+    private final Map<Long, Node>   stored      = new HashMap<>();
+    private final List<String>      gqls        = new ArrayList<>();
+    private       Runnable          duringLoad  = () -> { };
+
+    private NebulaConnection connection() throws Exception {
+        for (long id = 1; id <= 3; id++) {
+            stored.put(id, mock(Node.class));
+        }
+        NebulaConnection connection = mock(NebulaConnection.class);
+        when(connection.graphOf("")).thenReturn("movie");
+        when(connection.execute(anyString())).thenAnswer(invocation -> {
+            String gql = invocation.getArgument(0);
+            gqls.add(gql);
+            duringLoad.run();
+            List<List<ValueWrapper>> rows    = new ArrayList<>();
+            Matcher                  matcher = IN_LIST.matcher(gql);
+            matcher.find();
+            for (String id : matcher.group(1).split(", ")) {
+                Node node = stored.get(Long.parseLong(id));
+                if (node != null) {
+                    rows.add(Arrays.asList(key(Long.parseLong(id)), entity(node)));
+                }
+            }
+            return result(rows);
+        });
+        return connection;
+    }
+
+    private static ValueWrapper key(long id) {
+        ValueWrapper value = mock(ValueWrapper.class);
+        when(value.isLong()).thenReturn(true);
+        when(value.asLong()).thenReturn(id);
+        return value;
+    }
+
+    private static ValueWrapper entity(Node node) {
+        ValueWrapper value = mock(ValueWrapper.class);
+        when(value.isNode()).thenReturn(true);
+        when(value.asNode()).thenReturn(node);
+        return value;
+    }
+
+    private static ResultSet result(List<List<ValueWrapper>> rows) {
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        when(result.getColumnNames()).thenReturn(Arrays.asList("k", "e"));
+        Iterator<List<ValueWrapper>> iterator = rows.iterator();
+        when(result.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(result.next()).thenAnswer(invocation -> {
+            ResultSet.Record record = mock(ResultSet.Record.class);
+            List<ValueWrapper> values = iterator.next();
+            when(record.values()).thenReturn(values);
+            return record;
+        });
+        return result;
+    }
+
+    @Test
+    public void testMissesFetchedByOneQuery() throws Exception {
+        Map<Object, Node> nodes = cache.getNodes(connection(), "User", "id", Arrays.asList(3L, 1L, 2L, 9L));
+        assertEquals(Arrays.asList(3L, 1L, 2L), new ArrayList<>(nodes.keySet()));
+        assertSame(stored.get(1L), nodes.get(1L));
+        assertEquals(Arrays.asList("MATCH (v:`User`) WHERE v.`id` IN [3, 1, 2, 9] RETURN v.`id` AS k, v AS e"),
+                     gqls);
+        assertEquals(4, cache.missCount());
+    }
+
+    @Test
+    public void testHits() throws Exception {
+        NebulaConnection connection = connection();
+        cache.getNodes(connection, "User", "id", Arrays.asList(1L, 2L));
+        Map<Object, Node> nodes = cache.getNodes(connection, "User", "id", Arrays.asList(2L, 1L, 3L));
+        assertEquals(3, nodes.size());
+        assertEquals(2, gqls.size());
+        assertTrue(gqls.get(1).contains("IN [3]"));
+        assertEquals(2, cache.hitCount());
+    }
+
+    @Test
+    public void testWriteInvalidatesLabel() throws Exception {
+        NebulaConnection connection = connection();
+        cache.getNodes(connection, "User", "id", Arrays.asList(1L));
+        cache.getNodes(connection, "Movie", "id", Arrays.asList(1L));
+        generations.invalidate("movie", new HashSet<>(Arrays.asList("User")));
+
+        cache.getNodes(connection, "Movie", "id", Arrays.asList(1L));
+        assertEquals(2, gqls.size());
+        assertEquals(1, cache.hitCount());
+
+        cache.getNodes(connection, "User", "id", Arrays.asList(1L));
+        assertEquals(3, gqls.size());
+        assertEquals(1, cache.hitCount());
+        assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    public void testWriteDuringLoadIsNotCached() throws Exception {
+        NebulaConnection connection = connection();
+        duringLoad = () -> generations.invalidate("movie", new HashSet<>(Arrays.asList("User")));
+        assertEquals(1, cache.getNodes(connection, "User", "id", Arrays.asList(1L)).size());
+        assertEquals(0, cache.size());
+        duringLoad = () -> { };
+        cache.getNodes(connection, "User", "id", Arrays.asList(1L));
+        cache.getNodes(connection, "User", "id", Arrays.asList(1L));
+        assertEquals(2, gqls.size());
+    }
+}
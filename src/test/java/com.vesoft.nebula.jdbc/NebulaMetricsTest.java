@@ -0,0 +1,164 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.vesoft.nebula.driver.graph.decode.ColumnType;
+import com.vesoft.nebula.jdbc.NebulaDataSource;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.transport.FakeGraphd;
+import org.junit.Test;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+public class NebulaMetricsTest {
+    @Test
+    public void testHistogramBuckets() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 100, 1000, 123456789, Long.MAX_VALUE}) {
+            int bucket = StripedHistogram.bucketOf(value);
+            assertTrue(value <= StripedHistogram.upperBoundOf(bucket));
+            assertTrue(bucket == 0 || value > StripedHistogram.upperBoundOf(bucket - 1));
+        }
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        StripedHistogram histogram = new StripedHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000, histogram.getMax());
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 >= 500000 && p50 <= 500000 * 1.125);
+        assertEquals(1000000, histogram.getPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void testDataSourceMetrics() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder()
+                                      .result("(?i)^match.*", FakeGraphd.rows(100, ColumnType.COLUMN_TYPE_INT64,
+                                                                               ColumnType.COLUMN_TYPE_STRING))
+                                      .build();
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), 2);
+        properties.put(NebulaPropertyKey.METRICSNAME.getKeyName(), "metrics-test");
+        properties.put(NebulaPropertyKey.ESTIMATERESULTBYTES.getKeyName(), true);
+        ObjectName  name   = new ObjectName("com.vesoft.nebula.jdbc:type=DataSource,name=\"metrics-test\"");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        long        driverExecutes;
+        try (NebulaDataSource dataSource = new NebulaDataSource("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            NebulaMetrics metrics = dataSource.getMetrics();
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                assertEquals(2, metrics.getOpenSessions());
+                assertEquals(2, metrics.getIdleSessions());
+                long sessionSetup = metrics.getExecuteCount();
+                try (ResultSet resultSet = statement.executeQuery("MATCH (v) RETURN v.id, v.name")) {
+                    while (resultSet.next()) {
+                        assertEquals(0, metrics.getActiveSessions());
+                    }
+                }
+                try (ResultSet resultSet = statement.executeQuery("MATCH (v) RETURN v.id, v.name")) {
+                    resultSet.next();
+                }
+                assertEquals(sessionSetup + 2, metrics.getExecuteCount());
+                assertEquals(101, metrics.getRowsDecoded());
+                assertTrue(metrics.getBytesDecoded() > 0);
+                assertEquals(2, metrics.getFirstRowLatency().getCount());
+                assertEquals(1, metrics.getDrainLatency().getCount());
+                assertEquals(metrics.getExecuteCount(), metrics.getBorrowWait().getCount());
+            }
+            assertEquals(0, metrics.getOpenSessions());
+
+            assertTrue(server.isRegistered(name));
+            assertEquals(101L, server.getAttribute(name, "RowsDecoded"));
+            CompositeData latency = (CompositeData) server.getAttribute(name, "ExecuteLatency");
+            assertEquals(metrics.getExecuteCount(), latency.get("count"));
+            driverExecutes = NebulaMetrics.driver().getExecuteCount();
+            assertTrue(driverExecutes >= metrics.getExecuteCount());
+            server.invoke(name, "resetStatistics", null, null);
+            assertEquals(0, metrics.getRowsDecoded());
+            assertEquals(driverExecutes, NebulaMetrics.driver().getExecuteCount());
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testBytesEstimatedOffTheRowPath() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder()
+                                      .result("(?i)^match.*", FakeGraphd.rows(10, ColumnType.COLUMN_TYPE_STRING))
+                                      .build();
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.METRICSNAME.getKeyName(), "bytes-test");
+        try (NebulaDataSource dataSource = new NebulaDataSource("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            NebulaMetrics metrics = dataSource.getMetrics();
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("MATCH (v) RETURN v.name")) {
+                while (resultSet.next()) {
+                    resultSet.getString(1);
+                }
+            }
+            assertEquals(10, metrics.getRowsDecoded());
+            assertEquals(0, metrics.getBytesDecoded());
+        }
+
+        properties.put(NebulaPropertyKey.COALESCEREADS.getKeyName(), true);
+        try (NebulaDataSource dataSource = new NebulaDataSource("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            NebulaMetrics metrics = dataSource.getMetrics();
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                try (ResultSet resultSet = statement.executeQuery("MATCH (v) RETURN v.name")) {
+                    while (resultSet.next()) {
+                        resultSet.getString(1);
+                    }
+                }
+                long drained = metrics.getBytesDecoded();
+                assertTrue(drained > 0);
+                try (ResultSet resultSet = statement.executeQuery("MATCH (v) RETURN v.name")) {
+                    resultSet.next();
+                }
+                assertEquals(drained / 10, metrics.getBytesDecoded() - drained);
+            }
+        }
+    }
+
+    @Test
+    public void testErrorsByCode() throws Exception {
+        FakeGraphd       graphd     = FakeGraphd.builder().errorRate(1).build();
+        Properties       properties = new Properties();
+        NebulaDataSource dataSource = new NebulaDataSource("jdbc:nebula://127.0.0.1:9669/g", properties, graphd);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("MATCH (v) RETURN v");
+            fail("injected error should fail the query");
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("E_EXECUTION_ERROR"));
+            NebulaMetrics metrics = dataSource.getMetrics();
+            assertEquals(1, metrics.getErrorCount());
+            assertEquals(Long.valueOf(1), metrics.getErrorsByCode().get("E_EXECUTION_ERROR"));
+        } finally {
+            dataSource.close();
+        }
+    }
+}
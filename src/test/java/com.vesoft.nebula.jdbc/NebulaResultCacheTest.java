@@ -0,0 +1,87 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class NebulaResultCacheTest {
+    @Test
+    public void testSegmentedLruKeepsFrequentEntries() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(5, 1000, 0);
+        cache.put("hot", "hot", 1);
+        cache.get("hot");
+        for (int i = 0; i < 10; i++) {
+            cache.put("cold" + i, "cold", 1);
+        }
+        assertEquals(5, cache.size());
+        assertEquals("hot", cache.get("hot"));
+        assertNull(cache.get("cold0"));
+    }
+
+    @Test
+    public void testSegmentedLruBoundedByWeight() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(100, 10, 0);
+        cache.put("a", "a", 4);
+        cache.put("b", "b", 4);
+        cache.put("c", "c", 4);
+        assertEquals(8, cache.weightedSize());
+        assertNull(cache.get("a"));
+        cache.put("huge", "huge", 11);
+        assertNull(cache.get("huge"));
+    }
+
+    @Test
+    public void testSegmentedLruExpires() throws Exception {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(10, 10, 1_000_000);
+        cache.put("a", "a", 1);
+        Thread.sleep(5);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidateByLabel() {
+        WriteGenerations  generations = new WriteGenerations();
+        NebulaResultCache cache       = new NebulaResultCache(10, 1 << 20, 60_000, generations);
+        NebulaResultTable table       = new NebulaResultTable(Collections.singletonList("c"), new ArrayList<>(), 0);
+
+        cache.put("user", table, cache.stamp("movie", new HashSet<>(Arrays.asList("User"))));
+        cache.put("any", table, cache.stamp("movie", null));
+        cache.put("other graph", table, cache.stamp("music", new HashSet<>(Arrays.asList("User"))));
+        assertSame(table, cache.get("user"));
+
+        generations.invalidate("movie", new HashSet<>(Arrays.asList("Movie")));
+        assertSame(table, cache.get("user"));
+        assertNull(cache.get("any"));
+
+        generations.invalidate("movie", null);
+        assertNull(cache.get("user"));
+        assertSame(table, cache.get("other graph"));
+        assertEquals(3, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testWriteDuringLoadIsNotCached() {
+        WriteGenerations       generations = new WriteGenerations();
+        NebulaResultCache      cache       = new NebulaResultCache(10, 1 << 20, 60_000, generations);
+        NebulaResultTable      table       = new NebulaResultTable(Collections.singletonList("c"), new ArrayList<>(), 0);
+        WriteGenerations.Stamp stamp       = cache.stamp("movie", new HashSet<>(Arrays.asList("User")));
+        generations.invalidate("movie", new HashSet<>(Arrays.asList("User")));
+        cache.put("user", table, stamp);
+        assertNull(cache.get("user"));
+    }
+}
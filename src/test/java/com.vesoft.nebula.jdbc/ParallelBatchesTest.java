@@ -0,0 +1,59 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Test;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ParallelBatchesTest {
+    private static final Retry RETRY = new Retry(0, 1, 1);
+
+    private static CompletableFuture<ResultSet> succeed(String gql) {
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    @Test
+    public void testRuntimeExceptionFailsTheBatch() throws Exception {
+        ParallelBatches batches = new ParallelBatches("test", 2, 2, RETRY, ParallelBatchesTest::succeed);
+        IllegalStateException callbackError = new IllegalStateException("progress failed");
+        batches.submit("insert 1", 1, null);
+        batches.submit("insert 2", 1, sequence -> {
+            throw callbackError;
+        });
+        try {
+            batches.await();
+            fail("the failed callback should fail the batches");
+        } catch (SQLException e) {
+            assertSame(callbackError, e.getCause());
+            assertTrue(batches.failed());
+        }
+    }
+
+    @Test
+    public void testRuntimeExceptionReachesFailureCallback() throws Exception {
+        ParallelBatches batches = new ParallelBatches("test", 1, 1, RETRY, gql -> {
+            throw new IllegalStateException("cancelled");
+        });
+        List<SQLException> failures = new CopyOnWriteArrayList<>();
+        batches.submit("insert 1", 1, null, failures::add);
+        assertEquals(0, batches.await());
+        assertEquals(1, failures.size());
+        assertEquals("cancelled", failures.get(0).getCause().getMessage());
+    }
+}
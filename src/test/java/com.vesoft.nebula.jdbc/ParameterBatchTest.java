@@ -0,0 +1,72 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ParameterBatchTest {
+
+    private static Map<Object, Object> parameters(Object id, Object count) {
+        Map<Object, Object> parameters = new HashMap<>();
+        parameters.put(1, id);
+        parameters.put(2, count);
+        return parameters;
+    }
+
+    @Test
+    public void testWithoutCoalescing() throws Exception {
+        ParameterBatch batch = new ParameterBatch();
+        batch.add(parameters(1, 10));
+        batch.add(parameters(1, 20));
+        assertEquals(2, batch.writes().size());
+    }
+
+    @Test
+    public void testLastWriteWins() throws Exception {
+        ParameterBatch batch = new ParameterBatch();
+        batch.setCoalescing(new int[]{1}, BatchMerger.LAST_WRITE_WINS);
+        batch.add(parameters(1, 10));
+        batch.add(parameters(2, 5));
+        batch.add(parameters(1, 20));
+
+        List<ParameterBatch.Write> writes = batch.writes();
+        assertEquals(3, batch.size());
+        assertEquals(2, writes.size());
+        assertEquals(2, writes.get(0).parameters.get(1));
+        assertEquals(20, writes.get(1).parameters.get(2));
+        assertEquals(Arrays.asList(0, 2), writes.get(1).commands);
+        assertEquals(2, writes.get(1).lastCommand());
+    }
+
+    @Test
+    public void testMergeFunction() throws Exception {
+        ParameterBatch batch = new ParameterBatch();
+        batch.setCoalescing(new int[]{1}, (previous, next) -> {
+            Map<Object, Object> merged = new HashMap<>(next);
+            merged.put(2, (Integer) previous.get(2) + (Integer) next.get(2));
+            return merged;
+        });
+        batch.add(parameters(1, 10));
+        batch.add(parameters(1, 20));
+        batch.add(parameters(1, 30));
+        assertEquals(1, batch.writes().size());
+        assertEquals(60, batch.writes().get(0).parameters.get(2));
+    }
+
+    @Test(expected = SQLException.class)
+    public void testMissingKeyParameter() throws Exception {
+        ParameterBatch batch = new ParameterBatch();
+        batch.setCoalescing(new int[]{3}, BatchMerger.LAST_WRITE_WINS);
+        batch.add(parameters(1, 10));
+    }
+}
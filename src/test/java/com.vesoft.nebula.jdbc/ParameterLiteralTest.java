@@ -0,0 +1,70 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.statement;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+public class ParameterLiteralTest {
+    @Test
+    public void testTimeLiterals() throws Exception {
+        assertEquals("local_datetime(\"2024-01-02T03:04:05.123456\")",
+                     NebulaPreparedStatementImpl.literal(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123456000)));
+        assertEquals("local_time(\"03:04:05.000000\")", NebulaPreparedStatementImpl.literal(LocalTime.of(3, 4, 5)));
+        assertEquals("zoned_time(\"03:04:05.000000+08:00\")",
+                     NebulaPreparedStatementImpl.literal(OffsetTime.of(3, 4, 5, 0, ZoneOffset.ofHours(8))));
+        assertEquals("zoned_datetime(\"2024-01-02T03:04:05.000000-05:30\")",
+                     NebulaPreparedStatementImpl.literal(OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0,
+                                                                           ZoneOffset.ofHoursMinutes(-5, -30))));
+        assertEquals("duration(\"PT1M\")", NebulaPreparedStatementImpl.literal(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    public void testLegacyDateLiterals() throws Exception {
+        LocalDateTime datetime = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 678000000);
+        long          millis   = datetime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals("local_datetime(\"2024-01-02T03:04:05.678000\")",
+                     NebulaPreparedStatementImpl.literal(new java.util.Date(millis)));
+        assertEquals("local_time(\"03:04:05.678000\")", NebulaPreparedStatementImpl.literal(new Time(millis)));
+    }
+
+    @Test
+    public void testListLiterals() throws Exception {
+        assertEquals("[1, \"a\", null]", NebulaPreparedStatementImpl.literal(Arrays.asList(1, "a", null)));
+    }
+
+    @Test
+    public void testStringLiteralsAreEscaped() throws Exception {
+        assertEquals("\"say \\\"hi\\\"\\\\\\n\"", NebulaPreparedStatementImpl.literal("say \"hi\"\\\n"));
+        assertEquals("\"\\\"\"", NebulaPreparedStatementImpl.literal('"'));
+    }
+
+    @Test
+    public void testRenderedValuesAreNotScanned() throws Exception {
+        assertEquals("MATCH (v) WHERE v.a == \"?\\\"?\" AND v.b == 2 AND v.c == \"?\" RETURN v",
+                     NebulaPreparedStatementImpl.render(
+                             "MATCH (v) WHERE v.a == ? AND v.b == ? AND v.c == \"?\" RETURN v", "?\"?", 2));
+        assertEquals("RETURN '?', `?`, 1", NebulaPreparedStatementImpl.render("RETURN '?', `?`, ?", 1));
+    }
+
+    @Test
+    public void testPlaceholdersInCommentsAreSkipped() throws Exception {
+        String gql = "MATCH (v) /* v.id == ? */ WHERE v.id == ? // or ?\nRETURN v, \"?\"";
+        assertEquals(1, NebulaPreparedStatementImpl.placeholderCount(gql));
+        assertEquals("MATCH (v) /* v.id == ? */ WHERE v.id == 1 // or ?\nRETURN v, \"?\"",
+                     NebulaPreparedStatementImpl.render(gql, 1));
+    }
+}
@@ -0,0 +1,37 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import java.util.Arrays;
+
+public class PartitionedScanTest {
+    @Test
+    public void testModuloPartitions() throws Exception {
+        PartitionedScan scan = PartitionedScan.builder("match (v:Movie) where {partition} return v")
+                                              .partitionColumn("v.id")
+                                              .numPartitions(3)
+                                              .build();
+        assertEquals(Arrays.asList("match (v:Movie) where (abs(v.id % 3) = 0) return v",
+                                   "match (v:Movie) where (abs(v.id % 3) = 1) return v",
+                                   "match (v:Movie) where (abs(v.id % 3) = 2) return v"),
+                     scan.partitionGqls());
+    }
+
+    @Test
+    public void testSplitPointPartitions() throws Exception {
+        PartitionedScan scan = PartitionedScan.builder("match (v:Movie) where {partition} return v")
+                                              .partitionColumn("v.name")
+                                              .splitPoints(Arrays.asList("h", "p"))
+                                              .build();
+        assertEquals(Arrays.asList("match (v:Movie) where (v.name < \"h\") return v",
+                                   "match (v:Movie) where (v.name >= \"h\" AND v.name < \"p\") return v",
+                                   "match (v:Movie) where (v.name >= \"p\") return v"),
+                     scan.partitionGqls());
+    }
+}
@@ -0,0 +1,131 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Test;
+import java.math.BigDecimal;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResultSetCopyTest {
+    private static final String TEMPLATE = "unwind ? as r insert or replace (v:User{id:r.id, name:r.name})";
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<ResultSet> succeed(String gql) {
+        sent.add(gql);
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    /**
+     * source of n rows with the columns user_id and name
+     */
+    private static java.sql.ResultSet source(int n) throws SQLException {
+        java.sql.ResultSet source = mock(java.sql.ResultSet.class);
+        AtomicInteger      row    = new AtomicInteger();
+        when(source.next()).thenAnswer(invocation -> row.incrementAndGet() <= n);
+        when(source.findColumn("user_id")).thenReturn(1);
+        when(source.findColumn("name")).thenReturn(2);
+        when(source.getObject(anyInt())).thenAnswer(invocation -> {
+            int column = invocation.getArgument(0);
+            return column == 1 ? (Object) (long) row.get() : "user \"" + row.get() + "\"";
+        });
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("user_id");
+        when(metaData.getColumnLabel(2)).thenReturn("first name");
+        when(source.getMetaData()).thenReturn(metaData);
+        return source;
+    }
+
+    @Test
+    public void testMappedColumns() throws Exception {
+        long rows = ResultSetCopy.builder(TEMPLATE)
+                                 .column("user_id", "id")
+                                 .column("name", "name")
+                                 .batchSize(2)
+                                 .parallelism(1)
+                                 .build(this::succeed)
+                                 .copyFrom(source(3));
+        assertEquals(3, rows);
+        assertEquals(2, sent.size());
+        assertEquals("unwind [{id:1,name:\"user \\\"1\\\"\"},{id:2,name:\"user \\\"2\\\"\"}] as r "
+                     + "insert or replace (v:User{id:r.id, name:r.name})", sent.get(0));
+    }
+
+    @Test
+    public void testColumnsFromMetaData() throws Exception {
+        ResultSetCopy.builder(TEMPLATE).build(this::succeed).copyFrom(source(1));
+        assertTrue(sent.get(0).startsWith("unwind [{user_id:1,`first name`:\"user \\\"1\\\"\"}]"));
+    }
+
+    @Test
+    public void testParallelBatches() throws Exception {
+        long rows = ResultSetCopy.builder(TEMPLATE)
+                                 .column("user_id", "id")
+                                 .batchSize(10)
+                                 .parallelism(4)
+                                 .queueSize(2)
+                                 .build(this::succeed)
+                                 .copyFrom(source(1000));
+        assertEquals(1000, rows);
+        assertEquals(100, sent.size());
+    }
+
+    @Test
+    public void testFailedBatch() throws Exception {
+        try {
+            ResultSetCopy.builder(TEMPLATE)
+                         .column("user_id", "id")
+                         .batchSize(1)
+                         .retry(1, 1, 1)
+                         .build(gql -> {
+                             CompletableFuture<ResultSet> failed = new CompletableFuture<>();
+                             failed.completeExceptionally(new SQLException("unavailable"));
+                             return failed;
+                         })
+                         .copyFrom(source(100));
+            fail();
+        } catch (SQLException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testValues() throws Exception {
+        List<String> literals = new ArrayList<>();
+        for (Object value : new Object[]{null, new BigDecimal("1E+3"), 'c',
+                                         Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 3, 4, 5)),
+                                         Collections.singletonList(1)}) {
+            StringBuilder literal = new StringBuilder();
+            ResultSetCopy.appendValue(literal, value);
+            literals.add(literal.toString());
+        }
+        assertEquals("null", literals.get(0));
+        assertEquals("1000", literals.get(1));
+        assertEquals("\"c\"", literals.get(2));
+        assertEquals("local_datetime(\"2024-01-02T03:04:05\")", literals.get(3));
+        assertEquals("[1]", literals.get(4));
+    }
+}
@@ -0,0 +1,120 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.metrics.NebulaMetrics;
+import org.junit.Test;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryTest {
+    private final Retry         retry    = new Retry(3, 1, 1);
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private static ResultSet result(boolean succeeded, String code) {
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(succeeded);
+        ResultSet.ErrorCode errorCode = new ResultSet.ErrorCode();
+        errorCode.code = code;
+        when(result.getErrorCode()).thenReturn(errorCode);
+        return result;
+    }
+
+    private static CompletableFuture<ResultSet> failed(Throwable failure) {
+        CompletableFuture<ResultSet> future = new CompletableFuture<>();
+        future.completeExceptionally(failure);
+        return future;
+    }
+
+    @Test
+    public void testTransientFailuresRetried() throws Exception {
+        ResultSet ok = result(true, "00000");
+        ResultSet result = retry.execute(gql -> {
+            switch (attempts.getAndIncrement()) {
+                case 0:
+                    return failed(new SQLException(new IOException("broken pipe")));
+                case 1:
+                    return failed(new SQLTimeoutException("timed out"));
+                case 2:
+                    return CompletableFuture.completedFuture(result(false, "08006"));
+                default:
+                    return CompletableFuture.completedFuture(ok);
+            }
+        }, "insert");
+        assertSame(ok, result);
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    public void testErrorCodeFailsFast() throws Exception {
+        try {
+            retry.execute(gql -> {
+                attempts.incrementAndGet();
+                return CompletableFuture.completedFuture(result(false, "42001"));
+            }, "insert");
+            fail();
+        } catch (SQLException e) {
+            assertEquals(1, attempts.get());
+        }
+    }
+
+    @Test
+    public void testSQLExceptionFailsFast() throws Exception {
+        try {
+            retry.execute(gql -> {
+                attempts.incrementAndGet();
+                return failed(new SQLException("constraint violated"));
+            }, "insert");
+            fail();
+        } catch (SQLException e) {
+            assertEquals("constraint violated", e.getMessage());
+            assertEquals(1, attempts.get());
+        }
+    }
+
+    @Test
+    public void testRetriesExhausted() throws Exception {
+        try {
+            retry.execute(gql -> {
+                attempts.incrementAndGet();
+                return CompletableFuture.completedFuture(result(false, "40001"));
+            }, "insert");
+            fail();
+        } catch (SQLException e) {
+            assertEquals(4, attempts.get());
+        }
+    }
+
+    @Test
+    public void testRetriesRecordedOnExecutorMetrics() throws Exception {
+        NebulaMetrics metrics = new NebulaMetrics(null);
+        ResultSet     ok      = result(true, "00000");
+        retry.execute(new AsyncExecutor() {
+            @Override
+            public CompletableFuture<ResultSet> executeAsync(String gql) {
+                return attempts.getAndIncrement() == 0
+                       ? failed(new SQLException(new IOException("broken pipe")))
+                       : CompletableFuture.completedFuture(ok);
+            }
+
+            @Override
+            public NebulaMetrics getMetrics() {
+                return metrics;
+            }
+        }, "insert");
+        assertEquals(1, metrics.getRetryCount());
+    }
+}
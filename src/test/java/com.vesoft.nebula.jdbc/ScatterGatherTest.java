@@ -0,0 +1,97 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.parallel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ValueWrapper;
+import com.vesoft.nebula.jdbc.NebulaConnection;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.transport.FakeGraphd;
+import com.vesoft.nebula.jdbc.values.ListRecordCursor;
+import com.vesoft.nebula.jdbc.values.NebulaRecord;
+import com.vesoft.nebula.jdbc.values.NebulaRecordCursor;
+import org.junit.Test;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+public class ScatterGatherTest {
+    private static final List<String> COLUMNS = Collections.singletonList("c");
+
+    private static NebulaRecordCursor cursor(long... values) {
+        List<NebulaRecord> records = new ArrayList<>();
+        for (long value : values) {
+            ValueWrapper wrapper = mock(ValueWrapper.class);
+            when(wrapper.getValue()).thenReturn(value);
+            records.add(new NebulaRecord(COLUMNS, Collections.singletonList(wrapper)));
+        }
+        return new ListRecordCursor(COLUMNS, records);
+    }
+
+    private static List<Object> drain(NebulaRecordCursor cursor) throws Exception {
+        List<Object> values = new ArrayList<>();
+        while (cursor.hasNext()) {
+            values.add(cursor.next().get(0).getValue());
+        }
+        return values;
+    }
+
+    @Test
+    public void testConcat() throws Exception {
+        NebulaRecordCursor merged = ScatterGather.merge(Arrays.asList(cursor(3, 1), cursor(), cursor(2)),
+                                                        GatherMode.concat());
+        assertEquals(Arrays.asList(3L, 1L, 2L), drain(merged));
+    }
+
+    @Test
+    public void testOrderedMerge() throws Exception {
+        NebulaRecordCursor merged = ScatterGather.merge(Arrays.asList(cursor(1, 4, 7), cursor(2, 5), cursor(3, 6, 8)),
+                                                        GatherMode.ordered("c", true));
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), drain(merged));
+
+        merged = ScatterGather.merge(Arrays.asList(cursor(9, 5), cursor(8, 1)), GatherMode.ordered("c", false));
+        assertEquals(Arrays.asList(9L, 8L, 5L, 1L), drain(merged));
+    }
+
+    @Test
+    public void testTopK() throws Exception {
+        NebulaRecordCursor merged = ScatterGather.merge(Arrays.asList(cursor(5, 1, 9), cursor(7, 3), cursor(8)),
+                                                        GatherMode.topK("c", false, 3));
+        assertEquals(Arrays.asList(9L, 8L, 7L), drain(merged));
+
+        merged = ScatterGather.merge(Arrays.asList(cursor(5, 1), cursor(2)), GatherMode.topK("c", true, 0));
+        assertFalse(merged.hasNext());
+    }
+
+    @Test
+    public void testDeadlineSkipsQueuedRequests() throws Exception {
+        FakeGraphd graphd     = FakeGraphd.builder().latency(100, TimeUnit.MILLISECONDS).build();
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), 1);
+        try (NebulaConnection connection = new NebulaConnection("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            try {
+                new ScatterGather(connection).execute(Collections.nCopies(5, "RETURN 1"), GatherMode.concat(),
+                                                      50, TimeUnit.MILLISECONDS);
+                fail("scatter should time out");
+            } catch (SQLTimeoutException e) {
+                // expected
+            }
+            Thread.sleep(500);
+            assertTrue(graphd.getRequests() <= 2);
+        }
+    }
+}
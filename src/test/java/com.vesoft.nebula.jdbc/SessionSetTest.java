@@ -0,0 +1,84 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.transport.GraphSession;
+import com.vesoft.nebula.jdbc.transport.GraphTransport;
+import org.junit.Test;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class SessionSetTest {
+    /**
+     * remembers the gqls sent by every session
+     */
+    private static class RecordingTransport implements GraphTransport {
+        private final List<List<String>> sessions = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public GraphSession openSession(Properties properties) throws Exception {
+            List<String> gqls = Collections.synchronizedList(new ArrayList<>());
+            sessions.add(gqls);
+            ResultSet result = mock(ResultSet.class);
+            when(result.isSucceeded()).thenReturn(true);
+            when(result.getColumnNames()).thenReturn(Collections.emptyList());
+            when(result.getExtraInfo()).thenReturn(mock(ResultSet.ExtraInfo.class));
+            GraphSession session = mock(GraphSession.class);
+            when(session.execute(anyString())).thenAnswer(invocation -> {
+                gqls.add(invocation.getArgument(0));
+                return result;
+            });
+            return session;
+        }
+    }
+
+    private static int reads(RecordingTransport transport) {
+        int reads = 0;
+        for (List<String> gqls : transport.sessions) {
+            reads += Collections.frequency(gqls, "MATCH (v) RETURN v");
+        }
+        return reads;
+    }
+
+    @Test
+    public void testSessionSetReachesAllSessions() throws Exception {
+        RecordingTransport transport  = new RecordingTransport();
+        Properties         properties = new Properties();
+        properties.put(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), 3);
+        properties.put(NebulaPropertyKey.RESULTCACHEMAXENTRIES.getKeyName(), 10);
+        try (NebulaConnection connection = new NebulaConnection("jdbc:nebula://127.0.0.1:9669/movie", properties,
+                                                                transport);
+             Statement statement = connection.createStatement()) {
+            assertEquals("movie", connection.graphOf("MATCH (v) RETURN v"));
+            statement.executeQuery("MATCH (v) RETURN v");
+            statement.executeQuery("MATCH (v) RETURN v");
+            assertEquals(1, reads(transport));
+            statement.execute("SESSION SET GRAPH `social`");
+            for (List<String> gqls : transport.sessions) {
+                assertEquals("SESSION SET GRAPH `social`", gqls.get(gqls.size() - 1));
+            }
+            assertEquals("social", connection.graphOf("MATCH (v) RETURN v"));
+            // the read cached for movie must not answer for social
+            statement.executeQuery("MATCH (v) RETURN v");
+            assertEquals(2, reads(transport));
+
+            connection.setAutoCommit(false);
+            statement.execute("session set time zone \"+08:00\"");
+            for (List<String> gqls : transport.sessions) {
+                assertEquals("session set time zone \"+08:00\"", gqls.get(gqls.size() - 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.vesoft.nebula.jdbc.transport.FakeGraphd;
+import com.vesoft.nebula.jdbc.values.NebulaResultTable;
+import org.junit.Test;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+    @Test
+    public void testConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight      flight  = new SingleFlight();
+        AtomicInteger     loads   = new AtomicInteger();
+        CountDownLatch    release = new CountDownLatch(1);
+        NebulaResultTable table   = new NebulaResultTable(Collections.singletonList("c"), new ArrayList<>(), 0);
+        ExecutorService   pool    = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<NebulaResultTable>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> flight.execute("match (v) return v", () -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new SQLException(e);
+                    }
+                    return table;
+                })));
+            }
+            while (flight.inFlightCount() == 0) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<NebulaResultTable> future : futures) {
+                assertSame(table, future.get());
+            }
+            assertEquals(1, loads.get());
+            assertEquals(0, flight.inFlightCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadReportsWhetherItWasShared() throws Exception {
+        FakeGraphd graphd     = FakeGraphd.builder().latency(200, TimeUnit.MILLISECONDS).build();
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.MAXCLIENTSIZE.getKeyName(), 2);
+        properties.put(NebulaPropertyKey.COALESCEREADS.getKeyName(), true);
+        properties.put(NebulaPropertyKey.RESULTCACHEMAXENTRIES.getKeyName(), 10);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try (NebulaConnection connection = new NebulaConnection("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            List<Future<NebulaConnection.Read>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(pool.submit(() -> connection.executeRead(connection.nextSessionSlot(),
+                                                                     "MATCH (v) RETURN v")));
+            }
+            // one caller sent the request, the other one waited for it
+            assertTrue(futures.get(0).get().isShared() != futures.get(1).get().isShared());
+            assertEquals(1, graphd.getRequests());
+            assertTrue(connection.executeRead(connection.nextSessionSlot(), "MATCH (v) RETURN v").isShared());
+            assertFalse(connection.executeRead(connection.nextSessionSlot(), "MATCH (v) RETURN v.id").isShared());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.vesoft.nebula.driver.graph.decode.ColumnType;
+import com.vesoft.nebula.jdbc.NebulaDataSource;
+import com.vesoft.nebula.jdbc.NebulaPropertyKey;
+import com.vesoft.nebula.jdbc.transport.FakeGraphd;
+import org.junit.Test;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+public class StatementStatisticsTest {
+    @Test
+    public void testCallsAndErrors() {
+        StatementStatistics statistics = new StatementStatistics(10, 0);
+        statistics.record("RETURN ?", 2_000_000, false);
+        statistics.record("RETURN ?", 4_000_000, true);
+        statistics.recordRead("RETURN ?", 3, 120);
+        StatementStats stats = statistics.get("RETURN 42");
+        assertEquals(2, stats.getCalls());
+        assertEquals(1, stats.getErrors());
+        assertEquals(3, stats.getRows());
+        assertEquals(120, stats.getBytes());
+        assertEquals(6.0, stats.getTotalTime(), 0.001);
+        assertEquals(2.0, stats.getMinTime(), 0.001);
+        assertEquals(4.0, stats.getMaxTime(), 0.001);
+        assertNull(statistics.get("RETURN v"));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        StatementStatistics statistics = new StatementStatistics(10, 0);
+        for (int i = 0; i < 10; i++) {
+            statistics.record("RETURN v" + i, 1000, false);
+            Thread.sleep(1);
+        }
+        statistics.record("RETURN v0", 1000, false);
+        statistics.record("RETURN v10", 1000, false);
+        assertTrue(statistics.getStatementCount() <= 10);
+        assertEquals(11 - statistics.getStatementCount(), statistics.getEvictions());
+        assertNotNull(statistics.get("RETURN v0"));
+        assertNotNull(statistics.get("RETURN v10"));
+        assertNull(statistics.get("RETURN v1"));
+
+        statistics.resetStatistics();
+        assertEquals(0, statistics.getStatementCount());
+        assertEquals(0, statistics.getEvictions());
+    }
+
+    @Test
+    public void testResetInterval() throws Exception {
+        StatementStatistics statistics = new StatementStatistics(10, 50);
+        statistics.record("RETURN ?", 1000, false);
+        assertEquals(1, statistics.getStatements().size());
+        Thread.sleep(60);
+        assertTrue(statistics.getStatements().isEmpty());
+        statistics.record("RETURN ?", 1000, false);
+        assertEquals(1, statistics.get("RETURN 1").getCalls());
+    }
+
+    @Test
+    public void testDataSourceStatistics() throws Exception {
+        FakeGraphd graphd = FakeGraphd.builder()
+                                      .result("(?i)^match.*", FakeGraphd.rows(5, ColumnType.COLUMN_TYPE_INT64))
+                                      .build();
+        Properties properties = new Properties();
+        properties.put(NebulaPropertyKey.METRICSNAME.getKeyName(), "statements-test");
+        properties.put(NebulaPropertyKey.ESTIMATERESULTBYTES.getKeyName(), true);
+        ObjectName  name   = new ObjectName("com.vesoft.nebula.jdbc:type=Statements,name=\"statements-test\"");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try (NebulaDataSource dataSource = new NebulaDataSource("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            StatementStatistics statistics = dataSource.unwrap(StatementStatistics.class);
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("MATCH (v) WHERE v.id IN ? RETURN v")) {
+                assertSame(statistics, connection.unwrap(StatementStatistics.class));
+                for (List<Integer> ids : Arrays.asList(Collections.<Integer>emptyList(), Arrays.asList(-5, null),
+                                                       Arrays.asList(1, 2, 3))) {
+                    statement.setObject(1, ids);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            resultSet.getLong(1);
+                        }
+                    }
+                }
+            }
+            StatementStats stats = statistics.get("MATCH (v) WHERE v.id IN ? RETURN v");
+            assertEquals(stats.getFingerprint(),
+                         dataSource.getMetrics().fingerprintOf("MATCH (v) WHERE v.id IN ? RETURN v"));
+            assertEquals(3, stats.getCalls());
+            assertEquals(15, stats.getRows());
+            assertTrue(stats.getBytes() > 0);
+            assertSame(stats, statistics.topByTotalTime(1).get(0));
+
+            assertTrue(server.isRegistered(name));
+            CompositeData[] statements = (CompositeData[]) server.getAttribute(name, "Statements");
+            assertEquals(stats.getFingerprint(), statements[0].get("fingerprint"));
+            assertEquals(3L, statements[0].get("calls"));
+            server.invoke(name, "resetStatistics", null, null);
+            assertEquals(0, statistics.getStatementCount());
+        }
+        assertFalse(server.isRegistered(name));
+
+        properties.put(NebulaPropertyKey.STATEMENTSTATSMAXENTRIES.getKeyName(), 0);
+        try (NebulaDataSource dataSource = new NebulaDataSource("jdbc:nebula://127.0.0.1:9669/g", properties,
+                                                                graphd)) {
+            assertNull(dataSource.getMetrics().getStatementStatistics());
+            assertNull(dataSource.getMetrics().fingerprintOf("MATCH (v) RETURN v"));
+            assertFalse(dataSource.isWrapperFor(StatementStatistics.class));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import com.vesoft.nebula.jdbc.transport.GraphSession;
+import com.vesoft.nebula.jdbc.transport.GraphTransport;
+import org.junit.Test;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TransactionBufferTest {
+    @Test
+    public void testOneRequestPerWrite() {
+        TransactionBuffer buffer = new TransactionBuffer(null, 1024);
+        buffer.add("insert (v:User{id:1})");
+        buffer.add("insert (v:User{id:2})");
+        List<TransactionBuffer.Request> requests = buffer.requests();
+        assertEquals(2, requests.size());
+        assertEquals("insert (v:User{id:1})", requests.get(0).gql);
+        assertEquals(1, requests.get(1).statements);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void testGroupsWritesByBudget() {
+        // two writes of 21 bytes and the separator fit into 48 bytes, the third one starts a new request
+        TransactionBuffer buffer = new TransactionBuffer("; ", 48);
+        buffer.add("insert (v:User{id:1})");
+        buffer.add("insert (v:User{id:2})");
+        buffer.add("insert (v:User{id:3})");
+        List<TransactionBuffer.Request> requests = buffer.requests();
+        assertEquals(2, requests.size());
+        assertEquals("insert (v:User{id:1}); insert (v:User{id:2})", requests.get(0).gql);
+        assertEquals(2, requests.get(0).statements);
+        assertEquals("insert (v:User{id:3})", requests.get(1).gql);
+    }
+
+    @Test
+    public void testOversizedWriteIsSentAlone() {
+        TransactionBuffer buffer = new TransactionBuffer(";", 4);
+        buffer.add("insert (v:User{id:1})");
+        buffer.add("insert (v:User{id:2})");
+        assertEquals(2, buffer.requests().size());
+    }
+
+    @Test
+    public void testClear() {
+        TransactionBuffer buffer = new TransactionBuffer(null, 1024);
+        buffer.add("insert (v:User{id:1})");
+        buffer.clear();
+        assertEquals(0, buffer.requests().size());
+    }
+
+    @Test
+    public void testRemoveSentWrites() {
+        TransactionBuffer buffer = new TransactionBuffer(";", 1024);
+        buffer.add("insert (v:User{id:1})");
+        buffer.add("insert (v:User{id:2})");
+        buffer.add("insert (v:User{id:3})");
+        buffer.remove(2);
+        assertEquals(1, buffer.size());
+        assertEquals("insert (v:User{id:3})", buffer.requests().get(0).gql);
+    }
+
+    @Test
+    public void testFailedCommitKeepsUnsentWrites() throws Exception {
+        List<String>   inserts = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean  down    = new AtomicBoolean(true);
+        GraphTransport transport = properties -> {
+            GraphSession session = mock(GraphSession.class);
+            when(session.execute(anyString())).thenAnswer(invocation -> {
+                String    gql    = invocation.getArgument(0);
+                boolean   failed = gql.contains("id:2") && down.get();
+                ResultSet result = mock(ResultSet.class);
+                when(result.isSucceeded()).thenReturn(!failed);
+                when(result.getErrorCode()).thenReturn(new ResultSet.ErrorCode());
+                if (!failed && gql.startsWith("insert")) {
+                    inserts.add(gql);
+                }
+                return result;
+            });
+            return session;
+        };
+        try (NebulaConnection connection = new NebulaConnection("jdbc:nebula://127.0.0.1:9669/g", new Properties(),
+                                                                transport);
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("insert (v:User{id:1})");
+            statement.execute("insert (v:User{id:2})");
+            statement.execute("insert (v:User{id:3})");
+            try {
+                connection.commit();
+                fail("the write of id 2 should fail");
+            } catch (SQLException e) {
+                assertEquals(Collections.singletonList("insert (v:User{id:1})"), inserts);
+            }
+
+            down.set(false);
+            connection.commit();
+            assertEquals(3, inserts.size());
+            assertEquals("insert (v:User{id:3})", inserts.get(2));
+
+            down.set(true);
+            statement.execute("insert (v:User{id:2})");
+            try {
+                connection.commit();
+                fail("the write of id 2 should fail");
+            } catch (SQLException e) {
+                connection.rollback();
+            }
+            down.set(false);
+            connection.commit();
+            assertEquals(3, inserts.size());
+        }
+    }
+
+    @Test
+    public void testUnbufferedWritesRejected() throws Exception {
+        List<String>   sent      = Collections.synchronizedList(new ArrayList<>());
+        GraphTransport transport = properties -> {
+            GraphSession session = mock(GraphSession.class);
+            when(session.execute(anyString())).thenAnswer(invocation -> {
+                sent.add(invocation.getArgument(0));
+                ResultSet result = mock(ResultSet.class);
+                when(result.isSucceeded()).thenReturn(true);
+                return result;
+            });
+            return session;
+        };
+        try (NebulaConnection connection = new NebulaConnection("jdbc:nebula://127.0.0.1:9669/g", new Properties(),
+                                                                transport)) {
+            connection.setAutoCommit(false);
+            sent.clear();
+            try {
+                connection.execute("insert (v:User{id:1})");
+                fail("the write would skip the buffer");
+            } catch (SQLException e) {
+                assertTrue(e.getMessage().contains("auto-commit is off"));
+            }
+            try {
+                connection.executeAsync("insert (v:User{id:1})").get();
+                fail("the write would skip the buffer");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SQLException);
+            }
+            try {
+                connection.pipeline().add("insert (v:User{id:1})");
+                fail("the write would skip the buffer");
+            } catch (SQLException e) {
+                assertTrue(e.getMessage().contains("auto-commit is off"));
+            }
+            connection.execute("match (v:User) return v");
+            connection.executeAsync("match (v:User) return v").get();
+            assertEquals(Arrays.asList("match (v:User) return v", "match (v:User) return v"), sent);
+
+            connection.setAutoCommit(true);
+            connection.execute("insert (v:User{id:1})");
+            assertEquals("insert (v:User{id:1})", sent.get(2));
+        }
+    }
+}
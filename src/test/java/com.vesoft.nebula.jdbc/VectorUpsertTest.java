@@ -0,0 +1,104 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Test;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class VectorUpsertTest {
+    private static final String TEMPLATE = "unwind ? as r insert (v:Doc{id:r.id, embedding:r.embedding})";
+
+    private final List<String>                          sent    = new ArrayList<>();
+    private final List<CompletableFuture<ResultSet>> futures = new ArrayList<>();
+
+    private CompletableFuture<ResultSet> executeAsync(String gql) {
+        sent.add(gql);
+        CompletableFuture<ResultSet> future = new CompletableFuture<>();
+        futures.add(future);
+        return future;
+    }
+
+    private static ResultSet succeeded() {
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return result;
+    }
+
+    @Test
+    public void testBatchesByRequestBytes() throws Exception {
+        ResultSet    ok     = succeeded();
+        VectorUpsert upsert = VectorUpsert.builder(TEMPLATE)
+                                          .maxRequestBytes(TEMPLATE.length() + 82)
+                                          .build(gql -> {
+                                              CompletableFuture<ResultSet> future = executeAsync(gql);
+                                              future.complete(ok);
+                                              return future;
+                                          });
+        upsert.add(1, new float[]{0.5f, 1f}, null);
+        upsert.add(2, new float[]{0.25f, 2f}, Collections.singletonMap("title", "a"));
+        upsert.add(3, new float[]{1f, 1f}, null);
+        assertEquals(1, sent.size());
+        assertEquals("unwind [{id:1,embedding:vector([0.5,1.0])},{id:2,embedding:vector([0.25,2.0]),title:\"a\"}] "
+                     + "as r insert (v:Doc{id:r.id, embedding:r.embedding})", sent.get(0));
+
+        assertEquals(3, upsert.flush());
+        assertEquals(2, sent.size());
+        assertTrue(sent.get(1).startsWith("unwind [{id:3,"));
+    }
+
+    @Test
+    public void testKeysQuotedAndValuesEscaped() throws Exception {
+        VectorUpsert upsert = VectorUpsert.builder(TEMPLATE)
+                                          .idKey("doc id")
+                                          .build(gql -> {
+                                              sent.add(gql);
+                                              return CompletableFuture.completedFuture(succeeded());
+                                          });
+        upsert.add("a\"b", new float[]{1f}, Collections.singletonMap("x-y", "c\\d"));
+        upsert.flush();
+        assertEquals("unwind [{`doc id`:\"a\\\"b\",embedding:vector([1.0]),`x-y`:\"c\\\\d\"}] "
+                     + "as r insert (v:Doc{id:r.id, embedding:r.embedding})", sent.get(0));
+    }
+
+    @Test
+    public void testMaxInFlight() throws Exception {
+        VectorUpsert upsert = VectorUpsert.builder(TEMPLATE)
+                                          .maxRequestBytes(TEMPLATE.length() + 40)
+                                          .maxInFlight(2)
+                                          .build(this::executeAsync);
+        upsert.add(1, new float[]{1f}, null);
+        upsert.add(2, new float[]{1f}, null);
+        upsert.add(3, new float[]{1f}, null);
+        assertEquals(2, sent.size());
+
+        // the third batch waits for the oldest one
+        futures.get(0).complete(succeeded());
+        upsert.add(4, new float[]{1f}, null);
+        assertEquals(3, sent.size());
+        assertEquals(1, upsert.getUpsertedRows());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testFailedBatch() throws Exception {
+        VectorUpsert upsert = VectorUpsert.builder(TEMPLATE).build(gql -> {
+            CompletableFuture<ResultSet> future = new CompletableFuture<>();
+            future.completeExceptionally(new SQLException("graphd unavailable"));
+            return future;
+        });
+        upsert.add(1, new float[]{1f}, null);
+        upsert.close();
+    }
+}
@@ -0,0 +1,213 @@
+/* Copyright (c) 2025 vesoft inc. All rights reserved.
+ *
+ * This source code is licensed under Apache 2.0 License.
+ */
+
+package com.vesoft.nebula.jdbc.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.vesoft.nebula.driver.graph.data.ResultSet;
+import org.junit.Test;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WriteBehindBufferTest {
+    private static final String TEMPLATE = "unwind ? as r match (v:Device{id:r.id}) set v.seen = r.ts";
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<ResultSet> succeed(String gql) {
+        sent.add(gql);
+        ResultSet result = mock(ResultSet.class);
+        when(result.isSucceeded()).thenReturn(true);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    @Test
+    public void testFlushOnSize() throws Exception {
+        try (WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                         .batchSize(2)
+                                                         .flushInterval(1, TimeUnit.HOURS)
+                                                         .build(this::succeed)) {
+            buffer.write(Collections.singletonMap("id", 1));
+            buffer.write(Collections.singletonMap("id", 2));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (buffer.getWrittenRows() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, sent.size());
+            assertEquals("unwind [{id:1},{id:2}] as r match (v:Device{id:r.id}) set v.seen = r.ts", sent.get(0));
+            assertEquals(0, buffer.getQueueDepth());
+        }
+    }
+
+    @Test
+    public void testFlushOnInterval() throws Exception {
+        try (WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                         .batchSize(100)
+                                                         .flushInterval(10, TimeUnit.MILLISECONDS)
+                                                         .build(this::succeed)) {
+            buffer.write(Collections.singletonMap("id", 1));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (buffer.getWrittenRows() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, buffer.getWrittenRows());
+        }
+    }
+
+    @Test
+    public void testExplicitFlush() throws Exception {
+        try (WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                         .batchSize(2)
+                                                         .flushInterval(1, TimeUnit.HOURS)
+                                                         .build(this::succeed)) {
+            for (int i = 0; i < 5; i++) {
+                buffer.write(Collections.singletonMap("id", i));
+            }
+            buffer.flush();
+            assertEquals(5, buffer.getWrittenRows());
+            assertEquals(3, buffer.getFlushCount());
+        }
+    }
+
+    @Test
+    public void testRecordKeysQuotedAndValuesEscaped() throws Exception {
+        try (WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                         .flushInterval(1, TimeUnit.HOURS)
+                                                         .build(this::succeed)) {
+            buffer.write(Collections.singletonMap("last seen", "say \"hi\""));
+            buffer.flush();
+            assertEquals("unwind [{`last seen`:\"say \\\"hi\\\"\"}] as r match (v:Device{id:r.id}) set v.seen = r.ts",
+                         sent.get(0));
+        }
+    }
+
+    @Test
+    public void testRetryThenDrop() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        try (WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                         .retry(2, 1, 2)
+                                                         .build(gql -> {
+                                                             attempts.incrementAndGet();
+                                                             CompletableFuture<ResultSet> future =
+                                                                     new CompletableFuture<>();
+                                                             future.completeExceptionally(new SQLException(new IOException("down")));
+                                                             return future;
+                                                         })) {
+            buffer.write(Collections.singletonMap("id", 1));
+            buffer.flush();
+            assertEquals(3, attempts.get());
+            assertEquals(1, buffer.getFailedRows());
+            assertEquals(0, buffer.getWrittenRows());
+        }
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                         .capacity(2)
+                                                         .batchSize(1)
+                                                         .offerTimeout(10, TimeUnit.MILLISECONDS)
+                                                         .build(gql -> {
+                                                             try {
+                                                                 release.await();
+                                                             } catch (InterruptedException e) {
+                                                                 Thread.currentThread().interrupt();
+                                                             }
+                                                             return succeed(gql);
+                                                         })) {
+            // the first row is taken by the blocked flusher, two more fill the queue
+            buffer.write(Collections.singletonMap("id", 1));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (buffer.getQueueDepth() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(buffer.tryWrite(Collections.singletonMap("id", 2)));
+            assertTrue(buffer.tryWrite(Collections.singletonMap("id", 3)));
+            assertFalse(buffer.tryWrite(Collections.singletonMap("id", 4)));
+            try {
+                buffer.write(Collections.singletonMap("id", 5));
+                fail("write should time out on a full queue");
+            } catch (SQLException e) {
+                assertEquals(2, buffer.getRejectedWrites());
+            }
+            release.countDown();
+            buffer.flush();
+            assertEquals(3, buffer.getWrittenRows());
+        }
+    }
+
+    @Test
+    public void testNoWriteLostOnClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            WriteBehindBuffer buffer   = WriteBehindBuffer.builder(TEMPLATE)
+                                                          .batchSize(7)
+                                                          .build(this::succeed);
+            AtomicInteger     accepted = new AtomicInteger();
+            CountDownLatch    started  = new CountDownLatch(4);
+            Thread[]          writers  = new Thread[4];
+            for (int w = 0; w < writers.length; w++) {
+                writers[w] = new Thread(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0; i < 2000; i++) {
+                            buffer.write(Collections.singletonMap("id", i));
+                            accepted.incrementAndGet();
+                        }
+                    } catch (SQLException e) {
+                        // closed
+                    }
+                });
+                writers[w].start();
+            }
+            started.await();
+            buffer.close();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertEquals(accepted.get(), buffer.getWrittenRows());
+            assertEquals(0, buffer.getQueueDepth());
+        }
+    }
+
+    @Test
+    public void testInterruptedFlusherStops() throws Exception {
+        WriteBehindBuffer buffer = WriteBehindBuffer.builder(TEMPLATE)
+                                                    .flushInterval(1, TimeUnit.HOURS)
+                                                    .build(this::succeed);
+        buffer.write(Collections.singletonMap("id", 1));
+        Thread flusher = null;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("nebula-jdbc-write-behind") && thread.isAlive()) {
+                flusher = thread;
+            }
+        }
+        flusher.interrupt();
+        flusher.join(5000);
+        assertFalse(flusher.isAlive());
+        assertEquals(1, buffer.getFailedRows());
+        assertEquals(0, buffer.getQueueDepth());
+        try {
+            buffer.write(Collections.singletonMap("id", 2));
+            fail("write should be rejected once the flusher stopped");
+        } catch (SQLException e) {
+            assertEquals(0, buffer.getQueueDepth());
+        }
+        buffer.close();
+    }
+}